@@ -1,14 +1,22 @@
 import { gql } from "@apollo/client";
 
 export const GET_JOBS = gql`
-  query GetJobs {
-    jobs {
-      id
-      name
-      scheduleType
-      status
-      createdAt
-      updatedAt
+  query GetJobs($first: Int, $after: String, $filter: JobFilter) {
+    jobs(first: $first, after: $after, filter: $filter) {
+      edges {
+        node {
+          id
+          name
+          scheduleType
+          status
+          createdAt
+          updatedAt
+        }
+      }
+      pageInfo {
+        hasNextPage
+        endCursor
+      }
     }
   }
 `;
@@ -18,6 +26,7 @@ export const GET_JOB = gql`
     job(id: $id) {
       id
       name
+      jobType
       scheduleType
       cronExpression
       intervalSeconds
@@ -32,14 +41,22 @@ export const GET_JOB = gql`
 `;
 
 export const GET_EXECUTION_LOGS = gql`
-  query Logs($jobId: ID!) {
-    jobLogs(jobId: $jobId) {
-      id
-      jobId
-      fireTime
-      status
-      errorMessage
-      createdAt
+  query Logs($jobId: ID!, $first: Int, $after: String, $filter: JobLogFilter) {
+    jobLogs(jobId: $jobId, first: $first, after: $after, filter: $filter) {
+      edges {
+        node {
+          id
+          jobId
+          fireTime
+          status
+          errorMessage
+          createdAt
+        }
+      }
+      pageInfo {
+        hasNextPage
+        endCursor
+      }
     }
   }
 `;
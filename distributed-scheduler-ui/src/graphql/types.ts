@@ -1,13 +1,18 @@
 export type ScheduleType = "CRON" | "FIXED_RATE" | "FIXED_DELAY";
+export type MisfirePolicy = "FIRE_NOW" | "SKIP" | "CATCH_UP";
 
 export interface Job {
     id: string;
     name: string;
+    jobType: string;
     scheduleType: ScheduleType;
     cronExpression?: string;
     intervalSeconds?: number;
     initialDelaySeconds?: number;
     payload?: any;
+    logRetentionDays?: number;
+    misfirePolicy?: MisfirePolicy;
+    misfireCatchUpLimit?: number;
     status: string;
     version: number;
     createdAt: string;
@@ -23,11 +28,25 @@ export interface ExecutionLog {
     createdAt: string;
 }
 
+export interface PageInfo {
+    hasNextPage: boolean;
+    endCursor?: string;
+}
+
+export interface Connection<T> {
+    edges: { cursor?: string; node: T }[];
+    pageInfo: PageInfo;
+}
+
 export interface CreateJobInput {
     name: string;
+    jobType?: string;
     scheduleType: ScheduleType;
     cronExpression?: string;
     intervalSeconds?: number;
     initialDelaySeconds?: number;
     payload?: any;
+    logRetentionDays?: number;
+    misfirePolicy?: MisfirePolicy;
+    misfireCatchUpLimit?: number;
 }
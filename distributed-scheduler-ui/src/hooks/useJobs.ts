@@ -1,12 +1,15 @@
-import { useQuery } from "@tanstack/react-query";
+import { useInfiniteQuery } from "@tanstack/react-query";
 import { JobService } from "@/services/jobService";
-import { Job } from "@/graphql/types";
 
 export const JOBS_QUERY_KEY = ["jobs"];
 
+/** Jobs page by page; fetchNextPage loads the next one while hasNextPage is set. */
 export function useJobs() {
-    return useQuery<Job[]>({
+    return useInfiniteQuery({
         queryKey: JOBS_QUERY_KEY,
-        queryFn: () => JobService.listJobs(),
+        queryFn: ({ pageParam }) => JobService.listJobs(pageParam),
+        initialPageParam: undefined as string | undefined,
+        getNextPageParam: (lastPage) =>
+            lastPage.pageInfo.hasNextPage ? lastPage.pageInfo.endCursor : undefined,
     });
 }
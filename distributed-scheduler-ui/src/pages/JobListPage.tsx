@@ -25,7 +25,9 @@ import { Job } from "@/graphql/types";
 type PendingConfirm = { type: "pause" | "resume" | "delete"; job: Job } | null;
 
 export const JobListPage = () => {
-    const { data, isLoading, isError, error } = useJobs();
+    const { data, isLoading, isError, error, hasNextPage, fetchNextPage, isFetchingNextPage } =
+        useJobs();
+    const jobs = data?.pages.flatMap((page) => page.edges.map((e) => e.node));
     const runNowMutation = useRunJobNow();
     const pauseMutation = usePauseJob();
     const resumeMutation = useResumeJob();
@@ -110,12 +112,12 @@ export const JobListPage = () => {
                             {(error as any)?.message ?? "Unknown error"}
                         </p>
                     )}
-                    {!isLoading && data && data.length === 0 && (
+                    {!isLoading && jobs && jobs.length === 0 && (
                         <p className="text-xs text-muted-foreground">
                             No jobs configured yet. Create your first job to get started.
                         </p>
                     )}
-                    {!isLoading && data && data.length > 0 && (
+                    {!isLoading && jobs && jobs.length > 0 && (
                         <Table>
                             <THead>
                                 <TR>
@@ -128,7 +130,7 @@ export const JobListPage = () => {
                                 </TR>
                             </THead>
                             <TBody>
-                                {data.map((job) => (
+                                {jobs.map((job) => (
                                     <TR key={job.id}>
                                         <TD className="font-medium">{job.name}</TD>
                                         <TD>
@@ -209,6 +211,18 @@ export const JobListPage = () => {
                             </TBody>
                         </Table>
                     )}
+                    {hasNextPage && (
+                        <div className="mt-3 flex justify-center">
+                            <Button
+                                size="sm"
+                                variant="ghost"
+                                onClick={() => fetchNextPage()}
+                                disabled={isFetchingNextPage}
+                            >
+                                {isFetchingNextPage ? "Loading..." : "Load more"}
+                            </Button>
+                        </div>
+                    )}
                 </CardContent>
             </Card>
 
@@ -7,12 +7,16 @@ import {
     RESUME_JOB,
     DELETE_JOB,
 } from "@/graphql/mutations";
-import { CreateJobInput, ExecutionLog, Job } from "@/graphql/types";
+import { Connection, CreateJobInput, ExecutionLog, Job } from "@/graphql/types";
+
+const PAGE_SIZE = 100;
 
 export const JobService = {
-    async listJobs(): Promise<Job[]> {
-        const { data } = await apolloClient.query<{ jobs: Job[] }>({
+    /** One page of jobs; pass the previous page's endCursor as `after` for the next. */
+    async listJobs(after?: string, first = PAGE_SIZE): Promise<Connection<Job>> {
+        const { data } = await apolloClient.query<{ jobs: Connection<Job> }>({
             query: GET_JOBS,
+            variables: { first, after },
             fetchPolicy: "network-only",
         });
         return data.jobs;
@@ -75,13 +79,13 @@ export const JobService = {
         return !!data?.deleteJob;
     },
 
-    async executionLogs(jobId: string): Promise<ExecutionLog[]> {
-        const { data } = await apolloClient.query<{ jobLogs: ExecutionLog[] }>({
+    async executionLogs(jobId: string, first = PAGE_SIZE): Promise<ExecutionLog[]> {
+        const { data } = await apolloClient.query<{ jobLogs: Connection<ExecutionLog> }>({
             query: GET_EXECUTION_LOGS,
-            variables: { jobId },
+            variables: { jobId, first },
             fetchPolicy: "network-only",
         });
 
-        return data.jobLogs;
+        return data.jobLogs.edges.map((e) => e.node);
     },
 };
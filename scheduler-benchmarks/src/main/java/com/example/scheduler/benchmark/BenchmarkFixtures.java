@@ -0,0 +1,74 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.application.dto.CreateJobRequestDto;
+import com.example.scheduler.application.handler.NoopJobHandler;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Representative inputs shared by the benchmarks, one per schedule type.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String CRON = "0 0/5 * * * ?";
+    public static final String PAYLOAD_JSON = "{\"report\":\"daily\",\"recipients\":[\"ops@example.com\"],\"retries\":3}";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JobDefinition job(ScheduleType type) {
+        Instant now = Instant.now();
+        return JobDefinition.builder()
+                .id(UUID.randomUUID())
+                .name("bench-" + type.name().toLowerCase())
+                .jobType(NoopJobHandler.TYPE)
+                .scheduleType(type)
+                .cronExpression(type == ScheduleType.CRON ? CRON : null)
+                .intervalSeconds(type == ScheduleType.CRON ? null : 60L)
+                .initialDelaySeconds(type == ScheduleType.FIXED_DELAY ? 10L : null)
+                .payload(PAYLOAD_JSON)
+                .status(JobStatus.ACTIVE)
+                .version(3)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public static CreateJobRequestDto createRequest(ScheduleType type) {
+        return new CreateJobRequestDto(
+                "bench-" + type.name().toLowerCase(),
+                null,
+                NoopJobHandler.TYPE,
+                type.name(),
+                type == ScheduleType.CRON ? CRON : null,
+                null,
+                type == ScheduleType.CRON ? null : 60L,
+                type == ScheduleType.FIXED_DELAY ? 10L : null,
+                Map.of("report", "daily", "retries", 3),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    public static JobExecutionLogEntity logEntry() {
+        JobExecutionLogEntity entry = new JobExecutionLogEntity();
+        entry.setId(UUID.randomUUID());
+        entry.setJobId(UUID.randomUUID());
+        entry.setFireTime(Instant.now());
+        entry.setStatus("SUCCESS");
+        entry.setCreatedAt(Instant.now());
+        return entry;
+    }
+}
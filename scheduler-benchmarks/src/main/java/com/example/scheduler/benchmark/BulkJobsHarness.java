@@ -0,0 +1,123 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.DistributedSchedulerApplication;
+import com.example.scheduler.application.dto.BulkJobResultDto;
+import com.example.scheduler.application.dto.CreateJobRequestDto;
+import com.example.scheduler.application.service.JobBulkService;
+import com.example.scheduler.application.service.JobSchedulingService;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bulk job mutations against the one-by-one path, on one node with an embedded Postgres.
+ *
+ * <p>Creates, pauses, resumes and deletes {@code --jobs} CRON jobs first through the
+ * single-job service methods and then through {@link JobBulkService}, after a
+ * {@code --warmup} round of each, and reports wall time and jobs per second. Any other
+ * {@code --key=value} argument is passed to Spring, e.g. {@code --scheduler.bulk.chunk-size=500}.
+ */
+public final class BulkJobsHarness {
+
+    private BulkJobsHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "jobs", "2000",
+                "warmup", "200"));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            if (kv.length == 2 && options.containsKey(kv[0])) {
+                options.put(kv[0], kv[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        int jobs = Integer.parseInt(options.get("jobs"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+
+        try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+            String url = pg.getJdbcUrl("postgres", "postgres");
+            Flyway.configure().dataSource(pg.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+
+            springArgs.addAll(List.of(
+                    "--spring.datasource.url=" + url + "&reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.URL=" + url,
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.user=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.password=postgres",
+                    "--scheduler.bulk.max-items=" + Math.max(jobs, warmup),
+                    "--eureka.client.enabled=false",
+                    "--server.port=0"));
+
+            try (ConfigurableApplicationContext ctx = SpringApplication.run(
+                    DistributedSchedulerApplication.class, springArgs.toArray(String[]::new))) {
+                JobSchedulingService single = ctx.getBean(JobSchedulingService.class);
+                JobBulkService bulk = ctx.getBean(JobBulkService.class);
+
+                run(single, bulk, warmup);
+                long[][] millis = run(single, bulk, jobs);
+
+                System.out.printf("%n=== Bulk vs one-by-one: %d jobs ===%n", jobs);
+                System.out.printf("%-8s %14s %14s %10s%n", "", "one-by-one", "bulk", "speedup");
+                String[] ops = {"create", "pause", "resume", "delete"};
+                for (int i = 0; i < ops.length; i++) {
+                    System.out.printf("%-8s %9.0f/s %9.0f/s %9.1fx%n", ops[i],
+                            perSecond(jobs, millis[0][i]), perSecond(jobs, millis[1][i]),
+                            (double) millis[0][i] / Math.max(1, millis[1][i]));
+                }
+            }
+        }
+    }
+
+    /** @return wall millis of create/pause/resume/delete, one-by-one in row 0 and bulk in row 1 */
+    private static long[][] run(JobSchedulingService single, JobBulkService bulk, int jobs) {
+        List<CreateJobRequestDto> requests = Collections.nCopies(jobs, BenchmarkFixtures.createRequest(ScheduleType.CRON));
+        long[][] millis = new long[2][4];
+
+        List<UUID> ids = new ArrayList<>(jobs);
+        millis[0][0] = time(() -> requests.forEach(r -> ids.add(single.createJob(r).getId())));
+        millis[0][1] = time(() -> ids.forEach(single::pauseJob));
+        millis[0][2] = time(() -> ids.forEach(single::resumeJob));
+        millis[0][3] = time(() -> ids.forEach(single::deleteJob));
+
+        List<UUID> bulkIds = new ArrayList<>(jobs);
+        millis[1][0] = time(() -> bulkIds.addAll(ok(bulk.createJobs(requests), BulkJobResultDto::getId)));
+        millis[1][1] = time(() -> ok(bulk.pauseJobs(bulkIds), BulkJobResultDto::getId));
+        millis[1][2] = time(() -> ok(bulk.resumeJobs(bulkIds), BulkJobResultDto::getId));
+        millis[1][3] = time(() -> ok(bulk.deleteJobs(bulkIds), BulkJobResultDto::getId));
+        return millis;
+    }
+
+    private static <T> List<T> ok(List<BulkJobResultDto> results, Function<BulkJobResultDto, T> value) {
+        for (BulkJobResultDto result : results) {
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Item " + result.getIndex() + " failed: " + result.getError());
+            }
+        }
+        return results.stream().map(value).toList();
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static double perSecond(int jobs, long millis) {
+        return jobs * 1000.0 / Math.max(1, millis);
+    }
+}
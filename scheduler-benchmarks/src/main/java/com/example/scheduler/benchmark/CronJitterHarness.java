@@ -0,0 +1,142 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.DistributedSchedulerApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load shape of many jobs sharing one cron expression, all firing on the slot versus
+ * spread by {@code jitterSeconds}.
+ *
+ * <p>Seeds {@code --jobs} CRON jobs on {@code --cron} (default every 10 seconds), once
+ * without jitter and once with {@code --jitter} seconds, on a fresh embedded Postgres for
+ * each run. After {@code --warmup} seconds it reports, over {@code --duration} seconds:
+ * mean and peak fires per second (peak from the execution log, per wall-clock second),
+ * mean and max fire lag, and mean TRIGGER_ACCESS lock wait.
+ */
+public final class CronJitterHarness {
+
+    private CronJitterHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "jobs", "2000",
+                "cron", "0/10 * * * * ?",
+                "jitter", "10",
+                "warmup", "20",
+                "duration", "60"));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            if (kv.length == 2 && options.containsKey(kv[0])) {
+                options.put(kv[0], kv[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        int jobs = Integer.parseInt(options.get("jobs"));
+        String cron = options.get("cron");
+        int jitter = Integer.parseInt(options.get("jitter"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+        int duration = Integer.parseInt(options.get("duration"));
+
+        List<String> rows = new ArrayList<>();
+        rows.add(run("aligned", jobs, cron, null, warmup, duration, springArgs));
+        rows.add(run("spread", jobs, cron, jitter, warmup, duration, springArgs));
+
+        System.out.printf("%n=== Cron jitter: %d jobs on '%s', %ds spread window, %ds window ===%n",
+                jobs, cron, jitter, duration);
+        System.out.printf("%-8s %9s %12s %11s %11s %13s%n",
+                "mode", "fires/s", "peak fires/s", "lag ms", "max lag ms", "lock wait ms");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(String mode, int jobs, String cron, Integer jitter, int warmup, int duration,
+                              List<String> extraArgs) throws Exception {
+        try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+            String url = pg.getJdbcUrl("postgres", "postgres");
+            Flyway.configure().dataSource(pg.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+            JdbcTemplate jdbc = new JdbcTemplate(pg.getPostgresDatabase());
+            jdbc.update("""
+                    INSERT INTO job_definition (id, name, schedule_type, cron_expression, jitter_seconds, status, version)
+                    SELECT gen_random_uuid(), 'cron-' || g, 'CRON', ?, ?, 'ACTIVE', 0
+                    FROM generate_series(1, ?) g
+                    """, cron, jitter, jobs);
+
+            List<String> args = new ArrayList<>(extraArgs);
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + url + "&reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.URL=" + url,
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.user=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.password=postgres",
+                    "--eureka.client.enabled=false",
+                    "--server.port=0"));
+
+            Instant from;
+            Instant to;
+            double[] before;
+            double[] after;
+            ConfigurableApplicationContext ctx =
+                    SpringApplication.run(DistributedSchedulerApplication.class, args.toArray(String[]::new));
+            try {
+                TimeUnit.SECONDS.sleep(warmup);
+                before = totals(ctx);
+                from = Instant.now();
+                TimeUnit.SECONDS.sleep(duration);
+                to = Instant.now();
+                after = totals(ctx);
+            } finally {
+                ctx.close(); // flushes the execution-log writer
+            }
+
+            Long peak = jdbc.queryForObject("""
+                    SELECT coalesce(max(n), 0) FROM (
+                        SELECT count(*) AS n FROM job_execution_log
+                        WHERE fire_time >= ? AND fire_time < ?
+                        GROUP BY date_trunc('second', fire_time)) per_second
+                    """, Long.class, Timestamp.from(from), Timestamp.from(to));
+
+            double fires = after[0] - before[0];
+            double lags = after[1] - before[1];
+            double lagMs = after[2] - before[2];
+            double locks = after[4] - before[4];
+            double lockWaitMs = after[5] - before[5];
+            return String.format("%-8s %9.1f %12d %11.1f %11.1f %13.2f", mode,
+                    fires / duration,
+                    peak,
+                    lags == 0 ? 0 : lagMs / lags,
+                    after[3],
+                    locks == 0 ? 0 : lockWaitMs / locks);
+        }
+    }
+
+    /** fires, lag count, lag ms, lag max ms, lock count, lock wait ms */
+    private static double[] totals(ConfigurableApplicationContext ctx) {
+        MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+        Timer lag = registry.get("scheduler.job.fire.lag").tag("jobType", "noop").timer();
+        Timer lock = registry.get("scheduler.quartz.lock.wait").timer();
+        return new double[]{
+                registry.find("scheduler.job.execution").timers().stream().mapToLong(Timer::count).sum(),
+                lag.count(),
+                lag.totalTime(TimeUnit.MILLISECONDS),
+                lag.max(TimeUnit.MILLISECONDS),
+                lock.count(),
+                lock.totalTime(TimeUnit.MILLISECONDS)};
+    }
+}
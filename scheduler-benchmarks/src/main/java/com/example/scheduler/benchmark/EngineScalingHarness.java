@@ -0,0 +1,148 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.DistributedSchedulerApplication;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster-wide fire throughput of the Quartz and timing-wheel engines by node count.
+ *
+ * <p>For every engine in {@code --engines} and every node count from 1 to {@code --nodes},
+ * starts that many scheduler nodes as separate Spring contexts in this JVM against a fresh
+ * embedded Postgres seeded with {@code --jobs} FIXED_RATE jobs firing every
+ * {@code --interval} seconds, waits {@code --warmup} seconds and reports completed fires
+ * per second summed over all nodes during {@code --duration} seconds. Any other
+ * {@code --key=value} argument is passed to every node.
+ *
+ * <p>All nodes share this machine's cores and its database, so the numbers show how each
+ * engine's cost per fire and coordination overhead change with node count; true
+ * horizontal scaling needs the nodes on separate hosts.
+ */
+public final class EngineScalingHarness {
+
+    private EngineScalingHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "engines", "quartz,wheel",
+                "nodes", "3",
+                "jobs", "3000",
+                "interval", "1",
+                "warmup", "20",
+                "duration", "30"));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            if (kv.length == 2 && options.containsKey(kv[0])) {
+                options.put(kv[0], kv[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        int maxNodes = Integer.parseInt(options.get("nodes"));
+        int jobs = Integer.parseInt(options.get("jobs"));
+        int interval = Integer.parseInt(options.get("interval"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+        int duration = Integer.parseInt(options.get("duration"));
+
+        List<String> rows = new ArrayList<>();
+        for (String engine : options.get("engines").split(",")) {
+            for (int nodes = 1; nodes <= maxNodes; nodes++) {
+                rows.add(run(engine.trim(), nodes, jobs, interval, warmup, duration, springArgs));
+            }
+        }
+
+        System.out.printf("%n=== Engine scaling: %d jobs every %ds (offered %.0f fires/s), %ds window ===%n",
+                jobs, interval, (double) jobs / interval, duration);
+        System.out.printf("%-8s %5s %12s %14s %13s %s%n",
+                "engine", "nodes", "fires/s", "fires/s/node", "mean lag ms", "jobs per node");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(String engine, int nodes, int jobs, int interval, int warmup, int duration,
+                              List<String> extraArgs) throws Exception {
+        try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+            String url = pg.getJdbcUrl("postgres", "postgres");
+            Flyway.configure().dataSource(pg.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+            new JdbcTemplate(pg.getPostgresDatabase()).update("""
+                    INSERT INTO job_definition (id, name, schedule_type, interval_seconds, status, version)
+                    SELECT gen_random_uuid(), 'bench-' || g, 'FIXED_RATE', ?, 'ACTIVE', 0
+                    FROM generate_series(1, ?) g
+                    """, interval, jobs);
+
+            List<String> args = new ArrayList<>(extraArgs);
+            args.addAll(List.of(
+                    "--scheduler.engine=" + engine,
+                    "--spring.datasource.url=" + url + "&reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.URL=" + url,
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.user=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.password=postgres",
+                    "--eureka.client.enabled=false",
+                    "--server.port=0"));
+
+            List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+            try {
+                for (int i = 0; i < nodes; i++) {
+                    contexts.add(SpringApplication.run(DistributedSchedulerApplication.class, args.toArray(String[]::new)));
+                }
+                TimeUnit.SECONDS.sleep(warmup);
+
+                long fires0 = 0;
+                long lagCount0 = 0;
+                double lagTotal0 = 0;
+                for (ConfigurableApplicationContext ctx : contexts) {
+                    MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+                    fires0 += fires(registry);
+                    lagCount0 += lag(registry).count();
+                    lagTotal0 += lag(registry).totalTime(TimeUnit.MILLISECONDS);
+                }
+                TimeUnit.SECONDS.sleep(duration);
+                long fires = -fires0;
+                long lagCount = -lagCount0;
+                double lagTotal = -lagTotal0;
+                List<String> owned = new ArrayList<>();
+                for (ConfigurableApplicationContext ctx : contexts) {
+                    MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+                    fires += fires(registry);
+                    lagCount += lag(registry).count();
+                    lagTotal += lag(registry).totalTime(TimeUnit.MILLISECONDS);
+                    Gauge gauge = registry.find("scheduler.wheel.jobs.owned").gauge();
+                    owned.add(gauge == null ? "-" : String.format("%.0f", gauge.value()));
+                }
+
+                double perSecond = (double) fires / duration;
+                return String.format("%-8s %5d %12.1f %14.1f %13.1f %s", engine, nodes, perSecond, perSecond / nodes,
+                        lagCount == 0 ? 0 : lagTotal / lagCount, String.join("/", owned));
+            } finally {
+                for (ConfigurableApplicationContext ctx : contexts) {
+                    ctx.close();
+                }
+            }
+        }
+    }
+
+    private static long fires(MeterRegistry registry) {
+        return registry.find("scheduler.job.execution").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private static Timer lag(MeterRegistry registry) {
+        return registry.get("scheduler.job.fire.lag").tag("jobType", "noop").timer();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.DistributedSchedulerApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end fire throughput of one scheduler node against an embedded Postgres.
+ *
+ * <p>Seeds {@code --jobs} FIXED_RATE jobs firing every {@code --interval} seconds, starts
+ * the application (the reconciler schedules them), waits {@code --warmup} seconds and then
+ * reports completed fires per second and fire lag over {@code --duration} seconds.
+ * Any other {@code --key=value} argument is passed to Spring, e.g.
+ * {@code --scheduler.execution.mode=virtual}.
+ */
+public final class FireThroughputHarness {
+
+    private FireThroughputHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "jobs", "1000",
+                "interval", "1",
+                "warmup", "15",
+                "duration", "60"));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            if (kv.length == 2 && options.containsKey(kv[0])) {
+                options.put(kv[0], kv[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        int jobs = Integer.parseInt(options.get("jobs"));
+        int interval = Integer.parseInt(options.get("interval"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+        int duration = Integer.parseInt(options.get("duration"));
+
+        try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+            String url = pg.getJdbcUrl("postgres", "postgres");
+            Flyway.configure().dataSource(pg.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+            new JdbcTemplate(pg.getPostgresDatabase()).update("""
+                    INSERT INTO job_definition (id, name, schedule_type, interval_seconds, status, version)
+                    SELECT gen_random_uuid(), 'bench-' || g, 'FIXED_RATE', ?, 'ACTIVE', 0
+                    FROM generate_series(1, ?) g
+                    """, interval, jobs);
+
+            springArgs.addAll(List.of(
+                    "--spring.datasource.url=" + url + "&reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.URL=" + url,
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.user=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.password=postgres",
+                    "--eureka.client.enabled=false",
+                    "--server.port=0"));
+
+            long startedAt = System.nanoTime();
+            try (ConfigurableApplicationContext ctx = SpringApplication.run(
+                    DistributedSchedulerApplication.class, springArgs.toArray(String[]::new))) {
+                long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+
+                TimeUnit.SECONDS.sleep(warmup);
+                long fires0 = fires(registry);
+                Timer lag = registry.get("scheduler.job.fire.lag").tag("jobType", "noop").timer();
+                long lagCount0 = lag.count();
+                double lagTotal0 = lag.totalTime(TimeUnit.MILLISECONDS);
+
+                TimeUnit.SECONDS.sleep(duration);
+                long fires = fires(registry) - fires0;
+                long lagCount = lag.count() - lagCount0;
+                double lagTotal = lag.totalTime(TimeUnit.MILLISECONDS) - lagTotal0;
+
+                System.out.printf("%n=== Fire throughput: %d jobs every %ds, %ds window ===%n", jobs, interval, duration);
+                System.out.printf("startup incl. reconcile : %d ms%n", readyMillis);
+                System.out.printf("offered fires/s         : %.1f%n", (double) jobs / interval);
+                System.out.printf("completed fires/s       : %.1f%n", (double) fires / duration);
+                System.out.printf("mean fire lag           : %.1f ms%n", lagCount == 0 ? 0 : lagTotal / lagCount);
+                System.out.printf("max fire lag (recent)   : %.1f ms%n", lag.max(TimeUnit.MILLISECONDS));
+                System.out.printf("misfires                : %.0f%n", registry.get("scheduler.trigger.misfires").counter().count());
+            }
+        }
+    }
+
+    private static long fires(MeterRegistry registry) {
+        return registry.find("scheduler.job.execution").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.application.dto.CreateJobRequestDto;
+import com.example.scheduler.application.dto.ExecutionLogResponseDto;
+import com.example.scheduler.application.dto.JobResponseDto;
+import com.example.scheduler.application.mapper.JobMapper;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.infrastructure.persistence.JobDefinitionMapper;
+import com.example.scheduler.infrastructure.persistence.entity.JobDefinitionEntity;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API and persistence conversions of {@link JobMapper} and {@link JobDefinitionMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"CRON", "FIXED_RATE", "FIXED_DELAY"})
+    public ScheduleType scheduleType;
+
+    private JobMapper jobMapper;
+    private CreateJobRequestDto request;
+    private JobDefinition job;
+    private JobDefinitionEntity entity;
+    private JobExecutionLogEntity logEntry;
+
+    @Setup
+    public void setUp() {
+        jobMapper = new JobMapper(new ObjectMapper());
+        request = BenchmarkFixtures.createRequest(scheduleType);
+        job = BenchmarkFixtures.job(scheduleType);
+        entity = JobDefinitionMapper.toEntity(job);
+        logEntry = BenchmarkFixtures.logEntry();
+    }
+
+    @Benchmark
+    public JobDefinition createRequestToDomain() {
+        return jobMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public JobResponseDto domainToResponse() {
+        return jobMapper.toDto(job);
+    }
+
+    @Benchmark
+    public ExecutionLogResponseDto logToResponse() {
+        return jobMapper.toDto(logEntry);
+    }
+
+    @Benchmark
+    public JobDefinitionEntity domainToEntity() {
+        return JobDefinitionMapper.toEntity(job);
+    }
+
+    @Benchmark
+    public JobDefinition entityToDomain() {
+        return JobDefinitionMapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.DistributedSchedulerApplication;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.MisfirePolicy;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.infrastructure.quartz.QuartzReconciler;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Startup reconciliation of {@code --jobs} CRON definitions, on one node with an embedded
+ * Postgres.
+ *
+ * <p>The definitions are inserted without Quartz triggers, then {@link QuartzReconciler}
+ * is run three times: cold (every job scheduled), up to date (nothing scheduled) and after
+ * {@code --stale} percent of the definitions moved to a new version. Reports wall time and
+ * jobs per second of each pass. Any other {@code --key=value} argument is passed to Spring,
+ * e.g. {@code --scheduler.reconciler.page-size=5000}.
+ */
+public final class ReconcilerHarness {
+
+    private static final int INSERT_CHUNK = 1_000;
+
+    private ReconcilerHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "jobs", "10000",
+                "stale", "10"));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            if (kv.length == 2 && options.containsKey(kv[0])) {
+                options.put(kv[0], kv[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        int jobs = Integer.parseInt(options.get("jobs"));
+        int stalePercent = Integer.parseInt(options.get("stale"));
+
+        try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+            String url = pg.getJdbcUrl("postgres", "postgres");
+            Flyway.configure().dataSource(pg.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+
+            springArgs.addAll(List.of(
+                    "--spring.datasource.url=" + url + "&reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.URL=" + url,
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.user=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.password=postgres",
+                    // jobs must not fire while they are being reconciled
+                    "--spring.quartz.auto-startup=false",
+                    "--eureka.client.enabled=false",
+                    "--server.port=0"));
+
+            try (ConfigurableApplicationContext ctx = SpringApplication.run(
+                    DistributedSchedulerApplication.class, springArgs.toArray(String[]::new))) {
+                JobDefinitionRepositoryPort jobRepo = ctx.getBean(JobDefinitionRepositoryPort.class);
+                TransactionTemplate transactions = ctx.getBean(TransactionTemplate.class);
+                JdbcTemplate jdbc = ctx.getBean(JdbcTemplate.class);
+                QuartzReconciler reconciler = ctx.getBean(QuartzReconciler.class);
+
+                for (int from = 0; from < jobs; from += INSERT_CHUNK) {
+                    List<JobDefinition> chunk = new ArrayList<>(INSERT_CHUNK);
+                    for (int i = from; i < Math.min(from + INSERT_CHUNK, jobs); i++) {
+                        chunk.add(BenchmarkFixtures.job(ScheduleType.CRON).toBuilder()
+                                .id(UUID.randomUUID())
+                                .misfirePolicy(MisfirePolicy.FIRE_NOW)
+                                .build());
+                    }
+                    transactions.executeWithoutResult(tx -> jobRepo.insertAll(chunk));
+                }
+
+                long cold = time(reconciler::reconcileOnStartup);
+                long upToDate = time(reconciler::reconcileOnStartup);
+                int staleJobs = jdbc.update("UPDATE job_definition SET version = version + 1"
+                        + " WHERE id IN (SELECT id FROM job_definition ORDER BY id LIMIT ?)",
+                        (long) jobs * stalePercent / 100);
+                long partial = time(reconciler::reconcileOnStartup);
+                Integer triggers = jdbc.queryForObject("SELECT COUNT(*) FROM qrtz_triggers", Integer.class);
+
+                System.out.printf("%n=== Startup reconciliation: %d jobs ===%n", jobs);
+                System.out.printf("%-24s %10s %12s%n", "pass", "ms", "jobs/s");
+                System.out.printf("%-24s %10d %12.0f%n", "cold", cold, perSecond(jobs, cold));
+                System.out.printf("%-24s %10d %12.0f%n", "up to date", upToDate, perSecond(jobs, upToDate));
+                System.out.printf("%-24s %10d %12.0f%n", staleJobs + " stale", partial, perSecond(jobs, partial));
+                System.out.printf("triggers after the runs: %d%n", triggers);
+            }
+        }
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static double perSecond(int jobs, long millis) {
+        return jobs * 1000.0 / Math.max(1, millis);
+    }
+}
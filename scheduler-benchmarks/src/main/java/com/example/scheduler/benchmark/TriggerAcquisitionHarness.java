@@ -0,0 +1,152 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.DistributedSchedulerApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QRTZ_LOCKS contention under a dense cron load, with one trigger per acquisition
+ * (Quartz's default) versus adaptive batching.
+ *
+ * <p>Seeds {@code --jobs} cron jobs firing every second, starts {@code --nodes} clustered
+ * Quartz nodes in this JVM on a fresh embedded Postgres for each mode, waits
+ * {@code --warmup} seconds and then reports, over {@code --duration} seconds and summed
+ * over the nodes: fires per second, TRIGGER_ACCESS lock acquisitions per fire, mean time
+ * to obtain that lock, mean triggers per acquisition and mean fire lag.
+ *
+ * <p>The job store's meters and tuner are bound statically, so with several nodes in one
+ * JVM the last node's tuner sizes batches for all of them; totals are still complete.
+ */
+public final class TriggerAcquisitionHarness {
+
+    private static final Map<String, List<String>> MODES = new LinkedHashMap<>();
+
+    static {
+        MODES.put("single", List.of(
+                "--scheduler.trigger-acquisition.adaptive=false",
+                "--scheduler.trigger-acquisition.batch-size=1",
+                "--scheduler.trigger-acquisition.fire-ahead-window=0ms"));
+        MODES.put("adaptive", List.of(
+                "--scheduler.trigger-acquisition.adaptive=true"));
+    }
+
+    private TriggerAcquisitionHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "nodes", "2",
+                "jobs", "500",
+                "warmup", "20",
+                "duration", "30"));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            if (kv.length == 2 && options.containsKey(kv[0])) {
+                options.put(kv[0], kv[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        int nodes = Integer.parseInt(options.get("nodes"));
+        int jobs = Integer.parseInt(options.get("jobs"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+        int duration = Integer.parseInt(options.get("duration"));
+
+        List<String> rows = new ArrayList<>();
+        for (Map.Entry<String, List<String>> mode : MODES.entrySet()) {
+            List<String> modeArgs = new ArrayList<>(springArgs);
+            modeArgs.addAll(mode.getValue());
+            rows.add(run(mode.getKey(), nodes, jobs, warmup, duration, modeArgs));
+        }
+
+        System.out.printf("%n=== Trigger acquisition: %d cron jobs every second on %d nodes, %ds window ===%n",
+                jobs, nodes, duration);
+        System.out.printf("%-9s %9s %11s %13s %12s %11s%n",
+                "mode", "fires/s", "locks/fire", "lock wait ms", "batch mean", "lag ms");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(String mode, int nodes, int jobs, int warmup, int duration, List<String> extraArgs)
+            throws Exception {
+        try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+            String url = pg.getJdbcUrl("postgres", "postgres");
+            Flyway.configure().dataSource(pg.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+            new JdbcTemplate(pg.getPostgresDatabase()).update("""
+                    INSERT INTO job_definition (id, name, schedule_type, cron_expression, status, version)
+                    SELECT gen_random_uuid(), 'cron-' || g, 'CRON', '* * * * * ?', 'ACTIVE', 0
+                    FROM generate_series(1, ?) g
+                    """, jobs);
+
+            List<String> args = new ArrayList<>(extraArgs);
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + url + "&reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.URL=" + url,
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.user=postgres",
+                    "--spring.quartz.properties.org.quartz.dataSource.quartzDataSource.password=postgres",
+                    "--eureka.client.enabled=false",
+                    "--server.port=0"));
+
+            List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+            try {
+                for (int i = 0; i < nodes; i++) {
+                    contexts.add(SpringApplication.run(DistributedSchedulerApplication.class, args.toArray(String[]::new)));
+                }
+                TimeUnit.SECONDS.sleep(warmup);
+                double[] before = totals(contexts);
+                TimeUnit.SECONDS.sleep(duration);
+                double[] after = totals(contexts);
+
+                double fires = after[0] - before[0];
+                double locks = after[1] - before[1];
+                double lockWaitMs = after[2] - before[2];
+                double acquisitions = after[3] - before[3];
+                double acquired = after[4] - before[4];
+                double lags = after[5] - before[5];
+                double lagMs = after[6] - before[6];
+                return String.format("%-9s %9.1f %11.2f %13.2f %12.2f %11.1f", mode,
+                        fires / duration,
+                        fires == 0 ? 0 : locks / fires,
+                        locks == 0 ? 0 : lockWaitMs / locks,
+                        acquisitions == 0 ? 0 : acquired / acquisitions,
+                        lags == 0 ? 0 : lagMs / lags);
+            } finally {
+                for (ConfigurableApplicationContext ctx : contexts) {
+                    ctx.close();
+                }
+            }
+        }
+    }
+
+    /** fires, lock count, lock wait ms, acquisitions, acquired triggers, lag count, lag ms */
+    private static double[] totals(List<ConfigurableApplicationContext> contexts) {
+        double[] totals = new double[7];
+        for (ConfigurableApplicationContext ctx : contexts) {
+            MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+            totals[0] += registry.find("scheduler.job.execution").timers().stream().mapToLong(Timer::count).sum();
+            Timer lock = registry.get("scheduler.quartz.lock.wait").timer();
+            totals[1] += lock.count();
+            totals[2] += lock.totalTime(TimeUnit.MILLISECONDS);
+            totals[3] += registry.get("scheduler.quartz.trigger.acquire.batch").summary().count();
+            totals[4] += registry.get("scheduler.quartz.trigger.acquire.batch").summary().totalAmount();
+            Timer lag = registry.get("scheduler.job.fire.lag").tag("jobType", "noop").timer();
+            totals[5] += lag.count();
+            totals[6] += lag.totalTime(TimeUnit.MILLISECONDS);
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.application.handler.NoopJobHandler;
+import com.example.scheduler.application.service.JobHandlerRegistry;
+import com.example.scheduler.benchmark.BenchmarkFixtures;
+import com.example.scheduler.config.DispatchProperties;
+import com.example.scheduler.config.ExecutionEventProperties;
+import com.example.scheduler.config.ExecutionLogProperties;
+import com.example.scheduler.config.ExecutionProperties;
+import com.example.scheduler.config.JobCacheProperties;
+import com.example.scheduler.config.PayloadStoreProperties;
+import com.example.scheduler.config.RetryProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.infrastructure.dispatch.FairShareDispatcher;
+import com.example.scheduler.infrastructure.events.ExecutionEventBus;
+import com.example.scheduler.infrastructure.persistence.adapter.JobDefinitionRepositoryAdapter;
+import com.example.scheduler.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.example.scheduler.infrastructure.persistence.log.ExecutionLogBatchWriter;
+import com.example.scheduler.infrastructure.persistence.payload.PayloadStore;
+import com.example.scheduler.infrastructure.persistence.stats.ExecutionStatsRepository;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRepository;
+import com.example.scheduler.infrastructure.retry.JobRetryHandler;
+import com.example.scheduler.infrastructure.retry.JobRetryScheduler;
+import com.example.scheduler.infrastructure.workflow.WorkflowCoordinator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One fire through {@link QuartzJobExecutor#execute} and its {@link FirePipeline}:
+ * definition lookup (cached), handler lookup, payload parse, metrics, execution events
+ * (no subscribers, bus not started) and the hand-off to the execution-log writer, whose
+ * JDBC batches (log rows and rollups) go to a stub so the database is out of the picture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuartzJobExecutorBenchmark {
+
+    private ExecutionLogBatchWriter logWriter;
+    private QuartzJobExecutor executor;
+    private JobExecutionContext context;
+
+    @Setup
+    public void setUp() {
+        StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+        logWriter = new ExecutionLogBatchWriter(jdbcTemplate, new ExecutionLogProperties(),
+                new ExecutionStatsRepository(jdbcTemplate), TransactionOperations.withoutTransaction());
+        logWriter.start();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JobHandlerRegistry handlerRegistry = new JobHandlerRegistry(List.of(new NoopJobHandler()), objectMapper);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JobExecutionMetrics metrics = new JobExecutionMetrics(registry, handlerRegistry,
+                new StaticListableBeanFactory().getBeanProvider(Scheduler.class));
+        JobDefinition job = BenchmarkFixtures.job(ScheduleType.FIXED_RATE);
+        JobDefinitionRepositoryAdapter definitions = new JobDefinitionRepositoryAdapter(null, null) {
+            @Override
+            public Optional<JobDefinition> findById(JobId id) {
+                return Optional.of(job);
+            }
+        };
+        FairShareDispatcher dispatcher = new FairShareDispatcher(new DispatchProperties(), new ExecutionProperties(), registry);
+        FireOutcomes outcomes = new FireOutcomes(logWriter, metrics,
+                new JobRetryHandler(new RetryProperties(),
+                        new StaticListableBeanFactory().getBeanProvider(JobRetryScheduler.class),
+                        new DeadLetterRepository(jdbcTemplate)),
+                new WorkflowCoordinator(new WorkflowRepository(jdbcTemplate), null,
+                        new StaticListableBeanFactory().getBeanProvider(JobRetryScheduler.class),
+                        new TransactionTemplate(), registry),
+                new ExecutionEventBus(jdbcTemplate, new DataSourceProperties(), new ExecutionEventProperties(),
+                        objectMapper, registry),
+                dispatcher);
+        FirePipeline pipeline = new FirePipeline(new JobConcurrencyLimiter(new ExecutionProperties()), handlerRegistry,
+                new ExecutionWatchdog(new ExecutionProperties(), registry), metrics, outcomes);
+        executor = new QuartzJobExecutor(new FireDefinitionCache(definitions, new JobCacheProperties(), registry),
+                dispatcher, pipeline, outcomes,
+                new PayloadStore(jdbcTemplate, null, new PayloadStoreProperties(), registry));
+
+        QuartzSchedulingAdapter adapter = new QuartzSchedulingAdapter(null, null);
+        OperableTrigger trigger = (OperableTrigger) adapter.buildTrigger(job);
+        Date now = new Date();
+        context = new JobExecutionContextImpl(null,
+                new TriggerFiredBundle(adapter.buildJobDetail(job), trigger, null, false, now, now, null, null),
+                executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        logWriter.stop();
+    }
+
+    @Benchmark
+    public void execute() {
+        executor.execute(context);
+    }
+
+    /** Accepts every batch without a database. */
+    static final class StubJdbcTemplate extends JdbcTemplate {
+
+        private final LongAdder rows = new LongAdder();
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            rows.add(batchArgs.size());
+            return new int[0][];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.benchmark.BenchmarkFixtures;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import org.openjdk.jmh.annotations.*;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trigger and job-detail construction, paid on every create, resume and reconcile.
+ * Lives in the adapter's package to reach the package-private builders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuartzSchedulingAdapterBenchmark {
+
+    @Param({"CRON", "FIXED_RATE", "FIXED_DELAY"})
+    public ScheduleType scheduleType;
+
+    private QuartzSchedulingAdapter adapter;
+    private JobDefinition job;
+
+    @Setup
+    public void setUp() {
+        // builders never touch the scheduler
+        adapter = new QuartzSchedulingAdapter(null, null);
+        job = BenchmarkFixtures.job(scheduleType);
+    }
+
+    @Benchmark
+    public Trigger buildTrigger() {
+        return adapter.buildTrigger(job);
+    }
+
+    @Benchmark
+    public JobDetail buildJobDetail() {
+        return adapter.buildJobDetail(job);
+    }
+}
@@ -2,10 +2,14 @@ package com.example.scheduler;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableTransactionManagement
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class DistributedSchedulerApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,34 @@
+package com.example.scheduler.api.actuator;
+
+import com.example.scheduler.application.dto.TriggerAcquisitionDto;
+import com.example.scheduler.infrastructure.quartz.TriggerAcquisitionTuner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/triggeracquisition}: GET shows this node's Quartz trigger acquisition
+ * settings, POST with any of {@code adaptive}, {@code batchSize}, {@code fireAheadWindowMs}
+ * changes them.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "triggeracquisition")
+public class TriggerAcquisitionEndpoint {
+
+    private final TriggerAcquisitionTuner tuner;
+
+    @ReadOperation
+    public TriggerAcquisitionDto settings() {
+        return tuner.current();
+    }
+
+    @WriteOperation
+    public TriggerAcquisitionDto update(@Nullable Boolean adaptive, @Nullable Integer batchSize,
+                                        @Nullable Long fireAheadWindowMs) {
+        return tuner.update(adaptive, batchSize, fireAheadWindowMs);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.scheduler.api.graphql;
+
+import com.example.scheduler.application.dto.ExecutionEventDto;
+import com.example.scheduler.application.service.ExecutionEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+public class ExecutionEventGraphqlController {
+
+    private final ExecutionEventService executionEventService;
+
+    @SubscriptionMapping
+    public Flux<ExecutionEventDto> executionEvents(@Argument("jobId") UUID jobId,
+                                                   @Argument("tenant") String tenant,
+                                                   @Argument("types") List<String> types) {
+        return executionEventService.subscribe(jobId, tenant, types);
+    }
+}
@@ -1,31 +1,81 @@
 package com.example.scheduler.api.graphql;
 
+import com.example.scheduler.application.dto.BulkJobResultDto;
+import com.example.scheduler.application.dto.ConnectionDto;
 import com.example.scheduler.application.dto.CreateJobRequestDto;
+import com.example.scheduler.application.dto.DeadLetterDto;
+import com.example.scheduler.application.dto.ExecutionLogFilterDto;
 import com.example.scheduler.application.dto.ExecutionLogResponseDto;
+import com.example.scheduler.application.dto.JobFilterDto;
 import com.example.scheduler.application.dto.JobResponseDto;
+import com.example.scheduler.application.dto.JobStatsDto;
+import com.example.scheduler.application.service.DeadLetterService;
+import com.example.scheduler.application.service.JobBulkService;
 import com.example.scheduler.application.service.JobSchedulingService;
-import lombok.RequiredArgsConstructor;
+import com.example.scheduler.application.service.JobStatsService;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Controller
-@RequiredArgsConstructor
 public class JobGraphqlController {
 
+    private static final String RECENT_EXECUTIONS_LOADER = "recentExecutions";
+    private static final int DEFAULT_RECENT_EXECUTIONS = 5;
+
     private final JobSchedulingService jobSchedulingService;
+    private final JobBulkService jobBulkService;
+    private final JobStatsService jobStatsService;
+    private final DeadLetterService deadLetterService;
+
+    /** {@code Job.recentExecutions} is loaded per limit, since one query may ask for several. */
+    private record RecentExecutionsKey(UUID jobId, int limit) {
+    }
+
+    public JobGraphqlController(JobSchedulingService jobSchedulingService,
+                                JobBulkService jobBulkService,
+                                JobStatsService jobStatsService,
+                                DeadLetterService deadLetterService,
+                                BatchLoaderRegistry batchLoaderRegistry) {
+        this.jobSchedulingService = jobSchedulingService;
+        this.jobBulkService = jobBulkService;
+        this.jobStatsService = jobStatsService;
+        this.deadLetterService = deadLetterService;
+        batchLoaderRegistry.<RecentExecutionsKey, List<ExecutionLogResponseDto>>forName(RECENT_EXECUTIONS_LOADER)
+                .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(() -> recentExecutions(keys)));
+    }
 
     // ------------------------
     // Queries
     // ------------------------
 
+    /** Reads only the job fields the query selects under {@code edges.node}. */
     @QueryMapping
-    public List<JobResponseDto> jobs() {
-        return jobSchedulingService.listJobs();
+    public ConnectionDto<JobResponseDto> jobs(@Argument("first") Integer first,
+                                              @Argument("after") String after,
+                                              @Argument("filter") JobFilterDto filter,
+                                              DataFetchingFieldSelectionSet selection) {
+        List<String> fields = selection.getFields("edges/node/*").stream()
+                .map(SelectedField::getName)
+                .toList();
+        return jobSchedulingService.listJobs(filter, first, after, fields);
     }
 
     @QueryMapping
@@ -34,8 +84,82 @@ public class JobGraphqlController {
     }
 
     @QueryMapping
-    public List<ExecutionLogResponseDto> jobLogs(@Argument("jobId") UUID jobId) {
-        return jobSchedulingService.getExecutionLogs(jobId);
+    public ConnectionDto<ExecutionLogResponseDto> jobLogs(@Argument("jobId") UUID jobId,
+                                                          @Argument("first") Integer first,
+                                                          @Argument("after") String after,
+                                                          @Argument("filter") ExecutionLogFilterDto filter) {
+        return jobSchedulingService.getExecutionLogs(jobId, filter, first, after);
+    }
+
+    @QueryMapping
+    public JobStatsDto jobStats(@Argument("jobId") UUID jobId,
+                                @Argument("from") String from,
+                                @Argument("to") String to,
+                                @Argument("granularity") String granularity) {
+        return jobStatsService.getJobStats(jobId, from, to, granularity);
+    }
+
+    @QueryMapping
+    public ConnectionDto<DeadLetterDto> deadLetters(@Argument("jobId") UUID jobId,
+                                                    @Argument("first") Integer first,
+                                                    @Argument("after") String after,
+                                                    @Argument("includeReplayed") Boolean includeReplayed) {
+        return deadLetterService.list(jobId, Boolean.TRUE.equals(includeReplayed), first, after);
+    }
+
+    // ------------------------
+    // Job fields
+    // ------------------------
+
+    /** Payloads of all jobs in the response, in one payload store lookup; jobs missing from the map have none. */
+    @BatchMapping(typeName = "Job", field = "payload")
+    public Map<JobResponseDto, String> payload(List<JobResponseDto> jobs) {
+        return jobSchedulingService.payloads(jobs);
+    }
+
+    /** Executions of all jobs in the response, in one query per distinct {@code limit}. */
+    @SchemaMapping(typeName = "Job", field = "recentExecutions")
+    public CompletableFuture<List<ExecutionLogResponseDto>> recentExecutions(JobResponseDto job,
+                                                                              @Argument("limit") Integer limit,
+                                                                              DataFetchingEnvironment env) {
+        DataLoader<RecentExecutionsKey, List<ExecutionLogResponseDto>> loader =
+                env.getDataLoader(RECENT_EXECUTIONS_LOADER);
+        return loader.load(new RecentExecutionsKey(job.getId(), limit != null ? limit : DEFAULT_RECENT_EXECUTIONS));
+    }
+
+    private Map<RecentExecutionsKey, List<ExecutionLogResponseDto>> recentExecutions(Set<RecentExecutionsKey> keys) {
+        Map<RecentExecutionsKey, List<ExecutionLogResponseDto>> result = new HashMap<>();
+        keys.stream()
+                .collect(Collectors.groupingBy(RecentExecutionsKey::limit,
+                        Collectors.mapping(RecentExecutionsKey::jobId, Collectors.toSet())))
+                .forEach((limit, jobIds) -> jobSchedulingService.recentExecutions(jobIds, limit)
+                        .forEach((jobId, logs) -> result.put(new RecentExecutionsKey(jobId, limit), logs)));
+        return result;
+    }
+
+    /** Latest execution of all jobs in the response, in one query; jobs missing from the map have not run. */
+    @BatchMapping(typeName = "Job", field = "lastExecution")
+    public Map<JobResponseDto, ExecutionLogResponseDto> lastExecution(List<JobResponseDto> jobs) {
+        Map<UUID, List<ExecutionLogResponseDto>> recent = jobSchedulingService.recentExecutions(
+                jobs.stream().map(JobResponseDto::getId).collect(Collectors.toSet()), 1);
+        Map<JobResponseDto, ExecutionLogResponseDto> last = new HashMap<>();
+        for (JobResponseDto job : jobs) {
+            List<ExecutionLogResponseDto> logs = recent.get(job.getId());
+            if (!logs.isEmpty()) {
+                last.put(job, logs.get(0));
+            }
+        }
+        return last;
+    }
+
+    /** Trigger states of all jobs in the response, in one job-store lookup. */
+    @BatchMapping(typeName = "Job", field = "quartzState")
+    public Map<JobResponseDto, String> quartzState(List<JobResponseDto> jobs) {
+        Map<UUID, String> states = jobSchedulingService.quartzStates(
+                jobs.stream().map(JobResponseDto::getId).collect(Collectors.toSet()));
+        Map<JobResponseDto, String> result = new HashMap<>();
+        jobs.forEach(job -> result.put(job, states.get(job.getId())));
+        return result;
     }
 
     // ------------------------
@@ -69,4 +193,33 @@ public class JobGraphqlController {
     public JobResponseDto resumeJob(@Argument("id") UUID id) {
         return jobSchedulingService.resumeJob(id);
     }
+
+    // ------------------------
+    // Bulk mutations
+    // ------------------------
+
+    @MutationMapping
+    public List<BulkJobResultDto> createJobs(@Argument("inputs") List<CreateJobRequestDto> inputs) {
+        return jobBulkService.createJobs(inputs);
+    }
+
+    @MutationMapping
+    public List<BulkJobResultDto> pauseJobs(@Argument("ids") List<UUID> ids) {
+        return jobBulkService.pauseJobs(ids);
+    }
+
+    @MutationMapping
+    public List<BulkJobResultDto> resumeJobs(@Argument("ids") List<UUID> ids) {
+        return jobBulkService.resumeJobs(ids);
+    }
+
+    @MutationMapping
+    public List<BulkJobResultDto> deleteJobs(@Argument("ids") List<UUID> ids) {
+        return jobBulkService.deleteJobs(ids);
+    }
+
+    @MutationMapping
+    public List<BulkJobResultDto> replayDeadLetters(@Argument("ids") List<UUID> ids) {
+        return deadLetterService.replay(ids);
+    }
 }
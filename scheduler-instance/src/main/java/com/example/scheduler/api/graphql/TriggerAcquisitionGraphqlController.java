@@ -0,0 +1,27 @@
+package com.example.scheduler.api.graphql;
+
+import com.example.scheduler.application.dto.TriggerAcquisitionDto;
+import com.example.scheduler.application.dto.TriggerAcquisitionInputDto;
+import com.example.scheduler.infrastructure.quartz.TriggerAcquisitionTuner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class TriggerAcquisitionGraphqlController {
+
+    private final TriggerAcquisitionTuner tuner;
+
+    @QueryMapping
+    public TriggerAcquisitionDto triggerAcquisition() {
+        return tuner.current();
+    }
+
+    @MutationMapping
+    public TriggerAcquisitionDto updateTriggerAcquisition(@Argument("input") TriggerAcquisitionInputDto input) {
+        return tuner.update(input.getAdaptive(), input.getBatchSize(), input.getFireAheadWindowMs());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.scheduler.api.graphql;
+
+import com.example.scheduler.application.dto.ConnectionDto;
+import com.example.scheduler.application.dto.CreateWorkflowRequestDto;
+import com.example.scheduler.application.dto.WorkflowDto;
+import com.example.scheduler.application.dto.WorkflowRunDto;
+import com.example.scheduler.application.service.WorkflowService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+public class WorkflowGraphqlController {
+
+    private final WorkflowService workflowService;
+
+    @QueryMapping
+    public WorkflowDto workflow(@Argument("id") UUID id) {
+        return workflowService.get(id);
+    }
+
+    @QueryMapping
+    public ConnectionDto<WorkflowDto> workflows(@Argument("first") Integer first,
+                                                @Argument("after") String after) {
+        return workflowService.list(first, after);
+    }
+
+    @QueryMapping
+    public ConnectionDto<WorkflowRunDto> workflowRuns(@Argument("workflowId") UUID workflowId,
+                                                      @Argument("first") Integer first,
+                                                      @Argument("after") String after) {
+        return workflowService.runs(workflowId, first, after);
+    }
+
+    @MutationMapping
+    public WorkflowDto createWorkflow(@Argument("input") CreateWorkflowRequestDto input) {
+        return workflowService.create(input);
+    }
+
+    @MutationMapping
+    public Boolean deleteWorkflow(@Argument("id") UUID id) {
+        return workflowService.delete(id);
+    }
+}
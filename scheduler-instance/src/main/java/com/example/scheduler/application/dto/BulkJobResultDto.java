@@ -0,0 +1,31 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a bulk mutation, at the item's position in the input list.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkJobResultDto {
+    private int index;
+    private UUID id;
+    private boolean success;
+    private String error;
+    private JobResponseDto job;
+
+    public static BulkJobResultDto success(int index, JobResponseDto job) {
+        return new BulkJobResultDto(index, job.getId(), true, null, job);
+    }
+
+    public static BulkJobResultDto failure(int index, UUID id, String error) {
+        return new BulkJobResultDto(index, id, false, error, null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated GraphQL connection.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConnectionDto<T> {
+    private List<EdgeDto<T>> edges;
+    private PageInfoDto pageInfo;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class EdgeDto<T> {
+        private String cursor;
+        private T node;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PageInfoDto {
+        private boolean hasNextPage;
+        private String endCursor;
+    }
+}
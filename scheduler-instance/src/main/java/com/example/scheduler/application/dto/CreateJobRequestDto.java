@@ -12,9 +12,20 @@ import java.util.Map;
 public class CreateJobRequestDto {
     private String name;
     private String description;
-    private String scheduleType;      // CRON / FIXED_RATE / FIXED_DELAY
+    private String jobType;           // JobHandler type, defaults to "noop"
+    private String scheduleType;      // CRON / FIXED_RATE / FIXED_DELAY / WORKFLOW (workflow steps only)
     private String cronExpression;    // for CRON
+    private Integer jitterSeconds;    // for CRON, spreads fires over this window after each slot
     private Long intervalSeconds;     // for FIXED_RATE or FIXED_DELAY
     private Long initialDelaySeconds; // for FIXED_DELAY
     private Map<String, Object> payload; // will be JSON-serialized
+    private Integer logRetentionDays; // overrides the global execution-log retention
+    private String misfirePolicy;     // FIRE_NOW (default) / SKIP / CATCH_UP
+    private Integer misfireCatchUpLimit; // for CATCH_UP, default 1
+    private Integer timeoutSeconds;   // overrides scheduler.execution.default-timeout
+    private Integer retryMaxAttempts; // attempts per fire, 1 = no retries
+    private Integer retryBackoffSeconds; // delay before the first retry, doubling after
+    private Integer maxConcurrent;    // overrides scheduler.execution.max-concurrent-per-job
+    private String priority;          // CRITICAL / HIGH / NORMAL (default) / LOW
+    private String tenant;            // fair-share group, defaults to scheduler.dispatch.default-tenant
 }
@@ -0,0 +1,15 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class CreateWorkflowRequestDto {
+    private String name;
+    private List<WorkflowStepInputDto> steps; // exactly one without dependsOn: the root
+}
@@ -0,0 +1,25 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeadLetterDto {
+    private UUID id;
+    private UUID jobId;
+    private String jobType;
+    private String payload;
+    private Instant scheduledFireTime;
+    private int attempts;
+    private String lastError;
+    private Instant failedAt;
+    private Instant replayedAt;
+}
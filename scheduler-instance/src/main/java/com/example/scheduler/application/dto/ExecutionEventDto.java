@@ -0,0 +1,28 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExecutionEventDto {
+    private String type;
+    private UUID jobId;
+    private String jobType;
+    private String tenant;
+    private int attempt;
+    private Instant fireTime;
+    private Long durationMs;
+    private String errorMessage;
+    private boolean willRetry;
+    private UUID workflowRunId;
+    private Instant occurredAt;
+    private long missedBefore;
+}
@@ -0,0 +1,16 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExecutionLogFilterDto {
+    private String status;        // SUCCESS / FAILED / TIMED_OUT / SKIPPED
+    private String fireTimeFrom;  // ISO-8601 instant, inclusive
+    private String fireTimeTo;    // ISO-8601 instant, exclusive
+}
@@ -18,5 +18,7 @@ public class ExecutionLogResponseDto {
     private Instant fireTime;
     private String status;
     private String errorMessage;
+    private Long durationMs;
+    private int attempt;
     private Instant createdAt;
 }
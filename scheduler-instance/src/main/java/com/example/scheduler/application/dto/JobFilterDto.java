@@ -0,0 +1,15 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobFilterDto {
+    private String status;        // ACTIVE / PAUSED / DELETED
+    private String scheduleType;  // CRON / FIXED_RATE / FIXED_DELAY
+}
@@ -15,13 +15,26 @@ import java.util.UUID;
 public class JobResponseDto {
     private UUID id;
     private String name;
+    private String jobType;
     private String scheduleType;
     private String cronExpression;
+    private Integer jitterSeconds;
     private Long intervalSeconds;
     private Long initialDelaySeconds;
-    private String payload;
+    private String payload;  // set when already loaded, else resolved from payloadRef when selected
+    private String payloadRef;  // not in the schema
+    private Integer logRetentionDays;
+    private String misfirePolicy;
+    private Integer misfireCatchUpLimit;
+    private Integer timeoutSeconds;
+    private Integer retryMaxAttempts;
+    private Integer retryBackoffSeconds;
+    private Integer maxConcurrent;
+    private String priority;
+    private String tenant;
+    private UUID workflowId;
     private String status;
-    private int version;
+    private Integer version;
     private Instant createdAt;
     private Instant updatedAt;
 }
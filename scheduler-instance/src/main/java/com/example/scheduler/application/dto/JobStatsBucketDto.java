@@ -0,0 +1,31 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Execution counts and duration percentiles of one job over one bucket or a whole range.
+ * Durations are {@code null} when no execution in the bucket has one.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobStatsBucketDto {
+    private Instant bucketStart;
+    private long successCount;
+    private long failedCount;
+    private long skippedCount;
+    private long timedOutCount;
+    private Double successRate;
+    private Double avgDurationMs;
+    private Double p50DurationMs;
+    private Double p90DurationMs;
+    private Double p95DurationMs;
+    private Double p99DurationMs;
+    private Long maxDurationMs;
+}
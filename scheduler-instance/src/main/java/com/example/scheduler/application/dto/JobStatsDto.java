@@ -0,0 +1,24 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobStatsDto {
+    private UUID jobId;
+    private String granularity;
+    /** Requested range widened to whole buckets. */
+    private Instant from;
+    private Instant to;
+    private JobStatsBucketDto total;
+    private List<JobStatsBucketDto> buckets;
+}
@@ -3,5 +3,6 @@ package com.example.scheduler.application.dto;
 public enum ScheduleTypeDto {
     CRON,
     FIXED_RATE,
-    FIXED_DELAY
+    FIXED_DELAY,
+    WORKFLOW
 }
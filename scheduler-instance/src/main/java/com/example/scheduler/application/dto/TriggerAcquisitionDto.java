@@ -0,0 +1,23 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Quartz trigger acquisition settings of one node and the signals they are derived from.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TriggerAcquisitionDto {
+    private boolean adaptive;
+    private int batchSize;
+    private long fireAheadWindowMs;
+    private int maxBatchSize;
+    private long maxFireAheadWindowMs;
+    private double dueTriggersPerSecond;
+    private int freeThreads;
+}
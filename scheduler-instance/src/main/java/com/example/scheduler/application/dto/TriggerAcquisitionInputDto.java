@@ -0,0 +1,17 @@
+package com.example.scheduler.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Requested trigger acquisition settings; {@code null} fields are left unchanged.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TriggerAcquisitionInputDto {
+    private Boolean adaptive;
+    private Integer batchSize;
+    private Long fireAheadWindowMs;
+}
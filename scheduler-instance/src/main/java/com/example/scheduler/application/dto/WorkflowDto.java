@@ -0,0 +1,22 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkflowDto {
+    private UUID id;
+    private String name;
+    private UUID rootJobId;
+    private List<WorkflowStepDto> steps;
+    private Instant createdAt;
+}
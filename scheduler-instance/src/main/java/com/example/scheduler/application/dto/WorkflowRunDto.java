@@ -0,0 +1,26 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkflowRunDto {
+    private UUID id;
+    private UUID workflowId;
+    private String status;
+    private int pendingSteps;
+    /** Scheduled fire time of the root job. */
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Long durationMs;
+    private List<WorkflowRunStepDto> steps;
+}
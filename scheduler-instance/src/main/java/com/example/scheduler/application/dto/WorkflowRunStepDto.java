@@ -0,0 +1,21 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkflowRunStepDto {
+    private UUID jobId;
+    private String status;
+    private int pendingUpstreams;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
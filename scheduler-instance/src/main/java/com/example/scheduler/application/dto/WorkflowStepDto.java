@@ -0,0 +1,19 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkflowStepDto {
+    private JobResponseDto job;   // null once the job has been deleted
+    private UUID jobId;
+    private List<UUID> dependsOn; // upstream job ids
+}
@@ -0,0 +1,16 @@
+package com.example.scheduler.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class WorkflowStepInputDto {
+    private String key;               // unique within the workflow, referenced by dependsOn
+    private CreateJobRequestDto job;  // root: any schedule; other steps: WORKFLOW
+    private List<String> dependsOn;   // keys of the upstream steps
+}
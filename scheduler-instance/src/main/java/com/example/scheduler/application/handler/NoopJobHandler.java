@@ -0,0 +1,32 @@
+package com.example.scheduler.application.handler;
+
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.port.JobHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default handler for jobs created without a job type. Only logs the fire.
+ */
+@Slf4j
+@Component
+public class NoopJobHandler implements JobHandler<JsonNode> {
+
+    public static final String TYPE = "noop";
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public Class<JsonNode> payloadType() {
+        return JsonNode.class;
+    }
+
+    @Override
+    public void handle(JobId jobId, JsonNode payload) {
+        log.debug("No-op job {} fired with payload {}", jobId.value(), payload);
+    }
+}
@@ -3,14 +3,32 @@ package com.example.scheduler.application.mapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.scheduler.application.dto.*;
+import com.example.scheduler.application.handler.NoopJobHandler;
 import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.model.enums.JobField;
+import com.example.scheduler.domain.model.enums.JobPriority;
 import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.MisfirePolicy;
 import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.infrastructure.events.ExecutionEvent;
+import com.example.scheduler.infrastructure.events.ExecutionEventBus;
+import com.example.scheduler.infrastructure.persistence.deadletter.DeadLetterEntry;
 import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import com.example.scheduler.infrastructure.persistence.workflow.Workflow;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRun;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRunStep;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowStep;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 public class JobMapper {
@@ -22,22 +40,37 @@ public class JobMapper {
     }
 
     public JobDefinition toDomain(CreateJobRequestDto dto) {
+        return toDomain(dto, null);
+    }
+
+    /** @param workflowId workflow the job is a step of, or {@code null} for a standalone job */
+    public JobDefinition toDomain(CreateJobRequestDto dto, UUID workflowId) {
         if (dto.getScheduleType() == null) {
             throw new IllegalArgumentException("Schedule type is required.");
         }
 
         ScheduleType type = ScheduleType.valueOf(dto.getScheduleType());
+        if (type == ScheduleType.WORKFLOW && workflowId == null) {
+            throw new IllegalArgumentException("WORKFLOW jobs are created with createWorkflow.");
+        }
 
         String cron = null;
         Long interval = null;
         Long initialDelay = null;
 
+        if (type != ScheduleType.CRON && dto.getJitterSeconds() != null) {
+            throw new IllegalArgumentException("jitterSeconds is only supported for CRON jobs.");
+        }
+
         switch (type) {
             case CRON -> {
                 if (dto.getCronExpression() == null) {
                     throw new IllegalArgumentException("Cron expression required for CRON.");
                 }
                 cron = dto.getCronExpression();
+                if (dto.getJitterSeconds() != null && (dto.getJitterSeconds() < 1 || dto.getJitterSeconds() > 3600)) {
+                    throw new IllegalArgumentException("jitterSeconds must be between 1 and 3600.");
+                }
             }
             case FIXED_RATE -> {
                 if (dto.getIntervalSeconds() == null) {
@@ -52,6 +85,49 @@ public class JobMapper {
                 interval = dto.getIntervalSeconds();
                 initialDelay = dto.getInitialDelaySeconds();
             }
+            case WORKFLOW -> {
+                if (dto.getCronExpression() != null || dto.getIntervalSeconds() != null
+                        || dto.getInitialDelaySeconds() != null) {
+                    throw new IllegalArgumentException("WORKFLOW jobs have no schedule of their own.");
+                }
+            }
+        }
+
+        if (dto.getLogRetentionDays() != null && dto.getLogRetentionDays() < 1) {
+            throw new IllegalArgumentException("logRetentionDays must be at least 1.");
+        }
+        if (dto.getTimeoutSeconds() != null && dto.getTimeoutSeconds() < 1) {
+            throw new IllegalArgumentException("timeoutSeconds must be at least 1.");
+        }
+        if (dto.getRetryMaxAttempts() != null && dto.getRetryMaxAttempts() < 1) {
+            throw new IllegalArgumentException("retryMaxAttempts must be at least 1.");
+        }
+        if (dto.getRetryBackoffSeconds() != null && dto.getRetryBackoffSeconds() < 1) {
+            throw new IllegalArgumentException("retryBackoffSeconds must be at least 1.");
+        }
+        if (dto.getMaxConcurrent() != null && dto.getMaxConcurrent() < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1.");
+        }
+
+        if (dto.getTenant() != null && (dto.getTenant().isBlank() || dto.getTenant().length() > 64)) {
+            throw new IllegalArgumentException("tenant must be 1 to 64 characters.");
+        }
+        JobPriority priority = dto.getPriority() == null ? JobPriority.NORMAL : JobPriority.valueOf(dto.getPriority());
+
+        MisfirePolicy misfirePolicy = dto.getMisfirePolicy() == null
+                ? MisfirePolicy.FIRE_NOW
+                : MisfirePolicy.valueOf(dto.getMisfirePolicy());
+        if ((type == ScheduleType.FIXED_DELAY || type == ScheduleType.WORKFLOW) && misfirePolicy != MisfirePolicy.FIRE_NOW) {
+            throw new IllegalArgumentException(type + " jobs only support misfirePolicy FIRE_NOW.");
+        }
+        Integer catchUpLimit = null;
+        if (misfirePolicy == MisfirePolicy.CATCH_UP) {
+            catchUpLimit = dto.getMisfireCatchUpLimit() == null ? 1 : dto.getMisfireCatchUpLimit();
+            if (catchUpLimit < 1) {
+                throw new IllegalArgumentException("misfireCatchUpLimit must be at least 1.");
+            }
+        } else if (dto.getMisfireCatchUpLimit() != null) {
+            throw new IllegalArgumentException("misfireCatchUpLimit requires misfirePolicy CATCH_UP.");
         }
 
         String payloadJson;
@@ -62,37 +138,81 @@ public class JobMapper {
         }
 
         Instant now = Instant.now();
-        return new JobDefinition(
-                UUID.randomUUID(),
-                dto.getName(),
-                type,
-                cron,
-                interval,
-                initialDelay,
-                payloadJson,
-                JobStatus.ACTIVE,
-                0,
-                now,
-                now
-        );
+        return JobDefinition.builder()
+                .id(UUID.randomUUID())
+                .name(dto.getName())
+                .jobType(dto.getJobType() == null ? NoopJobHandler.TYPE : dto.getJobType())
+                .scheduleType(type)
+                .cronExpression(cron)
+                .jitterSeconds(dto.getJitterSeconds())
+                .intervalSeconds(interval)
+                .initialDelaySeconds(initialDelay)
+                .payload(payloadJson)
+                .logRetentionDays(dto.getLogRetentionDays())
+                .misfirePolicy(misfirePolicy)
+                .misfireCatchUpLimit(catchUpLimit)
+                .timeoutSeconds(dto.getTimeoutSeconds())
+                .retryMaxAttempts(dto.getRetryMaxAttempts())
+                .retryBackoffSeconds(dto.getRetryBackoffSeconds())
+                .maxConcurrent(dto.getMaxConcurrent())
+                .priority(priority)
+                .tenant(dto.getTenant())
+                .workflowId(workflowId)
+                .status(JobStatus.ACTIVE)
+                .version(0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
     }
 
+    /** Fields not read from the definition (see {@link JobField}) stay {@code null}. */
     public JobResponseDto toDto(JobDefinition job) {
         JobResponseDto dto = new JobResponseDto();
         dto.setId(job.getId());
         dto.setName(job.getName());
-        dto.setScheduleType(job.getScheduleType().name());
+        dto.setJobType(job.getJobType());
+        dto.setScheduleType(job.getScheduleType() != null ? job.getScheduleType().name() : null);
         dto.setCronExpression(job.getCronExpression());
+        dto.setJitterSeconds(job.getJitterSeconds());
         dto.setIntervalSeconds(job.getIntervalSeconds());
         dto.setInitialDelaySeconds(job.getInitialDelaySeconds());
         dto.setPayload(job.getPayload());
-        dto.setStatus(job.getStatus().toString());
+        dto.setPayloadRef(job.getPayloadRef());
+        dto.setLogRetentionDays(job.getLogRetentionDays());
+        dto.setMisfirePolicy(job.getMisfirePolicy() != null ? job.getMisfirePolicy().name() : null);
+        dto.setMisfireCatchUpLimit(job.getMisfireCatchUpLimit());
+        dto.setTimeoutSeconds(job.getTimeoutSeconds());
+        dto.setRetryMaxAttempts(job.getRetryMaxAttempts());
+        dto.setRetryBackoffSeconds(job.getRetryBackoffSeconds());
+        dto.setMaxConcurrent(job.getMaxConcurrent());
+        dto.setPriority(job.getPriority() != null ? job.getPriority().name() : JobPriority.NORMAL.name());
+        dto.setTenant(job.getTenant());
+        dto.setWorkflowId(job.getWorkflowId());
+        dto.setStatus(job.getStatus() != null ? job.getStatus().toString() : null);
         dto.setVersion(job.getVersion());
         dto.setCreatedAt(job.getCreatedAt());
         dto.setUpdatedAt(job.getUpdatedAt());
         return dto;
     }
 
+    /**
+     * Builds a connection page from {@code limit + 1} fetched rows; the extra row only
+     * signals that another page exists.
+     */
+    public <S, T> ConnectionDto<T> toConnection(List<S> rows, int limit,
+                                                Function<S, KeysetCursor> cursorOf,
+                                                Function<S, T> toDto) {
+        boolean hasNextPage = rows.size() > limit;
+        List<S> page = hasNextPage ? rows.subList(0, limit) : rows;
+
+        List<ConnectionDto.EdgeDto<T>> edges = new ArrayList<>(page.size());
+        for (S row : page) {
+            edges.add(new ConnectionDto.EdgeDto<>(cursorOf.apply(row).encode(), toDto.apply(row)));
+        }
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new ConnectionDto<>(edges, new ConnectionDto.PageInfoDto(hasNextPage, endCursor));
+    }
+
     public ExecutionLogResponseDto toDto(JobExecutionLogEntity e) {
         ExecutionLogResponseDto dto = new ExecutionLogResponseDto();
         dto.setId(e.getId());
@@ -100,7 +220,48 @@ public class JobMapper {
         dto.setFireTime(e.getFireTime());
         dto.setStatus(e.getStatus());
         dto.setErrorMessage(e.getErrorMessage());
+        dto.setDurationMs(e.getDurationMs());
+        dto.setAttempt(e.getAttempt());
         dto.setCreatedAt(e.getCreatedAt());
         return dto;
     }
+
+    public DeadLetterDto toDto(DeadLetterEntry e) {
+        return new DeadLetterDto(e.id(), e.jobId(), e.jobType(), e.payload(), e.scheduledFireTime(),
+                e.attempts(), e.lastError(), e.failedAt(), e.replayedAt());
+    }
+
+    public ExecutionEventDto toDto(ExecutionEventBus.Delivery delivery) {
+        ExecutionEvent e = delivery.event();
+        return new ExecutionEventDto(e.type().name(), e.jobId(), e.jobType(), e.tenant(), e.attempt(), e.fireTime(),
+                e.durationMs(), e.errorMessage(), e.willRetry(), e.workflowRunId(), e.occurredAt(), delivery.missed());
+    }
+
+    /**
+     * @param jobs the workflow's jobs by id; steps whose job has been deleted have a
+     *             {@code null} job
+     */
+    public WorkflowDto toDto(Workflow workflow, List<WorkflowStep> steps, Map<UUID, JobDefinition> jobs) {
+        List<WorkflowStepDto> stepDtos = steps.stream()
+                .sorted(Comparator.comparing((WorkflowStep step) -> step.upstreamJobIds().size()).thenComparing(WorkflowStep::jobId))
+                .map(step -> new WorkflowStepDto(
+                        jobs.containsKey(step.jobId()) ? toDto(jobs.get(step.jobId())) : null,
+                        step.jobId(),
+                        step.upstreamJobIds()))
+                .toList();
+        return new WorkflowDto(workflow.id(), workflow.name(), workflow.rootJobId(), stepDtos, workflow.createdAt());
+    }
+
+    public WorkflowRunDto toDto(WorkflowRun run, List<WorkflowRunStep> steps) {
+        List<WorkflowRunStepDto> stepDtos = steps.stream()
+                .sorted(Comparator.comparing(WorkflowRunStep::startedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(WorkflowRunStep::jobId))
+                .map(s -> new WorkflowRunStepDto(s.jobId(), s.status().name(), s.pendingUpstreams(),
+                        s.startedAt(), s.finishedAt()))
+                .toList();
+        Long durationMs = run.finishedAt() == null ? null
+                : Duration.between(run.startedAt(), run.finishedAt()).toMillis();
+        return new WorkflowRunDto(run.id(), run.workflowId(), run.status().name(), run.pendingSteps(),
+                run.startedAt(), run.finishedAt(), durationMs, stepDtos);
+    }
 }
@@ -0,0 +1,150 @@
+package com.example.scheduler.application.service;
+
+import com.example.scheduler.application.dto.BulkJobResultDto;
+import com.example.scheduler.application.dto.ConnectionDto;
+import com.example.scheduler.application.dto.DeadLetterDto;
+import com.example.scheduler.application.mapper.JobMapper;
+import com.example.scheduler.config.BulkProperties;
+import com.example.scheduler.config.RetryProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.infrastructure.cluster.ClusterLock;
+import com.example.scheduler.infrastructure.persistence.deadletter.DeadLetterEntry;
+import com.example.scheduler.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.example.scheduler.infrastructure.quartz.JobFire;
+import com.example.scheduler.infrastructure.retry.JobRetryScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lists, replays and expires fires that exhausted their retries.
+ *
+ * <p>A replay runs the stored payload once more under the job's current settings, as
+ * attempt 1 with a fresh set of retries, through the same one-shot fire the retries use.
+ * Each entry is claimed before it is scheduled, so it is replayed at most once per call
+ * even when several callers race; replayed entries stay listed with
+ * {@code includeReplayed} until retention removes them: entries older than
+ * {@code scheduler.retry.dead-letter-retention} are deleted every {@code dead-letter-purge-cron},
+ * under a cluster lock.
+ */
+@Slf4j
+@Service
+public class DeadLetterService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String PURGE_LOCK_NAME = "dead-letter-purge";
+
+    private final DeadLetterRepository deadLetters;
+    private final JobDefinitionRepositoryPort jobRepo;
+    private final ObjectProvider<JobRetryScheduler> retryScheduler;
+    private final JobMapper jobMapper;
+    private final BulkProperties bulkProperties;
+    private final RetryProperties retryProperties;
+    private final ClusterLock clusterLock;
+
+    public DeadLetterService(DeadLetterRepository deadLetters,
+                             JobDefinitionRepositoryPort jobRepo,
+                             ObjectProvider<JobRetryScheduler> retryScheduler,
+                             JobMapper jobMapper,
+                             BulkProperties bulkProperties,
+                             RetryProperties retryProperties,
+                             ClusterLock clusterLock) {
+        this.deadLetters = deadLetters;
+        this.jobRepo = jobRepo;
+        this.retryScheduler = retryScheduler;
+        this.jobMapper = jobMapper;
+        this.bulkProperties = bulkProperties;
+        this.retryProperties = retryProperties;
+        this.clusterLock = clusterLock;
+    }
+
+    public ConnectionDto<DeadLetterDto> list(UUID jobId, boolean includeReplayed, Integer first, String after) {
+        int limit = pageSize(first);
+        KeysetCursor cursor = after != null ? KeysetCursor.decode(after) : null;
+        List<DeadLetterEntry> rows = deadLetters.findPage(jobId, includeReplayed,
+                cursor != null ? cursor.timestamp() : null,
+                cursor != null ? cursor.id() : null,
+                limit + 1);
+        return jobMapper.toConnection(rows, limit,
+                entry -> new KeysetCursor(entry.failedAt(), entry.id()),
+                jobMapper::toDto);
+    }
+
+    public List<BulkJobResultDto> replay(List<UUID> ids) {
+        if (ids.size() > bulkProperties.getMaxItems()) {
+            throw new IllegalArgumentException("At most " + bulkProperties.getMaxItems() + " items per bulk mutation");
+        }
+        JobRetryScheduler scheduler = retryScheduler.getIfAvailable();
+        if (scheduler == null) {
+            throw new IllegalStateException("No retry scheduler for the configured engine");
+        }
+        Map<UUID, DeadLetterEntry> entries = deadLetters.findByIds(ids.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(DeadLetterEntry::id, Function.identity()));
+
+        List<BulkJobResultDto> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            DeadLetterEntry entry = entries.get(id);
+            if (entry == null) {
+                results.add(BulkJobResultDto.failure(i, id, "Dead letter not found: " + id));
+                continue;
+            }
+            JobDefinition job = jobRepo.findById(new JobId(entry.jobId())).orElse(null);
+            if (job == null || job.getStatus() == JobStatus.DELETED) {
+                results.add(BulkJobResultDto.failure(i, id, "Job not found: " + entry.jobId()));
+                continue;
+            }
+            if (!deadLetters.claimReplay(id)) {
+                results.add(BulkJobResultDto.failure(i, id, "Dead letter already replayed: " + id));
+                continue;
+            }
+            Date now = new Date();
+            try {
+                scheduler.schedule(JobFire.of(job, entry.payload(), 1, now, null, null), now.toInstant());
+            } catch (RuntimeException e) {
+                deadLetters.unclaimReplay(id);
+                results.add(BulkJobResultDto.failure(i, id, e.getMessage()));
+                continue;
+            }
+            results.add(new BulkJobResultDto(i, id, true, null, jobMapper.toDto(job)));
+        }
+        log.info("♻️ Replayed {} of {} dead letters", results.stream().filter(BulkJobResultDto::isSuccess).count(),
+                ids.size());
+        return results;
+    }
+
+    @Scheduled(cron = "${scheduler.retry.dead-letter-purge-cron:0 25 * * * *}")
+    public void purge() {
+        if (!clusterLock.runExclusively(PURGE_LOCK_NAME, () -> {
+            int purged = deadLetters.purge(Instant.now().minus(retryProperties.getDeadLetterRetention()));
+            log.info("🗂️ Dead letters: {} past retention deleted", purged);
+        })) {
+            log.debug("Another node is purging dead letters");
+        }
+    }
+
+    private static int pageSize(Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return first;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.scheduler.application.service;
+
+import com.example.scheduler.application.dto.ExecutionEventDto;
+import com.example.scheduler.application.mapper.JobMapper;
+import com.example.scheduler.domain.model.enums.ExecutionEventType;
+import com.example.scheduler.infrastructure.events.ExecutionEvent;
+import com.example.scheduler.infrastructure.events.ExecutionEventBus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Live execution events for dashboards and tooling, in place of polling the execution
+ * log. Filters run where the events are published, so a subscriber only pays for the
+ * events it asked for.
+ */
+@Service
+public class ExecutionEventService {
+
+    private final ExecutionEventBus bus;
+    private final JobMapper jobMapper;
+
+    public ExecutionEventService(ExecutionEventBus bus, JobMapper jobMapper) {
+        this.bus = bus;
+        this.jobMapper = jobMapper;
+    }
+
+    /**
+     * @param jobId  only events of this job, or {@code null} for all
+     * @param tenant only events of this tenant, or {@code null} for all
+     * @param types  only these event types, or {@code null} / empty for all
+     */
+    public Flux<ExecutionEventDto> subscribe(UUID jobId, String tenant, List<String> types) {
+        Set<ExecutionEventType> wanted = EnumSet.allOf(ExecutionEventType.class);
+        if (types != null && !types.isEmpty()) {
+            wanted.clear();
+            for (String type : types) {
+                try {
+                    wanted.add(ExecutionEventType.valueOf(type));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Unknown execution event type: " + type);
+                }
+            }
+        }
+        Predicate<ExecutionEvent> filter = event -> wanted.contains(event.type())
+                && (jobId == null || jobId.equals(event.jobId()))
+                && (tenant == null || tenant.equals(event.tenant()));
+        return bus.subscribe(filter).map(jobMapper::toDto);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.scheduler.application.service;
+
+import com.example.scheduler.application.dto.BulkJobResultDto;
+import com.example.scheduler.application.dto.CreateJobRequestDto;
+import com.example.scheduler.application.dto.JobResponseDto;
+import com.example.scheduler.application.mapper.JobMapper;
+import com.example.scheduler.config.BulkProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.domain.port.JobSchedulerPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bulk variants of the job mutations. Items are validated one by one, then written in
+ * chunks of {@code scheduler.bulk.chunk-size}: each chunk is one transaction of batched
+ * job_definition statements, followed by the chunk's {@link JobSchedulerPort} call.
+ * Results come back per input item; a chunk that fails marks only its own items as failed.
+ *
+ * <p>A chunk is not atomic across both stores. Quartz's Scheduler API commits on its own
+ * DataSource: createJobs and deleteJobs (one Scheduler call per chunk) and misfired
+ * resumes are committed before the chunk's transaction. If the Scheduler call fails, the
+ * chunk's definitions roll back; if the chunk's commit fails after it, Quartz keeps the
+ * change and startup reconciliation repairs it (orphaned triggers removed, stale
+ * version tags rescheduled). Plain pauses and resumes update the trigger rows inside the
+ * chunk's transaction and commit with it.
+ */
+@Slf4j
+@Service
+public class JobBulkService {
+
+    private final JobDefinitionRepositoryPort jobRepo;
+    private final JobSchedulerPort schedulerPort;
+    private final JobMapper jobMapper;
+    private final JobHandlerRegistry handlerRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkProperties properties;
+
+    public JobBulkService(JobDefinitionRepositoryPort jobRepo,
+                          JobSchedulerPort schedulerPort,
+                          JobMapper jobMapper,
+                          JobHandlerRegistry handlerRegistry,
+                          TransactionTemplate transactionTemplate,
+                          BulkProperties properties) {
+        this.jobRepo = jobRepo;
+        this.schedulerPort = schedulerPort;
+        this.jobMapper = jobMapper;
+        this.handlerRegistry = handlerRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    public List<BulkJobResultDto> createJobs(List<CreateJobRequestDto> requests) {
+        checkSize(requests);
+        BulkJobResultDto[] results = new BulkJobResultDto[requests.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<JobDefinition> jobs = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                JobDefinition job = jobMapper.toDomain(requests.get(i));
+                if (!handlerRegistry.supports(job.getJobType())) {
+                    throw new IllegalArgumentException("Unknown job type: " + job.getJobType());
+                }
+                indexes.add(i);
+                jobs.add(job);
+            } catch (IllegalArgumentException e) {
+                results[i] = BulkJobResultDto.failure(i, null, e.getMessage());
+            }
+        }
+
+        for (int from = 0; from < jobs.size(); from += properties.getChunkSize()) {
+            int to = Math.min(from + properties.getChunkSize(), jobs.size());
+            List<JobDefinition> chunk = jobs.subList(from, to);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobRepo.insertAll(chunk);
+                    schedulerPort.scheduleJobs(chunk);
+                });
+                for (int k = from; k < to; k++) {
+                    results[indexes.get(k)] = BulkJobResultDto.success(indexes.get(k), jobMapper.toDto(jobs.get(k)));
+                }
+            } catch (RuntimeException e) {
+                log.warn("❌ createJobs chunk of {} failed: {}", chunk.size(), e.getMessage());
+                for (int k = from; k < to; k++) {
+                    results[indexes.get(k)] = BulkJobResultDto.failure(indexes.get(k), jobs.get(k).getId(), message(e));
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    public List<BulkJobResultDto> pauseJobs(List<UUID> ids) {
+        return changeStatus(ids, JobStatus.PAUSED, schedulerPort::pauseJobs);
+    }
+
+    public List<BulkJobResultDto> resumeJobs(List<UUID> ids) {
+        return changeStatus(ids, JobStatus.ACTIVE, schedulerPort::resumeJobs);
+    }
+
+    /** Workflow jobs fail on their own: they are deleted with their workflow by {@code deleteWorkflow}. */
+    public List<BulkJobResultDto> deleteJobs(List<UUID> ids) {
+        checkSize(ids);
+        Function<JobDefinition, String> workflowJob = job -> job.getWorkflowId() == null ? null
+                : "Job " + job.getId() + " belongs to workflow " + job.getWorkflowId()
+                        + "; delete it with deleteWorkflow.";
+        return forEachChunk(ids, workflowJob, found -> {
+            List<UUID> foundIds = found.stream().map(JobDefinition::getId).toList();
+            jobRepo.deleteAll(foundIds);
+            schedulerPort.deleteJobs(foundIds);
+        });
+    }
+
+    private List<BulkJobResultDto> changeStatus(List<UUID> ids, JobStatus target,
+                                                Consumer<Collection<JobDefinition>> quartzUpdate) {
+        checkSize(ids);
+        Instant now = Instant.now();
+        return forEachChunk(ids, found -> {
+            List<UUID> foundIds = found.stream().map(JobDefinition::getId).toList();
+            jobRepo.updateStatus(foundIds, target, now);
+            for (JobDefinition job : found) {
+                job.setStatus(target);
+                job.setUpdatedAt(now);
+                job.nextVersion();
+            }
+            quartzUpdate.accept(found);
+        });
+    }
+
+    private List<BulkJobResultDto> forEachChunk(List<UUID> ids, Consumer<List<JobDefinition>> action) {
+        return forEachChunk(ids, job -> null, action);
+    }
+
+    /**
+     * Loads each chunk of distinct ids, applies {@code action} to the jobs that exist in
+     * one transaction and maps the outcome back onto every input position.
+     *
+     * @param reject error for a job that must be left out of {@code action}, or {@code null}
+     */
+    private List<BulkJobResultDto> forEachChunk(List<UUID> ids, Function<JobDefinition, String> reject,
+                                                Consumer<List<JobDefinition>> action) {
+        List<UUID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<UUID, JobResponseDto> done = new HashMap<>();
+        Map<UUID, String> errors = new HashMap<>();
+
+        for (int from = 0; from < distinct.size(); from += properties.getChunkSize()) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + properties.getChunkSize(), distinct.size()));
+            try {
+                List<JobDefinition> found = transactionTemplate.execute(status -> {
+                    List<JobDefinition> jobs = new ArrayList<>();
+                    for (JobDefinition job : jobRepo.findAllById(chunk)) {
+                        String error = reject.apply(job);
+                        if (error != null) {
+                            errors.put(job.getId(), error);
+                        } else {
+                            jobs.add(job);
+                        }
+                    }
+                    action.accept(jobs);
+                    return jobs;
+                });
+                found.forEach(job -> done.put(job.getId(), jobMapper.toDto(job)));
+            } catch (RuntimeException e) {
+                log.warn("❌ Bulk chunk of {} jobs failed: {}", chunk.size(), e.getMessage());
+                chunk.forEach(id -> errors.putIfAbsent(id, message(e)));
+            }
+        }
+
+        List<BulkJobResultDto> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            JobResponseDto job = done.get(id);
+            if (job != null) {
+                results.add(BulkJobResultDto.success(i, job));
+            } else {
+                results.add(BulkJobResultDto.failure(i, id, errors.getOrDefault(id, "Job not found: " + id)));
+            }
+        }
+        return results;
+    }
+
+    private void checkSize(Collection<?> items) {
+        if (items.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxItems() + " items per bulk mutation");
+        }
+    }
+
+    private static String message(RuntimeException e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.scheduler.application.service;
+
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.port.JobHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable {@code jobType -> handler} table built once from every {@link JobHandler}
+ * bean. Each entry carries a pre-built Jackson reader for the handler's payload type,
+ * so a fire costs one map probe plus one parse.
+ */
+@Slf4j
+@Component
+public class JobHandlerRegistry {
+
+    private final Map<String, RegisteredHandler<?>> handlers;
+
+    public JobHandlerRegistry(List<JobHandler<?>> handlerBeans, ObjectMapper objectMapper) {
+        Map<String, RegisteredHandler<?>> table = new HashMap<>();
+        for (JobHandler<?> handler : handlerBeans) {
+            RegisteredHandler<?> previous = table.put(handler.type(), register(handler, objectMapper));
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate JobHandler for type '" + handler.type() + "': "
+                        + previous.handler().getClass().getName() + ", " + handler.getClass().getName());
+            }
+        }
+        this.handlers = Map.copyOf(table);
+        log.info("Registered job handlers: {}", handlers.keySet());
+    }
+
+    /** @return the handler for {@code jobType}, or {@code null} if none is registered */
+    public RegisteredHandler<?> resolve(String jobType) {
+        return handlers.get(jobType);
+    }
+
+    public boolean supports(String jobType) {
+        return handlers.containsKey(jobType);
+    }
+
+    public Set<String> types() {
+        return handlers.keySet();
+    }
+
+    private static <P> RegisteredHandler<P> register(JobHandler<P> handler, ObjectMapper objectMapper) {
+        return new RegisteredHandler<>(handler, objectMapper.readerFor(handler.payloadType()));
+    }
+
+    public record RegisteredHandler<P>(JobHandler<P> handler, ObjectReader payloadReader) {
+
+        /** Parses the raw JSON payload once and hands the typed value to the handler. */
+        public void invoke(JobId jobId, String payloadJson) throws Exception {
+            P payload = payloadJson == null ? null : payloadReader.readValue(payloadJson);
+            handler.handle(jobId, payload);
+        }
+    }
+}
@@ -1,43 +1,65 @@
 package com.example.scheduler.application.service;
 
+import com.example.scheduler.application.dto.ConnectionDto;
 import com.example.scheduler.application.dto.CreateJobRequestDto;
+import com.example.scheduler.application.dto.ExecutionLogFilterDto;
 import com.example.scheduler.application.dto.ExecutionLogResponseDto;
+import com.example.scheduler.application.dto.JobFilterDto;
 import com.example.scheduler.application.dto.JobResponseDto;
 import com.example.scheduler.application.mapper.JobMapper;
 import com.example.scheduler.domain.model.JobDefinition;
 import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.model.enums.JobField;
 import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
 import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
 import com.example.scheduler.domain.port.JobSchedulerPort;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
 import com.example.scheduler.infrastructure.persistence.repository.JobExecutionLogJpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class JobSchedulingService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_RECENT_EXECUTIONS = 100;
+
     private final JobDefinitionRepositoryPort jobRepo;
     private final JobSchedulerPort schedulerPort;
     private final JobExecutionLogJpaRepository executionLogRepo;
     private final JobMapper jobMapper;
+    private final JobHandlerRegistry handlerRegistry;
 
     public JobSchedulingService(JobDefinitionRepositoryPort jobRepo,
                                 JobSchedulerPort schedulerPort,
                                 JobExecutionLogJpaRepository executionLogRepo,
-                                JobMapper jobMapper) {
+                                JobMapper jobMapper,
+                                JobHandlerRegistry handlerRegistry) {
         this.jobRepo = jobRepo;
         this.schedulerPort = schedulerPort;
         this.executionLogRepo = executionLogRepo;
         this.jobMapper = jobMapper;
+        this.handlerRegistry = handlerRegistry;
     }
 
     @Transactional
     public JobResponseDto createJob(CreateJobRequestDto request) {
         JobDefinition job = jobMapper.toDomain(request);
+        if (!handlerRegistry.supports(job.getJobType())) {
+            throw new IllegalArgumentException("Unknown job type: " + job.getJobType());
+        }
         JobDefinition saved = jobRepo.save(job);
         schedulerPort.scheduleJob(saved);
         return jobMapper.toDto(saved);
@@ -48,8 +70,9 @@ public class JobSchedulingService {
         JobDefinition job = getJob(jobId);
         job.setStatus(JobStatus.PAUSED);
         job.setUpdatedAt(Instant.now());
+        job.nextVersion();
         JobDefinition saved = jobRepo.save(job);
-        schedulerPort.pauseJob(jobId.toString());
+        schedulerPort.pauseJob(saved);
         return jobMapper.toDto(saved);
     }
 
@@ -58,22 +81,43 @@ public class JobSchedulingService {
         JobDefinition job = getJob(jobId);
         job.setStatus(JobStatus.ACTIVE);
         job.setUpdatedAt(Instant.now());
+        job.nextVersion();
         JobDefinition saved = jobRepo.save(job);
-        schedulerPort.resumeJob(jobId.toString());
+        schedulerPort.resumeJob(saved);
         return jobMapper.toDto(saved);
     }
 
+    /** Workflow jobs are rejected: they are deleted with their workflow by {@code deleteWorkflow}. */
     @Transactional
     public void deleteJob(UUID jobId) {
+        jobRepo.findById(new JobId(jobId))
+                .filter(job -> job.getWorkflowId() != null)
+                .ifPresent(job -> {
+                    throw new IllegalArgumentException("Job " + jobId + " belongs to workflow "
+                            + job.getWorkflowId() + "; delete it with deleteWorkflow.");
+                });
         jobRepo.delete(new JobId(jobId));
         schedulerPort.deleteJob(jobId.toString());
     }
 
+    /**
+     * @param fields names of the job fields to return; others are not read and left
+     *               {@code null} (names that are not job definition fields are ignored)
+     */
     @Transactional(readOnly = true)
-    public List<JobResponseDto> listJobs() {
-        return jobRepo.findAll().stream()
-                .map(jobMapper::toDto)
-                .toList();
+    public ConnectionDto<JobResponseDto> listJobs(JobFilterDto filter, Integer first, String after,
+                                                  Collection<String> fields) {
+        int limit = pageSize(first);
+        JobFilterDto f = filter != null ? filter : new JobFilterDto();
+        List<JobDefinition> rows = jobRepo.findPage(
+                f.getStatus() != null ? JobStatus.valueOf(f.getStatus()) : null,
+                f.getScheduleType() != null ? ScheduleType.valueOf(f.getScheduleType()) : null,
+                after != null ? KeysetCursor.decode(after) : null,
+                limit + 1,
+                JobField.named(fields));
+        return jobMapper.toConnection(rows, limit,
+                job -> new KeysetCursor(job.getCreatedAt(), job.getId()),
+                jobMapper::toDto);
     }
 
     @Transactional(readOnly = true)
@@ -81,16 +125,91 @@ public class JobSchedulingService {
         return jobMapper.toDto(getJob(id));
     }
 
+    /**
+     * @return the payload of each job that has one: its own if loaded, else from the
+     *         payload store
+     */
+    public Map<JobResponseDto, String> payloads(List<JobResponseDto> jobs) {
+        Map<String, String> loaded = jobRepo.findPayloads(jobs.stream()
+                .filter(job -> job.getPayload() == null && job.getPayloadRef() != null)
+                .map(JobResponseDto::getPayloadRef)
+                .distinct()
+                .toList());
+        Map<JobResponseDto, String> payloads = new HashMap<>();
+        for (JobResponseDto job : jobs) {
+            String payload = job.getPayload() != null || job.getPayloadRef() == null
+                    ? job.getPayload()
+                    : loaded.get(job.getPayloadRef());
+            if (payload != null) {
+                payloads.put(job, payload);
+            }
+        }
+        return payloads;
+    }
+
     @Transactional
     public void runJobNow(UUID id) {
         schedulerPort.runNow(id.toString());
     }
 
     @Transactional(readOnly = true)
-    public List<ExecutionLogResponseDto> getExecutionLogs(UUID jobId) {
-        return executionLogRepo.findByJobIdOrderByFireTimeDesc(jobId).stream()
-                .map(jobMapper::toDto)
-                .toList();
+    public ConnectionDto<ExecutionLogResponseDto> getExecutionLogs(UUID jobId, ExecutionLogFilterDto filter,
+                                                                   Integer first, String after) {
+        int limit = pageSize(first);
+        ExecutionLogFilterDto f = filter != null ? filter : new ExecutionLogFilterDto();
+        List<JobExecutionLogEntity> rows = executionLogRepo.findPage(
+                jobId,
+                f.getStatus(),
+                parseInstant(f.getFireTimeFrom()),
+                parseInstant(f.getFireTimeTo()),
+                after != null ? KeysetCursor.decode(after) : null,
+                limit + 1);
+        return jobMapper.toConnection(rows, limit,
+                log -> new KeysetCursor(log.getFireTime(), log.getId()),
+                jobMapper::toDto);
+    }
+
+    /**
+     * The latest {@code limit} executions of each job, newest first, in one query; jobs
+     * that have not run map to an empty list.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<ExecutionLogResponseDto>> recentExecutions(Collection<UUID> jobIds, int limit) {
+        if (limit < 1 || limit > MAX_RECENT_EXECUTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_RECENT_EXECUTIONS);
+        }
+        Map<UUID, List<ExecutionLogResponseDto>> recent = new HashMap<>();
+        jobIds.forEach(jobId -> recent.put(jobId, new ArrayList<>(limit)));
+        for (JobExecutionLogEntity log : executionLogRepo.findRecent(jobIds, limit)) {
+            recent.get(log.getJobId()).add(jobMapper.toDto(log));
+        }
+        return recent;
+    }
+
+    /** @return the scheduler state of each job's trigger, in one job-store lookup */
+    public Map<UUID, String> quartzStates(Collection<UUID> jobIds) {
+        return schedulerPort.getQuartzStates(jobIds);
+    }
+
+    private static int pageSize(Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return first;
+    }
+
+    private static Instant parseInstant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid ISO-8601 instant: " + value, e);
+        }
     }
 
     private JobDefinition getJob(UUID id) {
@@ -0,0 +1,94 @@
+package com.example.scheduler.application.service;
+
+import com.example.scheduler.application.dto.JobStatsBucketDto;
+import com.example.scheduler.application.dto.JobStatsDto;
+import com.example.scheduler.config.ExecutionLogProperties;
+import com.example.scheduler.domain.model.enums.StatsGranularity;
+import com.example.scheduler.infrastructure.persistence.stats.DurationHistogram;
+import com.example.scheduler.infrastructure.persistence.stats.ExecutionStatsBucket;
+import com.example.scheduler.infrastructure.persistence.stats.ExecutionStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job health over a time range, read only from the minute and hour rollups; the raw
+ * execution log is never scanned. Range totals merge the buckets' histograms, so their
+ * percentiles are as accurate as a single bucket's.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobStatsService {
+
+    private final ExecutionStatsRepository statsRepository;
+    private final ExecutionLogProperties properties;
+
+    public JobStatsDto getJobStats(UUID jobId, String from, String to, String granularity) {
+        StatsGranularity g = parseGranularity(granularity);
+        Instant start = parseInstant(from).truncatedTo(g.unit());
+        Instant requestedEnd = parseInstant(to);
+        Instant end = requestedEnd.truncatedTo(g.unit());
+        if (end.isBefore(requestedEnd)) {
+            end = end.plus(1, g.unit());
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        int maxBuckets = properties.getStats().getMaxBuckets();
+        if (g.unit().between(start, end) > maxBuckets) {
+            throw new IllegalArgumentException("Range spans more than " + maxBuckets + " "
+                    + g.name().toLowerCase() + " buckets; use a coarser granularity or a shorter range");
+        }
+
+        ExecutionStatsBucket total = new ExecutionStatsBucket(jobId, start);
+        List<JobStatsBucketDto> buckets = new ArrayList<>();
+        for (ExecutionStatsBucket bucket : statsRepository.find(jobId, g, start, end)) {
+            total.merge(bucket);
+            buckets.add(toDto(bucket));
+        }
+        return new JobStatsDto(jobId, g.name(), start, end, toDto(total), buckets);
+    }
+
+    private static JobStatsBucketDto toDto(ExecutionStatsBucket b) {
+        long finished = b.getSuccessCount() + b.getFailedCount() + b.getTimedOutCount();
+        DurationHistogram histogram = b.getHistogram();
+        Long max = b.getDurationMaxMs();
+        return new JobStatsBucketDto(
+                b.getBucketStart(),
+                b.getSuccessCount(),
+                b.getFailedCount(),
+                b.getSkippedCount(),
+                b.getTimedOutCount(),
+                finished == 0 ? null : (double) b.getSuccessCount() / finished,
+                b.getDurationCount() == 0 ? null : (double) b.getDurationSumMs() / b.getDurationCount(),
+                histogram.percentile(0.50, max),
+                histogram.percentile(0.90, max),
+                histogram.percentile(0.95, max),
+                histogram.percentile(0.99, max),
+                max);
+    }
+
+    private static StatsGranularity parseGranularity(String value) {
+        if (value == null) {
+            return StatsGranularity.HOUR;
+        }
+        try {
+            return StatsGranularity.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown granularity: " + value, e);
+        }
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid ISO-8601 instant: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.scheduler.application.service;
+
+import com.example.scheduler.application.dto.ConnectionDto;
+import com.example.scheduler.application.dto.CreateWorkflowRequestDto;
+import com.example.scheduler.application.dto.WorkflowDto;
+import com.example.scheduler.application.dto.WorkflowRunDto;
+import com.example.scheduler.application.dto.WorkflowStepInputDto;
+import com.example.scheduler.application.mapper.JobMapper;
+import com.example.scheduler.config.WorkflowProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.domain.port.JobSchedulerPort;
+import com.example.scheduler.infrastructure.persistence.workflow.Workflow;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRepository;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRun;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRunStep;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowStep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates, lists and deletes workflows: DAGs of jobs in which each step runs as soon as
+ * all of its upstream steps have succeeded.
+ *
+ * <p>A workflow has exactly one root step, a job with a schedule of its own; every fire
+ * of the root that succeeds starts a run. All other steps are jobs with schedule type
+ * WORKFLOW, which never fire on their own. The jobs are ordinary jobs otherwise: they
+ * have their own handler, payload, timeout, retries, priority and execution log.
+ */
+@Slf4j
+@Service
+public class WorkflowService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final WorkflowRepository workflows;
+    private final JobDefinitionRepositoryPort jobRepo;
+    private final JobSchedulerPort schedulerPort;
+    private final JobMapper jobMapper;
+    private final JobHandlerRegistry handlerRegistry;
+    private final WorkflowProperties properties;
+
+    public WorkflowService(WorkflowRepository workflows,
+                           JobDefinitionRepositoryPort jobRepo,
+                           JobSchedulerPort schedulerPort,
+                           JobMapper jobMapper,
+                           JobHandlerRegistry handlerRegistry,
+                           WorkflowProperties properties) {
+        this.workflows = workflows;
+        this.jobRepo = jobRepo;
+        this.schedulerPort = schedulerPort;
+        this.jobMapper = jobMapper;
+        this.handlerRegistry = handlerRegistry;
+        this.properties = properties;
+    }
+
+    @Transactional
+    public WorkflowDto create(CreateWorkflowRequestDto request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("Workflow name is required.");
+        }
+        List<WorkflowStepInputDto> inputs = request.getSteps() == null ? List.of() : request.getSteps();
+        if (inputs.size() < 2 || inputs.size() > properties.getMaxSteps()) {
+            throw new IllegalArgumentException("A workflow has between 2 and " + properties.getMaxSteps() + " steps.");
+        }
+
+        UUID workflowId = UUID.randomUUID();
+        Map<String, JobDefinition> jobsByKey = new LinkedHashMap<>();
+        Map<String, List<String>> upstreams = new HashMap<>();
+        String rootKey = null;
+        for (WorkflowStepInputDto input : inputs) {
+            String key = input.getKey();
+            if (key == null || key.isBlank()) {
+                throw new IllegalArgumentException("Every step needs a key.");
+            }
+            if (jobsByKey.containsKey(key)) {
+                throw new IllegalArgumentException("Duplicate step key: " + key);
+            }
+            if (input.getJob() == null) {
+                throw new IllegalArgumentException("Step " + key + " has no job.");
+            }
+            JobDefinition job = jobMapper.toDomain(input.getJob(), workflowId);
+            if (!handlerRegistry.supports(job.getJobType())) {
+                throw new IllegalArgumentException("Unknown job type: " + job.getJobType());
+            }
+            List<String> dependsOn = input.getDependsOn() == null ? List.of() : input.getDependsOn();
+            if (dependsOn.isEmpty()) {
+                if (rootKey != null) {
+                    throw new IllegalArgumentException("Steps " + rootKey + " and " + key
+                            + " both have no dependencies; a workflow has exactly one root.");
+                }
+                if (job.isWorkflowSchedule()) {
+                    throw new IllegalArgumentException("Root step " + key + " needs a CRON, FIXED_RATE or FIXED_DELAY schedule.");
+                }
+                rootKey = key;
+            } else if (!job.isWorkflowSchedule()) {
+                throw new IllegalArgumentException("Step " + key + " has dependencies, so its schedule type must be WORKFLOW.");
+            }
+            jobsByKey.put(key, job);
+            upstreams.put(key, dependsOn.stream().distinct().toList());
+        }
+        if (rootKey == null) {
+            throw new IllegalArgumentException("A workflow needs one root step without dependencies.");
+        }
+        checkAcyclic(upstreams, jobsByKey.keySet());
+
+        Workflow workflow = new Workflow(workflowId, request.getName(), jobsByKey.get(rootKey).getId(), Instant.now());
+        List<WorkflowStep> steps = new ArrayList<>(jobsByKey.size());
+        jobsByKey.forEach((key, job) -> steps.add(new WorkflowStep(workflowId, job.getId(),
+                upstreams.get(key).stream().map(upstream -> jobsByKey.get(upstream).getId()).toList())));
+
+        List<JobDefinition> jobs = List.copyOf(jobsByKey.values());
+        jobRepo.insertAll(jobs);
+        workflows.insert(workflow, steps);
+        schedulerPort.scheduleJobs(jobs);
+        log.info("🧬 Created workflow {} '{}' with {} steps", workflowId, workflow.name(), steps.size());
+        return jobMapper.toDto(workflow, steps, jobs.stream().collect(Collectors.toMap(JobDefinition::getId, Function.identity())));
+    }
+
+    @Transactional(readOnly = true)
+    public WorkflowDto get(UUID id) {
+        return workflows.findById(id).map(workflow -> toDtos(List.of(workflow)).get(0)).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public ConnectionDto<WorkflowDto> list(Integer first, String after) {
+        int limit = pageSize(first);
+        KeysetCursor cursor = after != null ? KeysetCursor.decode(after) : null;
+        List<Workflow> rows = workflows.findPage(
+                cursor != null ? cursor.timestamp() : null,
+                cursor != null ? cursor.id() : null,
+                limit + 1);
+        List<WorkflowDto> dtos = toDtos(rows.subList(0, Math.min(limit, rows.size())));
+        Map<UUID, WorkflowDto> byId = dtos.stream().collect(Collectors.toMap(WorkflowDto::getId, Function.identity()));
+        return jobMapper.toConnection(rows, limit,
+                workflow -> new KeysetCursor(workflow.createdAt(), workflow.id()),
+                workflow -> byId.get(workflow.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public ConnectionDto<WorkflowRunDto> runs(UUID workflowId, Integer first, String after) {
+        int limit = pageSize(first);
+        KeysetCursor cursor = after != null ? KeysetCursor.decode(after) : null;
+        List<WorkflowRun> rows = workflows.findRunPage(workflowId,
+                cursor != null ? cursor.timestamp() : null,
+                cursor != null ? cursor.id() : null,
+                limit + 1);
+        Map<UUID, List<WorkflowRunStep>> steps = rows.isEmpty() ? Map.of()
+                : workflows.findRunSteps(rows.stream().map(WorkflowRun::id).toList()).stream()
+                        .collect(Collectors.groupingBy(WorkflowRunStep::runId));
+        return jobMapper.toConnection(rows, limit,
+                run -> new KeysetCursor(run.startedAt(), run.id()),
+                run -> jobMapper.toDto(run, steps.getOrDefault(run.id(), List.of())));
+    }
+
+    /** Deletes the workflow, its runs and all of its jobs. */
+    @Transactional
+    public boolean delete(UUID id) {
+        List<UUID> jobIds = workflows.findSteps(List.of(id)).stream().map(WorkflowStep::jobId).toList();
+        if (!workflows.delete(id)) {
+            return false;
+        }
+        jobRepo.deleteAll(jobIds);
+        schedulerPort.deleteJobs(jobIds);
+        log.info("🧬 Deleted workflow {} and its {} jobs", id, jobIds.size());
+        return true;
+    }
+
+    /** Kahn's algorithm: every step must be reachable by removing steps whose upstreams are gone. */
+    private static void checkAcyclic(Map<String, List<String>> upstreams, Iterable<String> keys) {
+        Map<String, Integer> pending = new HashMap<>();
+        Map<String, List<String>> downstreams = new HashMap<>();
+        Deque<String> ready = new ArrayDeque<>();
+        for (String key : keys) {
+            for (String upstream : upstreams.get(key)) {
+                if (!upstreams.containsKey(upstream)) {
+                    throw new IllegalArgumentException("Step " + key + " depends on unknown step " + upstream);
+                }
+                if (upstream.equals(key)) {
+                    throw new IllegalArgumentException("Step " + key + " depends on itself");
+                }
+                downstreams.computeIfAbsent(upstream, k -> new ArrayList<>()).add(key);
+            }
+            pending.put(key, upstreams.get(key).size());
+            if (upstreams.get(key).isEmpty()) {
+                ready.add(key);
+            }
+        }
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            String key = ready.poll();
+            visited++;
+            for (String downstream : downstreams.getOrDefault(key, List.of())) {
+                if (pending.merge(downstream, -1, Integer::sum) == 0) {
+                    ready.add(downstream);
+                }
+            }
+        }
+        if (visited < pending.size()) {
+            List<String> cycle = pending.entrySet().stream().filter(e -> e.getValue() > 0).map(Map.Entry::getKey)
+                    .sorted().toList();
+            throw new IllegalArgumentException("Workflow steps form a cycle: " + cycle);
+        }
+    }
+
+    private List<WorkflowDto> toDtos(List<Workflow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<WorkflowStep>> steps = workflows.findSteps(rows.stream().map(Workflow::id).toList()).stream()
+                .collect(Collectors.groupingBy(WorkflowStep::workflowId));
+        Map<UUID, JobDefinition> jobs = jobRepo.findAllById(steps.values().stream()
+                        .flatMap(List::stream).map(WorkflowStep::jobId).toList()).stream()
+                .collect(Collectors.toMap(JobDefinition::getId, Function.identity()));
+        return rows.stream()
+                .map(workflow -> jobMapper.toDto(workflow, steps.getOrDefault(workflow.id(), List.of()), jobs))
+                .toList();
+    }
+
+    private static int pageSize(Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return first;
+    }
+}
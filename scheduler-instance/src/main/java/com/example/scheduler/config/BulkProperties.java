@@ -0,0 +1,21 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulk job mutations (createJobs, pauseJobs, resumeJobs, deleteJobs).
+ * Bound to {@code scheduler.bulk.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.bulk")
+public class BulkProperties {
+
+    /** Items written per transaction; a failing chunk fails only its own items. */
+    private int chunkSize = 1_000;
+
+    /** Largest number of items accepted by one mutation. */
+    private int maxItems = 10_000;
+}
@@ -0,0 +1,57 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Weighted fair dispatch of fires across tenants on this node.
+ * Bound to {@code scheduler.dispatch.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.dispatch")
+public class DispatchProperties {
+
+    /** Queue fires per tenant and priority instead of running them on the firing thread. */
+    private boolean enabled = false;
+
+    /** Max job bodies running at once on this node. */
+    private int workers = 20;
+
+    /** Workers only CRITICAL fires may use, so they never wait behind a full pool of other work. */
+    private int criticalReserve = 2;
+
+    /** Tenant of jobs that do not name one. */
+    private String defaultTenant = "default";
+
+    /** Share of tenants without their own weight. */
+    private int defaultWeight = 1;
+
+    /** Max running fires of a tenant without its own quota; 0 means unlimited. */
+    private int defaultQuota = 0;
+
+    /** Queued fires per tenant; fires beyond it are logged as SKIPPED. */
+    private int queueCapacity = 10_000;
+
+    /** How long shutdown waits for running fires after dropping the queued ones. */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /** Per-tenant overrides, keyed by tenant name. */
+    private Map<String, Tenant> tenants = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Tenant {
+
+        /** Share of the workers while several tenants have fires waiting; {@code null} = default-weight. */
+        private Integer weight;
+
+        /** Max running fires; 0 means unlimited, {@code null} = default-quota. */
+        private Integer quota;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Execution events streamed to GraphQL subscribers, fanned out between nodes over a
+ * Postgres NOTIFY channel. Bound to {@code scheduler.events.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.events")
+public class ExecutionEventProperties {
+
+    private boolean enabled = true;
+
+    /** NOTIFY channel carrying batches of events between nodes. */
+    private String channel = "execution_events";
+
+    /** Events waiting to be sent to other nodes; more are dropped. */
+    private int outboundCapacity = 10_000;
+
+    /** How often pending events are sent to other nodes, in one round trip. */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * How often a node with subscribers tells the others so. Nodes send events only while
+     * another node has told them within three intervals.
+     */
+    private Duration presenceInterval = Duration.ofSeconds(10);
+
+    /** Events buffered per subscriber; a slow client loses the oldest ones beyond it. */
+    private int subscriberBuffer = 256;
+
+    /** Max concurrent subscriptions on this node. */
+    private int maxSubscribers = 100;
+
+    /** Error messages in events are cut to this many characters. */
+    private int maxErrorLength = 500;
+
+    /** How long the listener blocks waiting for notifications before re-checking shutdown. */
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    /** Pause before the listener reconnects after losing its connection. */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
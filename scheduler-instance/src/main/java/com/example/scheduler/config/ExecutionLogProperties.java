@@ -0,0 +1,88 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the asynchronous execution-log pipeline.
+ * Bound to {@code scheduler.execution-log.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.execution-log")
+public class ExecutionLogProperties {
+
+    /** Max records buffered in memory before callers are pushed back. */
+    private int queueCapacity = 10_000;
+
+    /** Max records per JDBC batch. */
+    private int batchSize = 500;
+
+    /** Max time a record waits in the buffer before it is flushed. */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /** How long a worker waits for buffer space before writing the record itself. */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /** Attempts per batch before its records are given up on; integrity violations are not retried. */
+    private int writeAttempts = 5;
+
+    /** Wait before the second attempt at a failed batch, doubled before each further one. */
+    private Duration writeRetryBackoff = Duration.ofMillis(200);
+
+    /** How long shutdown waits for the buffer to drain. */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private Partitions partitions = new Partitions();
+
+    private Stats stats = new Stats();
+
+    /**
+     * Maintenance of the daily {@code job_execution_log} partitions.
+     * Bound to {@code scheduler.execution-log.partitions.*}.
+     */
+    @Getter
+    @Setter
+    public static class Partitions {
+
+        /** Daily partitions kept ready ahead of the current UTC day. */
+        private int premakeDays = 7;
+
+        /** History kept for jobs without their own {@code logRetentionDays}. */
+        private Duration retention = Duration.ofDays(30);
+
+        /** What happens to a partition once all of its rows are past retention. */
+        private RetentionAction retentionAction = RetentionAction.DROP;
+
+        /** Spring cron for the maintenance run; it also runs once on startup. */
+        private String cron = "0 15 * * * *";
+    }
+
+    /**
+     * Minute and hour rollups behind the {@code jobStats} query; expired by the partition
+     * maintenance run. Bound to {@code scheduler.execution-log.stats.*}.
+     */
+    @Getter
+    @Setter
+    public static class Stats {
+
+        /** How long per-minute buckets are kept. */
+        private Duration minuteRetention = Duration.ofDays(7);
+
+        /** How long per-hour buckets are kept. */
+        private Duration hourRetention = Duration.ofDays(400);
+
+        /** Most buckets one {@code jobStats} query may span. */
+        private int maxBuckets = 10_000;
+    }
+
+    public enum RetentionAction {
+        /** Drop the partition table. */
+        DROP,
+        /** Detach it and keep it as a standalone table for archiving. */
+        DETACH
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * How Quartz runs job bodies on this node.
+ * Bound to {@code scheduler.execution.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.execution")
+public class ExecutionProperties {
+
+    public enum Mode {
+        /** Quartz SimpleThreadPool sized by org.quartz.threadPool.threadCount. */
+        PLATFORM,
+        /** One virtual thread per fire, capped by maxConcurrency. */
+        VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+
+    /** Max job bodies running at once on this node in VIRTUAL mode. */
+    private int maxConcurrency = 1_000;
+
+    /** Max concurrent fires of the same job on this node; 0 means unlimited. */
+    private int maxConcurrentPerJob = 0;
+
+    /** Time limit for jobs without their own {@code timeoutSeconds}; 0 means none. */
+    private Duration defaultTimeout = Duration.ZERO;
+}
@@ -0,0 +1,46 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * In-memory cache of job definitions in front of job_definition, kept consistent across
+ * nodes by Postgres LISTEN/NOTIFY. Bound to {@code scheduler.job-cache.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.job-cache")
+public class JobCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Max job definitions cached by id. */
+    private long maxSize = 10_000;
+
+    /** Upper bound on how long a definition is served without a reload. */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /** Max cached pages of the jobs query. */
+    private long pageMaxSize = 1_000;
+
+    /** Upper bound on how long a cached page is served without a reload. */
+    private Duration pageExpireAfterWrite = Duration.ofSeconds(30);
+
+    /** Max definitions the Quartz executor keeps to resolve fires; always on, whatever {@code enabled} says. */
+    private long fireMaxSize = 100_000;
+
+    /** Fire definitions unused for this long are dropped, e.g. those of deleted jobs. */
+    private Duration fireExpireAfterAccess = Duration.ofHours(1);
+
+    /** NOTIFY channel carrying changed job ids between nodes. */
+    private String channel = "job_definition_changed";
+
+    /** How long the listener blocks waiting for notifications before re-checking shutdown. */
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    /** Pause before the listener reconnects after losing its connection. */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
@@ -0,0 +1,20 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Cluster-wide throttling of recovered misfires. Bound to {@code scheduler.misfire.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.misfire")
+public class MisfireProperties {
+
+    /** Recovered misfires released per second across the whole cluster. */
+    private double releaseRate = 5;
+
+    /** Recovered misfires that may be released at once before the rate applies. */
+    private int burst = 10;
+}
@@ -0,0 +1,29 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Content-addressed store of job payloads ({@code job_payload}), shared by every job
+ * with the same payload. Bound to {@code scheduler.payload-store.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.payload-store")
+public class PayloadStoreProperties {
+
+    /** Payloads of at least this many UTF-8 bytes are stored LZ4-compressed, when that makes them smaller. */
+    private int compressMinBytes = 1_024;
+
+    /** Max characters of decompressed payloads kept in memory, across all cached payloads. */
+    private long cacheMaxChars = 64L * 1024 * 1024;
+
+    /** Payloads no job refers to are deleted once they have been unused for this long. */
+    private Duration orphanRetention = Duration.ofHours(1);
+
+    /** Spring cron for deleting payloads past {@code orphan-retention}. */
+    private String purgeCron = "0 35 * * * *";
+}
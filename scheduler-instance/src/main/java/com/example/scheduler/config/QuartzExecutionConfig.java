@@ -0,0 +1,78 @@
+package com.example.scheduler.config;
+
+import com.example.scheduler.infrastructure.quartz.BeanJobFactory;
+import com.example.scheduler.infrastructure.quartz.MisfireCountingTriggerListener;
+import com.example.scheduler.infrastructure.quartz.MisfireRateLimiter;
+import com.example.scheduler.infrastructure.quartz.MisfireRecoveryListener;
+import com.example.scheduler.infrastructure.quartz.VirtualThreadPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.quartz.Job;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.quartz.SpringBeanJobFactory;
+
+import java.util.Properties;
+
+@Configuration
+public class QuartzExecutionConfig {
+
+    private static final String THREAD_POOL_PREFIX = "org.quartz.threadPool.";
+
+    /**
+     * Swaps Quartz's fixed SimpleThreadPool for {@link VirtualThreadPool} when
+     * {@code scheduler.execution.mode=virtual}. The remaining spring.quartz.properties
+     * are kept as-is.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer executionModeCustomizer(QuartzProperties quartzProperties,
+                                                                  ExecutionProperties executionProperties) {
+        return factory -> {
+            if (executionProperties.getMode() != ExecutionProperties.Mode.VIRTUAL) {
+                return;
+            }
+            Properties props = new Properties();
+            quartzProperties.getProperties().forEach((key, value) -> {
+                if (!key.startsWith(THREAD_POOL_PREFIX)) {
+                    props.setProperty(key, value);
+                }
+            });
+            props.setProperty(THREAD_POOL_PREFIX + "class", VirtualThreadPool.class.getName());
+            props.setProperty(THREAD_POOL_PREFIX + "maxConcurrency",
+                    Integer.toString(executionProperties.getMaxConcurrency()));
+            factory.setQuartzProperties(props);
+        };
+    }
+
+    /**
+     * Counts misfires for every trigger and throttles their recovery; see
+     * {@link MisfireCountingTriggerListener} and {@link MisfireRecoveryListener}.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer misfireListenersCustomizer(MeterRegistry meterRegistry,
+                                                                     MisfireRateLimiter misfireRateLimiter,
+                                                                     QuartzProperties quartzProperties) {
+        long misfireThreshold = Long.parseLong(quartzProperties.getProperties()
+                .getOrDefault("org.quartz.jobStore.misfireThreshold", "60000"));
+        return factory -> factory.setGlobalTriggerListeners(
+                new MisfireCountingTriggerListener(meterRegistry),
+                new MisfireRecoveryListener(misfireRateLimiter, misfireThreshold, meterRegistry));
+    }
+
+    /**
+     * Job beans are stateless, so Quartz reuses them across fires; this keeps bean
+     * creation and autowiring off the fire path.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer jobFactoryCustomizer(ObjectProvider<Job> jobBeans,
+                                                               ApplicationContext applicationContext) {
+        return factory -> {
+            SpringBeanJobFactory fallback = new SpringBeanJobFactory();
+            fallback.setApplicationContext(applicationContext);
+            factory.setJobFactory(new BeanJobFactory(jobBeans, fallback));
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Startup reconciliation between job_definition and the Quartz tables.
+ * Bound to {@code scheduler.reconciler.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.reconciler")
+public class ReconcilerProperties {
+
+    /** Job definitions read, diffed and scheduled per round trip. */
+    private int pageSize = 1_000;
+}
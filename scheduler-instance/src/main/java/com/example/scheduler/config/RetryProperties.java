@@ -0,0 +1,38 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Retries of failed and timed-out runs, and the dead-letter table for runs that fail on
+ * every attempt. Bound to {@code scheduler.retry.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.retry")
+public class RetryProperties {
+
+    /** Attempts per fire for jobs without their own {@code retryMaxAttempts}; 1 means no retries. */
+    private int defaultMaxAttempts = 1;
+
+    /** Delay before the first retry for jobs without their own {@code retryBackoffSeconds}. */
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    /** Growth of the delay per further attempt. */
+    private double multiplier = 2.0;
+
+    /** Upper bound on the delay between two attempts. */
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    /** Share of each delay that is randomized: 0.2 waits between 80% and 100% of it. */
+    private double jitter = 0.2;
+
+    /** How long dead letters are kept, replayed or not. */
+    private Duration deadLetterRetention = Duration.ofDays(30);
+
+    /** Spring cron for deleting dead letters past {@code dead-letter-retention}. */
+    private String deadLetterPurgeCron = "0 25 * * * *";
+}
@@ -0,0 +1,43 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Batch size and fire-ahead window of Quartz trigger acquisition. Bound to
+ * {@code scheduler.trigger-acquisition.*}.
+ *
+ * <p>{@code org.quartz.scheduler.batchTriggerAcquisitionMaxCount} and
+ * {@code batchTriggerAcquisitionFireAheadTimeWindow} are the upper bounds; the values
+ * here are applied within them.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.trigger-acquisition")
+public class TriggerAcquisitionProperties {
+
+    /** Derive batch size and window from the due-trigger rate and free worker threads. */
+    private boolean adaptive = true;
+
+    /** Triggers per acquisition when not adaptive, and the starting value when adaptive. */
+    private int batchSize = 1;
+
+    /** How far ahead of the first trigger a batch may reach when not adaptive. */
+    private Duration fireAheadWindow = Duration.ZERO;
+
+    /** How often the adaptive mode re-samples the trigger queue. */
+    private Duration sampleInterval = Duration.ofSeconds(1);
+
+    /**
+     * Triggers due within this horizon (overdue ones included) make up the queue depth.
+     * A trigger counts once however often it fires, so keep this at or below the shortest
+     * trigger interval in use.
+     */
+    private Duration lookahead = Duration.ofSeconds(1);
+
+    /** Weight of the newest sample in the smoothed due rate, in (0, 1]. */
+    private double smoothing = 0.5;
+}
@@ -0,0 +1,24 @@
+package com.example.scheduler.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wiring for {@code scheduler.engine=wheel}; see
+ * {@link com.example.scheduler.infrastructure.wheel.WheelTriggerEngine}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "wheel")
+public class WheelEngineConfig {
+
+    /**
+     * The Quartz scheduler bean stays available but is never started, so triggers left in
+     * QRTZ_TRIGGERS by the Quartz engine cannot fire next to the wheel.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer wheelEngineQuartzCustomizer() {
+        return factory -> factory.setAutoStartup(false);
+    }
+}
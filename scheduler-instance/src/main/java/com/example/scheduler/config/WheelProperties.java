@@ -0,0 +1,44 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Timing-wheel trigger engine, used instead of Quartz when {@code scheduler.engine=wheel}.
+ * Bound to {@code scheduler.wheel.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.wheel")
+public class WheelProperties {
+
+    /** Resolution of the innermost wheel level. */
+    private Duration tick = Duration.ofMillis(10);
+
+    /** Buckets per wheel level. */
+    private int wheelSize = 512;
+
+    /** Points per node on the consistent hash ring. */
+    private int virtualNodes = 128;
+
+    /** How often this node refreshes its heartbeat and re-reads cluster membership. */
+    private Duration heartbeatInterval = Duration.ofSeconds(2);
+
+    /** A node whose last heartbeat is older than this is treated as gone. */
+    private Duration nodeTtl = Duration.ofSeconds(10);
+
+    /**
+     * How long membership must stay unchanged before this node takes over newly assigned
+     * jobs. Must exceed the heartbeat interval, so the previous owner has released them.
+     */
+    private Duration rebalanceDelay = Duration.ofSeconds(5);
+
+    /** How often last fire times are written to job_fire_state. */
+    private Duration stateFlushInterval = Duration.ofSeconds(1);
+
+    /** Page size when loading this node's shard from job_definition. */
+    private int loadPageSize = 1_000;
+}
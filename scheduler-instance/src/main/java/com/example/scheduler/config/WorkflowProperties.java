@@ -0,0 +1,37 @@
+package com.example.scheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Workflows of dependent jobs and the history of their runs. Bound to {@code scheduler.workflow.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.workflow")
+public class WorkflowProperties {
+
+    /** Most steps one workflow may have, root included. */
+    private int maxSteps = 100;
+
+    /** How long finished runs are kept. */
+    private Duration runRetention = Duration.ofDays(30);
+
+    /**
+     * How long a launched step may stay RUNNING, retries included, before its run is
+     * failed as stuck, e.g. because the node running it died.
+     */
+    private Duration stepTimeout = Duration.ofHours(6);
+
+    /** Stuck steps failed per reaper pass. */
+    private int reapBatchSize = 500;
+
+    /** Spring cron for the stuck step reaper. */
+    private String reaperCron = "30 * * * * *";
+
+    /** Spring cron for deleting runs past {@code run-retention}. */
+    private String runPurgeCron = "0 20 * * * *";
+}
@@ -1,6 +1,8 @@
 package com.example.scheduler.domain.model;
 
+import com.example.scheduler.domain.model.enums.JobPriority;
 import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.MisfirePolicy;
 import com.example.scheduler.domain.model.enums.ScheduleType;
 import lombok.*;
 
@@ -8,29 +10,61 @@ import java.util.UUID;
 import java.time.Instant;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @Setter
 @AllArgsConstructor
 public class JobDefinition {
     private UUID id;
     private String name;
+    private String jobType;  // selects the JobHandler
 
     private ScheduleType scheduleType;
     private String cronExpression;
+    private Integer jitterSeconds;  // CRON only; null = fire exactly on the cron slot
     private Long intervalSeconds;
     private Long initialDelaySeconds;
 
-    private String payload;  // JSON
+    private String payload;  // JSON; null until loaded when payloadRef is set
+    private String payloadRef;  // key of the payload in the payload store, null = no payload
+    private Integer logRetentionDays;  // null = global execution-log retention
+    private MisfirePolicy misfirePolicy;
+    private Integer misfireCatchUpLimit;  // CATCH_UP only
+    private Integer timeoutSeconds;  // null = scheduler.execution.default-timeout
+    private Integer retryMaxAttempts;  // null = scheduler.retry.default-max-attempts
+    private Integer retryBackoffSeconds;  // null = scheduler.retry.initial-backoff
+    private Integer maxConcurrent;  // null = scheduler.execution.max-concurrent-per-job
+    private JobPriority priority;  // trigger priority and dispatch class
+    private String tenant;  // null = scheduler.dispatch.default-tenant
+    private UUID workflowId;  // workflow this job is a step of, null = standalone
     private JobStatus status;   // ACTIVE, PAUSED, DELETED
     private Integer version;
     private Instant createdAt;
     private Instant updatedAt;
 
+    /**
+     * Records a change of this definition. Quartz triggers carry the version they were built
+     * from, and the reconciler reschedules jobs whose trigger lags behind.
+     */
+    public void nextVersion() {
+        this.version = (this.version == null ? 0 : this.version) + 1;
+    }
+
     public boolean isCronSchedule() {
         return this.scheduleType == ScheduleType.CRON;
     }
 
+    /**
+     * Fixed delay after each cron slot, in {@code [0, jitterSeconds)} seconds. Derived from
+     * the job id, so it is the same on every node and across restarts.
+     */
+    public long fireOffsetMillis() {
+        if (jitterSeconds == null || jitterSeconds < 1 || id == null) {
+            return 0;
+        }
+        return Math.floorMod(id.getMostSignificantBits() ^ id.getLeastSignificantBits(), jitterSeconds * 1000L);
+    }
+
     public boolean isFixedRateSchedule() {
         return this.scheduleType == ScheduleType.FIXED_RATE;
     }
@@ -38,4 +72,13 @@ public class JobDefinition {
     public boolean isFixedDelaySchedule() {
         return this.scheduleType == ScheduleType.FIXED_DELAY;
     }
+
+    public boolean isWorkflowSchedule() {
+        return this.scheduleType == ScheduleType.WORKFLOW;
+    }
+
+    /** @return whether a successful fire of this job starts a run of its workflow */
+    public boolean isWorkflowRoot() {
+        return this.workflowId != null && !isWorkflowSchedule();
+    }
 }
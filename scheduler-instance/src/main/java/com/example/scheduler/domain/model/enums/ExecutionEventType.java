@@ -0,0 +1,9 @@
+package com.example.scheduler.domain.model.enums;
+
+public enum ExecutionEventType {
+    STARTED,    // the handler is about to run
+    SUCCEEDED,
+    FAILED,
+    TIMED_OUT,
+    SKIPPED     // the fire never ran, e.g. concurrency limit or full tenant queue
+}
@@ -0,0 +1,64 @@
+package com.example.scheduler.domain.model.enums;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of a {@link com.example.scheduler.domain.model.JobDefinition} a list read can be
+ * narrowed to. The id and creation time are always read, since pages are keyed on them.
+ */
+public enum JobField {
+    NAME("name"),
+    JOB_TYPE("jobType"),
+    SCHEDULE_TYPE("scheduleType"),
+    CRON_EXPRESSION("cronExpression"),
+    JITTER_SECONDS("jitterSeconds"),
+    INTERVAL_SECONDS("intervalSeconds"),
+    INITIAL_DELAY_SECONDS("initialDelaySeconds"),
+    /** Reads the payload ref only; the payload itself stays in the payload store. */
+    PAYLOAD("payload"),
+    LOG_RETENTION_DAYS("logRetentionDays"),
+    MISFIRE_POLICY("misfirePolicy"),
+    MISFIRE_CATCH_UP_LIMIT("misfireCatchUpLimit"),
+    TIMEOUT_SECONDS("timeoutSeconds"),
+    RETRY_MAX_ATTEMPTS("retryMaxAttempts"),
+    RETRY_BACKOFF_SECONDS("retryBackoffSeconds"),
+    MAX_CONCURRENT("maxConcurrent"),
+    PRIORITY("priority"),
+    TENANT("tenant"),
+    WORKFLOW_ID("workflowId"),
+    STATUS("status"),
+    VERSION("version"),
+    UPDATED_AT("updatedAt");
+
+    private static final Map<String, JobField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(JobField::fieldName, Function.identity()));
+
+    private final String fieldName;
+
+    JobField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /** @return the field's name on the job definition and in the API */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /** @return the fields with these names; names of other fields are ignored */
+    public static Set<JobField> named(Collection<String> fieldNames) {
+        Set<JobField> fields = EnumSet.noneOf(JobField.class);
+        for (String name : fieldNames) {
+            JobField field = BY_NAME.get(name);
+            if (field != null) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
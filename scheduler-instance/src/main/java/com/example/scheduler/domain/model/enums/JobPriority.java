@@ -0,0 +1,26 @@
+package com.example.scheduler.domain.model.enums;
+
+/**
+ * Priority class of a job. Sets the Quartz trigger priority, which orders triggers due at
+ * the same instant, and the dispatch order of queued fires: a class is only served when
+ * no higher class has a fire ready to run.
+ */
+public enum JobPriority {
+    /** Latency-critical; also gets the workers held back by {@code scheduler.dispatch.critical-reserve}. */
+    CRITICAL(10),
+    HIGH(7),
+    /** Default; Quartz's own default trigger priority. */
+    NORMAL(5),
+    /** Batch work that may wait behind everything else. */
+    LOW(1);
+
+    private final int triggerPriority;
+
+    JobPriority(int triggerPriority) {
+        this.triggerPriority = triggerPriority;
+    }
+
+    public int triggerPriority() {
+        return triggerPriority;
+    }
+}
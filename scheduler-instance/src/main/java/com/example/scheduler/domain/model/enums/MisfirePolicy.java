@@ -0,0 +1,13 @@
+package com.example.scheduler.domain.model.enums;
+
+/**
+ * What happens to fires a job missed while the cluster was down or overloaded.
+ */
+public enum MisfirePolicy {
+    /** Fire once as soon as possible, then continue on schedule. */
+    FIRE_NOW,
+    /** Drop the missed fires and wait for the next scheduled one. */
+    SKIP,
+    /** Replay up to {@code misfireCatchUpLimit} of the most recent missed fires. */
+    CATCH_UP
+}
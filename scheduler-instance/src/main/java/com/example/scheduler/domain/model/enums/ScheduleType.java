@@ -3,5 +3,6 @@ package com.example.scheduler.domain.model.enums;
 public enum ScheduleType {
     CRON,
     FIXED_RATE,
-    FIXED_DELAY
+    FIXED_DELAY,
+    WORKFLOW  // no schedule of its own; runs when its upstream steps in a workflow succeed
 }
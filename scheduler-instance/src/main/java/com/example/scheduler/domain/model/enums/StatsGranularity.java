@@ -0,0 +1,21 @@
+package com.example.scheduler.domain.model.enums;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket width of the execution statistics rollups.
+ */
+public enum StatsGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit unit;
+
+    StatsGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit unit() {
+        return unit;
+    }
+}
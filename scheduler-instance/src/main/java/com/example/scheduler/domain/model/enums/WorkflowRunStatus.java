@@ -0,0 +1,7 @@
+package com.example.scheduler.domain.model.enums;
+
+public enum WorkflowRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
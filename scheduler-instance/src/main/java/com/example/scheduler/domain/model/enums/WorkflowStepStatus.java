@@ -0,0 +1,9 @@
+package com.example.scheduler.domain.model.enums;
+
+public enum WorkflowStepStatus {
+    WAITING,    // some upstream step has not succeeded yet
+    RUNNING,    // launched; retries keep it RUNNING
+    SUCCEEDED,
+    FAILED,
+    SKIPPED     // the run failed before this step was launched
+}
@@ -2,21 +2,82 @@ package com.example.scheduler.domain.port;
 
 import com.example.scheduler.domain.model.JobDefinition;
 import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.model.enums.JobField;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 public interface JobDefinitionRepositoryPort {
 
+    /**
+     * Stores the definition. A loaded payload is stored as well; a definition without
+     * one keeps the payload its ref points to.
+     */
     JobDefinition save(JobDefinition jobDefinition);
 
     Optional<JobDefinition> findById(JobId id);
 
     List<JobDefinition> findAllActive();
 
+    /**
+     * Keyset page of ACTIVE jobs ordered by id, starting after {@code afterId}.
+     * Pass {@code new UUID(0, 0)} for the first page.
+     */
+    List<JobDefinition> findActivePage(UUID afterId, int limit);
+
     void delete(JobId jobId);
 
     boolean exists(JobId id);
 
     List<JobDefinition> findAll();
+
+    /**
+     * Keyset page ordered by {@code (createdAt DESC, id DESC)}; {@code null} filters
+     * match everything. Reads only the id, the creation time and {@code fields}; the
+     * other fields of the returned definitions are {@code null}.
+     *
+     * @param after exclusive start position, or {@code null} for the first page
+     */
+    List<JobDefinition> findPage(JobStatus status, ScheduleType scheduleType, KeysetCursor after, int limit,
+                                 Set<JobField> fields);
+
+    // ============================================================
+    // Bulk operations (one statement or JDBC batch per call)
+    // ============================================================
+
+    /** Inserts new definitions; ids must not exist yet. */
+    void insertAll(Collection<JobDefinition> jobs);
+
+    List<JobDefinition> findAllById(Collection<UUID> ids);
+
+    /**
+     * Sets the status and moves each definition to its next version.
+     *
+     * @return number of rows updated
+     */
+    int updateStatus(Collection<UUID> ids, JobStatus status, Instant updatedAt);
+
+    void deleteAll(Collection<UUID> ids);
+
+    // ============================================================
+    // Payloads (definitions are read without them)
+    // ============================================================
+
+    /** @return the definitions with their payloads loaded, in one lookup */
+    List<JobDefinition> withPayloads(List<JobDefinition> jobs);
+
+    default JobDefinition withPayload(JobDefinition job) {
+        return withPayloads(List.of(job)).get(0);
+    }
+
+    /** Payloads by {@link JobDefinition#getPayloadRef() ref}; refs not found are missing from the map. */
+    Map<String, String> findPayloads(Collection<String> refs);
 }
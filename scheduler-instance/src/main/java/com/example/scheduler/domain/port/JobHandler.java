@@ -0,0 +1,25 @@
+package com.example.scheduler.domain.port;
+
+import com.example.scheduler.domain.model.JobId;
+
+/**
+ * SPI for the work a job performs. Implementations are Spring beans; each one serves
+ * the jobs whose {@code jobType} equals {@link #type()}.
+ *
+ * @param <P> type the job's JSON payload is parsed into before {@link #handle} is called
+ */
+public interface JobHandler<P> {
+
+    /** Value of {@code JobDefinition.jobType} this handler serves. */
+    String type();
+
+    /** Target type for the payload; use {@code JsonNode} for untyped access. */
+    Class<P> payloadType();
+
+    /**
+     * Runs one fire of the job. Any exception marks the execution as FAILED.
+     *
+     * @param payload parsed payload, or {@code null} if the job has none
+     */
+    void handle(JobId jobId, P payload) throws Exception;
+}
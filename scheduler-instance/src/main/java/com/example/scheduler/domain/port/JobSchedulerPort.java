@@ -2,15 +2,20 @@ package com.example.scheduler.domain.port;
 
 import com.example.scheduler.domain.model.JobDefinition;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public interface JobSchedulerPort {
 
     void scheduleJob(JobDefinition job);
 
-    void pauseJob(String jobId);
+    /** Pauses the job's triggers and records {@code job}'s version on them. */
+    void pauseJob(JobDefinition job);
 
-    void resumeJob(String jobId);
+    /** Resumes the job's triggers and records {@code job}'s version on them. */
+    void resumeJob(JobDefinition job);
 
     void deleteJob(String jobId);
 
@@ -20,5 +25,20 @@ public interface JobSchedulerPort {
 
     String getQuartzState(String jobId);
 
+    /** {@link #getQuartzState} of each of the jobs, in one job-store lookup. */
+    Map<UUID, String> getQuartzStates(Collection<UUID> jobIds);
+
     List<String> listAllQuartzJobs();
+
+    // ============================================================
+    // Bulk operations (one call per chunk, not atomic with the
+    // caller's transaction; see JobBulkService)
+    // ============================================================
+    void scheduleJobs(Collection<JobDefinition> jobs);
+
+    void pauseJobs(Collection<JobDefinition> jobs);
+
+    void resumeJobs(Collection<JobDefinition> jobs);
+
+    void deleteJobs(Collection<UUID> jobIds);
 }
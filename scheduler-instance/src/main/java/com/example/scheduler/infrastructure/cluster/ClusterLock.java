@@ -0,0 +1,55 @@
+package com.example.scheduler.infrastructure.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Cluster-wide mutual exclusion on top of Postgres session-level advisory locks.
+ *
+ * <p>The lock lives on a connection taken straight from the pool and kept outside any
+ * Spring transaction, so the task itself can run as many short transactions as it
+ * likes. If the node dies, the connection closes and Postgres releases the lock.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+    private final DataSource dataSource;
+
+    /**
+     * Runs {@code task} if no other node currently holds {@code lockName}.
+     *
+     * @return {@code false} if the lock was taken and the task was skipped
+     */
+    public boolean runExclusively(String lockName, Runnable task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!call(connection, "SELECT pg_try_advisory_lock(hashtext(?))", lockName)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                call(connection, "SELECT pg_advisory_unlock(hashtext(?))", lockName);
+            }
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to use cluster lock " + lockName, e);
+        }
+    }
+
+    private static boolean call(Connection connection, String sql, String lockName) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, lockName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.scheduler.infrastructure.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Node liveness for the timing-wheel engine, kept in {@code scheduler_node}.
+ *
+ * <p>Every node upserts its own row on each heartbeat. Liveness is judged against the
+ * database clock, so nodes with skewed clocks still agree on who is alive.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "wheel")
+public class ClusterMembership {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+
+    public ClusterMembership(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void heartbeat() {
+        jdbcTemplate.update("""
+                INSERT INTO scheduler_node (node_id) VALUES (?)
+                ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = now()
+                """, nodeId);
+    }
+
+    /** @return ids of nodes that heartbeated within {@code ttl}, this node included once it has */
+    public List<String> liveNodes(Duration ttl) {
+        return jdbcTemplate.queryForList("""
+                SELECT node_id FROM scheduler_node
+                WHERE heartbeat_at > now() - ? * INTERVAL '1 millisecond'
+                """, String.class, ttl.toMillis());
+    }
+
+    /** Removes rows of nodes that have been silent for {@code age}. */
+    public int purge(Duration age) {
+        return jdbcTemplate.update("""
+                DELETE FROM scheduler_node
+                WHERE heartbeat_at < now() - ? * INTERVAL '1 millisecond'
+                """, age.toMillis());
+    }
+
+    /** Leaves the cluster at once instead of waiting for the TTL to expire. */
+    public void leave() {
+        jdbcTemplate.update("DELETE FROM scheduler_node WHERE node_id = ?", nodeId);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.scheduler.infrastructure.dispatch;
+
+import com.example.scheduler.config.DispatchProperties;
+import com.example.scheduler.config.ExecutionProperties;
+import com.example.scheduler.domain.model.enums.JobPriority;
+import com.example.scheduler.infrastructure.quartz.JobFire;
+import com.example.scheduler.infrastructure.quartz.VirtualThreadPool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs fires on a bounded pool in weighted fair order across tenants, when
+ * {@code scheduler.dispatch.enabled}.
+ *
+ * <p>Firing threads (Quartz or wheel workers) only queue the fire, so a burst from one
+ * tenant cannot hold every firing thread. Each tenant has a queue per {@link JobPriority}.
+ * A free worker takes the highest class that has a runnable fire; within a class,
+ * tenants share workers in proportion to their weight by stride scheduling: each tenant
+ * carries a pass value that grows by {@code 1/weight} per dispatched fire, and the lowest
+ * pass goes next. A tenant that was idle re-enters at the class's current pass, so it
+ * cannot save up credit. Tenants at their quota are passed over until a run ends, and
+ * {@code critical-reserve} workers are kept free for CRITICAL fires.
+ *
+ * <p>All state sits behind one lock that is held only to queue or pick a fire. Fires
+ * still queued when the node stops are dropped: their futures complete with a
+ * {@link RejectedExecutionException}, and the submitter records them as failed runs.
+ */
+@Slf4j
+@Component
+public class FairShareDispatcher implements SmartLifecycle {
+
+    private static final JobPriority[] CLASSES = JobPriority.values();
+    private static final int CRITICAL = JobPriority.CRITICAL.ordinal();
+
+    private final DispatchProperties properties;
+    private final ExecutionProperties executionProperties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Tenant> tenants = new HashMap<>();
+    private final List<Set<Tenant>> backlogged = new ArrayList<>(CLASSES.length);
+    private final double[] virtualTime = new double[CLASSES.length];
+    private final AtomicIntegerArray queued = new AtomicIntegerArray(CLASSES.length);
+    private final Timer[] waits = new Timer[CLASSES.length];
+
+    private volatile int running;
+    private volatile boolean started;
+    private ExecutorService workers;
+
+    public FairShareDispatcher(DispatchProperties properties, ExecutionProperties executionProperties,
+                               MeterRegistry registry) {
+        this.properties = properties;
+        this.executionProperties = executionProperties;
+        for (JobPriority priority : CLASSES) {
+            int c = priority.ordinal();
+            backlogged.add(new LinkedHashSet<>());
+            waits[c] = Timer.builder("scheduler.dispatch.wait")
+                    .description("Time fires waited in the dispatcher before a worker took them")
+                    .tag("priority", priority.name())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofMinutes(10))
+                    .register(registry);
+            Gauge.builder("scheduler.dispatch.queued", queued, q -> q.get(c))
+                    .description("Fires waiting in the dispatcher")
+                    .tag("priority", priority.name())
+                    .register(registry);
+        }
+        Gauge.builder("scheduler.dispatch.running", this, d -> d.running)
+                .description("Fires the dispatcher is running")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /** The fair-share group of {@code fire}: its job's tenant, or the default tenant. */
+    public String tenantOf(JobFire fire) {
+        return fire.tenant() != null ? fire.tenant() : properties.getDefaultTenant();
+    }
+
+    /**
+     * Queues {@code task} for {@code fire}'s tenant and priority. Before start and after
+     * stop it runs on the calling thread.
+     *
+     * @return completes when the task has run, or exceptionally if it was dropped on shutdown
+     * @throws RejectedExecutionException if the tenant's queue is full
+     */
+    public CompletableFuture<Void> submit(JobFire fire, Runnable task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Queued entry = new Queued(task, done, System.nanoTime());
+        lock.lock();
+        try {
+            if (started) {
+                String name = tenantOf(fire);
+                Tenant tenant = tenants.computeIfAbsent(name, this::newTenant);
+                if (tenant.queuedTotal >= properties.getQueueCapacity()) {
+                    throw new RejectedExecutionException("Dispatch queue of tenant " + name + " is full");
+                }
+                int c = fire.priority().ordinal();
+                if (tenant.queues.get(c).isEmpty()) {
+                    tenant.pass[c] = Math.max(tenant.pass[c], virtualTime[c]);
+                    backlogged.get(c).add(tenant);
+                }
+                tenant.queues.get(c).add(entry);
+                tenant.queuedTotal++;
+                queued.incrementAndGet(c);
+                drain();
+                return done;
+            }
+        } finally {
+            lock.unlock();
+        }
+        entry.run();
+        return done;
+    }
+
+    // ============================================================
+    // Selection (lock held)
+    // ============================================================
+    private void drain() {
+        int capacity = Math.max(1, properties.getWorkers());
+        int shared = Math.max(0, capacity - Math.max(0, properties.getCriticalReserve()));
+        while (running < capacity) {
+            Tenant next = null;
+            int nextClass = -1;
+            for (int c = 0; c < CLASSES.length && next == null; c++) {
+                if (c != CRITICAL && running >= shared) {
+                    break;
+                }
+                for (Tenant tenant : backlogged.get(c)) {
+                    if (tenant.atQuota()) {
+                        continue;
+                    }
+                    if (next == null || tenant.pass[c] < next.pass[c]) {
+                        next = tenant;
+                        nextClass = c;
+                    }
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            start(next, nextClass);
+        }
+    }
+
+    private void start(Tenant tenant, int c) {
+        Queued entry = tenant.queues.get(c).poll();
+        tenant.queuedTotal--;
+        queued.decrementAndGet(c);
+        if (tenant.queues.get(c).isEmpty()) {
+            backlogged.get(c).remove(tenant);
+        }
+        virtualTime[c] = tenant.pass[c];
+        tenant.pass[c] += tenant.stride;
+        tenant.running++;
+        running++;
+        waits[c].record(System.nanoTime() - entry.queuedAt, TimeUnit.NANOSECONDS);
+        try {
+            workers.execute(() -> {
+                try {
+                    entry.run();
+                } finally {
+                    finished(tenant);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            tenant.running--;
+            running--;
+            entry.done.completeExceptionally(e);
+        }
+    }
+
+    private void finished(Tenant tenant) {
+        lock.lock();
+        try {
+            tenant.running--;
+            running--;
+            if (tenant.running == 0 && tenant.queuedTotal == 0) {
+                tenants.remove(tenant.name, tenant);
+            }
+            if (started) {
+                drain();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Tenant newTenant(String name) {
+        DispatchProperties.Tenant config = properties.getTenants().get(name);
+        int weight = config != null && config.getWeight() != null ? config.getWeight() : properties.getDefaultWeight();
+        int quota = config != null && config.getQuota() != null ? config.getQuota() : properties.getDefaultQuota();
+        Tenant tenant = new Tenant(name, 1.0 / Math.max(1, weight), quota);
+        System.arraycopy(virtualTime, 0, tenant.pass, 0, CLASSES.length);
+        return tenant;
+    }
+
+    private static final class Tenant {
+
+        private final String name;
+        private final double stride;
+        private final int quota;
+        private final List<ArrayDeque<Queued>> queues = new ArrayList<>(CLASSES.length);
+        private final double[] pass = new double[CLASSES.length];
+        private int queuedTotal;
+        private int running;
+
+        private Tenant(String name, double stride, int quota) {
+            this.name = name;
+            this.stride = stride;
+            this.quota = quota;
+            for (int c = 0; c < CLASSES.length; c++) {
+                queues.add(new ArrayDeque<>());
+            }
+        }
+
+        boolean atQuota() {
+            return quota > 0 && running >= quota;
+        }
+    }
+
+    private record Queued(Runnable task, CompletableFuture<Void> done, long queuedAt) {
+
+        void run() {
+            try {
+                task.run();
+                done.complete(null);
+            } catch (RuntimeException | Error e) {
+                done.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    // ============================================================
+    // Lifecycle
+    // ============================================================
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ThreadFactory factory;
+        if (executionProperties.getMode() == ExecutionProperties.Mode.VIRTUAL) {
+            factory = VirtualThreadPool.threadFactory("dispatch-");
+        } else {
+            CustomizableThreadFactory platform = new CustomizableThreadFactory("dispatch-worker-");
+            platform.setDaemon(true);
+            factory = platform;
+        }
+        workers = Executors.newCachedThreadPool(factory);
+        started = true;
+        log.info("⚖️ Fair-share dispatch started: {} workers, {} reserved for CRITICAL",
+                properties.getWorkers(), properties.getCriticalReserve());
+    }
+
+    @Override
+    public void stop() {
+        if (!started) {
+            return;
+        }
+        List<Queued> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            started = false;
+            for (Tenant tenant : tenants.values()) {
+                for (int c = 0; c < CLASSES.length; c++) {
+                    dropped.addAll(tenant.queues.get(c));
+                    tenant.queues.get(c).clear();
+                    queued.set(c, 0);
+                }
+                tenant.queuedTotal = 0;
+            }
+            backlogged.forEach(Set::clear);
+        } finally {
+            lock.unlock();
+        }
+        RejectedExecutionException shutdown = new RejectedExecutionException("Dispatcher stopped");
+        dropped.forEach(entry -> entry.done.completeExceptionally(shutdown));
+        if (!dropped.isEmpty()) {
+            log.warn("⚠️ Dropped {} queued fires on shutdown", dropped.size());
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Dispatched fires still running after {}", properties.getShutdownTimeout());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    /**
+     * Stop after the trigger engines (phase {@code Integer.MAX_VALUE}), so nothing is
+     * queued behind the drop, and before the execution log writer.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1;
+    }
+}
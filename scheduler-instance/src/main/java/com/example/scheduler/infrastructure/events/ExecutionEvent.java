@@ -0,0 +1,29 @@
+package com.example.scheduler.infrastructure.events;
+
+import com.example.scheduler.domain.model.enums.ExecutionEventType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One step of one attempt of a fire, as streamed to subscribers.
+ *
+ * @param tenant        fair-share group; the default tenant when the job has none
+ * @param fireTime      when the attempt started, or was due for SKIPPED
+ * @param durationMs    handler run time; {@code null} for STARTED and SKIPPED
+ * @param errorMessage  failure, timeout or skip reason, truncated
+ * @param willRetry     another attempt of the fire has been scheduled
+ * @param workflowRunId workflow run the fire is a step of, or {@code null}
+ */
+public record ExecutionEvent(ExecutionEventType type,
+                             UUID jobId,
+                             String jobType,
+                             String tenant,
+                             int attempt,
+                             Instant fireTime,
+                             Long durationMs,
+                             String errorMessage,
+                             boolean willRetry,
+                             UUID workflowRunId,
+                             Instant occurredAt) {
+}
@@ -0,0 +1,378 @@
+package com.example.scheduler.infrastructure.events;
+
+import com.example.scheduler.config.ExecutionEventProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Streams execution events to subscribers on every node.
+ *
+ * <p>{@link #publish} hands an event to this node's subscribers at once and queues it
+ * for the others; a daemon thread sends the queue every {@code flush-interval} as a
+ * few NOTIFY payloads in a single round trip, and another LISTENs on a dedicated
+ * connection and hands other nodes' events to local subscribers. Delivery is best
+ * effort: events are not stored, a full outbound queue drops them, and events sent
+ * while the listener reconnects are lost. The execution log stays the record.
+ *
+ * <p>Events are only queued while some other node has subscribers. A node with
+ * subscribers announces their count every {@code presence-interval}, and once more
+ * when its last one leaves; a node it has not heard from for three intervals counts
+ * as having none. A cluster without subscribers sends nothing.
+ *
+ * <p>Every node with subscribers receives every event of the cluster; each local
+ * subscriber's filter runs there, on the receiving node. Each subscriber has its own
+ * bounded buffer; a client that reads too slowly loses the oldest buffered events, and
+ * the next event it does receive carries how many it missed. Publishing never blocks
+ * on a subscriber.
+ *
+ * <p>Payloads: {@code {"node": ..., "events": [...]}}, events as JSON, and
+ * {@code {"node": ..., "subscribers": n}} for presence.
+ */
+@Slf4j
+@Component
+public class ExecutionEventBus implements SmartLifecycle {
+
+    // NOTIFY payloads are capped at 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7_900;
+
+    /** An event as handed to one subscriber, with the events it lost just before. */
+    public record Delivery(ExecutionEvent event, long missed) {
+    }
+
+    private record Subscriber(Predicate<ExecutionEvent> filter, FluxSink<ExecutionEvent> sink) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ExecutionEventProperties properties;
+    private final ObjectMapper objectMapper;
+    private final String node = UUID.randomUUID().toString();
+    private final BlockingQueue<ExecutionEvent> outbound;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // other nodes with subscribers -> when their last announcement lapses
+    private final Map<String, Long> remoteSubscribers = new ConcurrentHashMap<>();
+    private final Counter published;
+    private final Counter droppedOutbound;
+    private final Counter droppedSubscriber;
+
+    private volatile boolean running;
+    private Thread flusher;
+    private Thread listener;
+
+    public ExecutionEventBus(JdbcTemplate jdbcTemplate,
+                             DataSourceProperties dataSourceProperties,
+                             ExecutionEventProperties properties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.outbound = new ArrayBlockingQueue<>(properties.getOutboundCapacity());
+        this.published = Counter.builder("scheduler.events.published")
+                .description("Execution events published by this node")
+                .register(registry);
+        this.droppedOutbound = dropped(registry, "outbound");
+        this.droppedSubscriber = dropped(registry, "subscriber");
+        Gauge.builder("scheduler.events.subscribers", subscribers, List::size)
+                .description("Execution event subscriptions open on this node")
+                .register(registry);
+    }
+
+    private static Counter dropped(MeterRegistry registry, String where) {
+        return Counter.builder("scheduler.events.dropped")
+                .description("Execution events dropped: outbound = not sent to other nodes, subscriber = lost by a slow client")
+                .tag("where", where)
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // ============================================================
+    // Subscribing
+    // ============================================================
+
+    /**
+     * Events of the whole cluster matching {@code filter}, from now on.
+     *
+     * @throws IllegalStateException when events are disabled or this node has no room for
+     *                               another subscription
+     */
+    public Flux<Delivery> subscribe(Predicate<ExecutionEvent> filter) {
+        if (!properties.isEnabled()) {
+            throw new IllegalStateException("Execution events are disabled on this node.");
+        }
+        AtomicLong missed = new AtomicLong();
+        return Flux.<ExecutionEvent>create(sink -> {
+                    Subscriber subscriber = new Subscriber(filter, sink);
+                    synchronized (subscribers) {
+                        if (subscribers.size() >= properties.getMaxSubscribers()) {
+                            sink.error(new IllegalStateException("Too many execution event subscriptions on this node (max "
+                                    + properties.getMaxSubscribers() + ")."));
+                            return;
+                        }
+                        subscribers.add(subscriber);
+                    }
+                    sink.onDispose(() -> subscribers.remove(subscriber));
+                })
+                .onBackpressureBuffer(properties.getSubscriberBuffer(), event -> {
+                    missed.incrementAndGet();
+                    droppedSubscriber.increment();
+                }, BufferOverflowStrategy.DROP_OLDEST)
+                .map(event -> new Delivery(event, missed.getAndSet(0)));
+    }
+
+    private void deliver(ExecutionEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter().test(event)) {
+                subscriber.sink().next(event);
+            }
+        }
+    }
+
+    // ============================================================
+    // Publishing
+    // ============================================================
+
+    /** Hands the event to local subscribers and queues it for other nodes. Never blocks or throws. */
+    public void publish(ExecutionEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        published.increment();
+        try {
+            deliver(event);
+        } catch (RuntimeException e) {
+            log.warn("Could not deliver execution event of job {}: {}", event.jobId(), e.getMessage());
+        }
+        if (!remoteSubscribers.isEmpty() && !outbound.offer(event)) {
+            droppedOutbound.increment();
+        }
+    }
+
+    /** Truncates an error message to the configured length. */
+    public String truncate(String message) {
+        int max = properties.getMaxErrorLength();
+        return message == null || message.length() <= max ? message : message.substring(0, max);
+    }
+
+    private void flushLoop() {
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        List<ExecutionEvent> batch = new ArrayList<>();
+        while (running || !outbound.isEmpty()) {
+            try {
+                ExecutionEvent first = outbound.poll(properties.getPollTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                if (running) {
+                    // let the rest of this interval's events join the round trip
+                    Thread.sleep(intervalMillis);
+                }
+                batch.add(first);
+                outbound.drainTo(batch);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                droppedOutbound.increment(batch.size());
+                log.warn("❌ Could not send {} execution events to other nodes: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<ExecutionEvent> batch) {
+        List<String> payloads = new ArrayList<>();
+        String head = "{\"node\":\"" + node + "\",\"events\":[";
+        StringBuilder payload = new StringBuilder(head);
+        int bytes = head.length() + 2;
+        for (ExecutionEvent event : batch) {
+            String json = toJson(event);
+            int size = json.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (payload.length() > head.length() && bytes + size > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.append("]}").toString());
+                payload = new StringBuilder(head);
+                bytes = head.length() + 2;
+            }
+            if (payload.length() > head.length()) {
+                payload.append(',');
+            }
+            payload.append(json);
+            bytes += size;
+        }
+        payloads.add(payload.append("]}").toString());
+        jdbcTemplate.query("SELECT pg_notify(?, p) FROM unnest(?) p", ps -> {
+            ps.setString(1, properties.getChannel());
+            ps.setArray(2, ps.getConnection().createArrayOf("text", payloads.toArray()));
+        }, rs -> { });
+    }
+
+    private String toJson(ExecutionEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize execution event of job " + event.jobId(), e);
+        }
+    }
+
+    // ============================================================
+    // Listening (single daemon thread)
+    // ============================================================
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+                }
+                log.info("📡 Listening for execution events on '{}'", properties.getChannel());
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                int timeoutMillis = (int) properties.getPollTimeout().toMillis();
+                long presenceMillis = properties.getPresenceInterval().toMillis();
+                long nextAnnouncement = 0;
+                boolean announced = false;
+                while (running) {
+                    long now = System.currentTimeMillis();
+                    boolean listening = !subscribers.isEmpty();
+                    if (listening != announced || (listening && now >= nextAnnouncement)) {
+                        announce(connection, subscribers.size());
+                        nextAnnouncement = now + presenceMillis;
+                        announced = listening;
+                    }
+                    remoteSubscribers.values().removeIf(lapsesAt -> lapsesAt < now);
+
+                    PGNotification[] notifications = pg.getNotifications(timeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("❌ Execution event listener lost its connection, retrying in {}: {}",
+                        properties.getReconnectDelay(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getReconnectDelay().toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void announce(Connection connection, int count) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            ps.setString(1, properties.getChannel());
+            ps.setString(2, "{\"node\":\"" + node + "\",\"subscribers\":" + count + "}");
+            ps.execute();
+        }
+    }
+
+    void dispatch(String payload) {
+        try {
+            JsonNode message = objectMapper.readTree(payload);
+            String sender = message.path("node").asText();
+            if (node.equals(sender)) {
+                return; // delivered locally when published
+            }
+            if (message.has("subscribers")) {
+                if (message.path("subscribers").asInt() > 0) {
+                    remoteSubscribers.put(sender,
+                            System.currentTimeMillis() + 3 * properties.getPresenceInterval().toMillis());
+                } else {
+                    remoteSubscribers.remove(sender);
+                }
+                return;
+            }
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            for (JsonNode event : message.path("events")) {
+                deliver(objectMapper.treeToValue(event, ExecutionEvent.class));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed execution event notification: {}", e.getMessage());
+        }
+    }
+
+    // ============================================================
+    // Lifecycle
+    // ============================================================
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flusher = new Thread(this::flushLoop, "execution-event-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        listener = new Thread(this::listenLoop, "execution-event-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        subscribers.forEach(subscriber -> subscriber.sink().complete());
+        long waitMillis = properties.getPollTimeout().toMillis() * 2;
+        for (Thread thread : new Thread[]{flusher, listener}) {
+            if (thread == null) {
+                continue;
+            }
+            try {
+                thread.join(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -2,8 +2,18 @@ package com.example.scheduler.infrastructure.persistence;
 
 import com.example.scheduler.domain.model.JobDefinition;
 import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.enums.JobField;
 import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.JobPriority;
+import com.example.scheduler.domain.model.enums.MisfirePolicy;
+import com.example.scheduler.domain.model.enums.ScheduleType;
 import com.example.scheduler.infrastructure.persistence.entity.JobDefinitionEntity;
+import com.example.scheduler.infrastructure.persistence.payload.StoredPayload;
+import jakarta.persistence.Tuple;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
 
 
 public class JobDefinitionMapper {
@@ -12,11 +22,23 @@ public class JobDefinitionMapper {
         return JobDefinitionEntity.builder()
                 .id(domain.getId())
                 .name(domain.getName())
+                .jobType(domain.getJobType())
                 .scheduleType(domain.getScheduleType().name())
                 .cronExpression(domain.getCronExpression())
+                .jitterSeconds(domain.getJitterSeconds())
                 .intervalSeconds(domain.getIntervalSeconds())
                 .initialDelaySeconds(domain.getInitialDelaySeconds())
-                .payload(domain.getPayload())
+                .payloadHash(domain.getPayloadRef() != null ? StoredPayload.toHash(domain.getPayloadRef()) : null)
+                .logRetentionDays(domain.getLogRetentionDays())
+                .timeoutSeconds(domain.getTimeoutSeconds())
+                .retryMaxAttempts(domain.getRetryMaxAttempts())
+                .retryBackoffSeconds(domain.getRetryBackoffSeconds())
+                .maxConcurrent(domain.getMaxConcurrent())
+                .priority(domain.getPriority() != null ? domain.getPriority().name() : JobPriority.NORMAL.name())
+                .tenant(domain.getTenant())
+                .workflowId(domain.getWorkflowId())
+                .misfirePolicy(domain.getMisfirePolicy() != null ? domain.getMisfirePolicy().name() : null)
+                .misfireCatchUpLimit(domain.getMisfireCatchUpLimit())
                 .status(domain.getStatus().toString())
                 .version(domain.getVersion())
                 .createdAt(domain.getCreatedAt())
@@ -28,17 +50,77 @@ public class JobDefinitionMapper {
         return JobDefinition.builder()
                 .id(new JobId(entity.getId()).value())
                 .name(entity.getName())
+                .jobType(entity.getJobType())
                 .scheduleType(entity.getScheduleType() != null
                         ? Enum.valueOf(com.example.scheduler.domain.model.enums.ScheduleType.class, entity.getScheduleType())
                         : null)
                 .cronExpression(entity.getCronExpression())
+                .jitterSeconds(entity.getJitterSeconds())
                 .intervalSeconds(entity.getIntervalSeconds())
                 .initialDelaySeconds(entity.getInitialDelaySeconds())
-                .payload(entity.getPayload())
+                .payloadRef(entity.getPayloadHash() != null ? StoredPayload.toRef(entity.getPayloadHash()) : null)
+                .logRetentionDays(entity.getLogRetentionDays())
+                .timeoutSeconds(entity.getTimeoutSeconds())
+                .retryMaxAttempts(entity.getRetryMaxAttempts())
+                .retryBackoffSeconds(entity.getRetryBackoffSeconds())
+                .maxConcurrent(entity.getMaxConcurrent())
+                .priority(entity.getPriority() != null
+                        ? JobPriority.valueOf(entity.getPriority())
+                        : JobPriority.NORMAL)
+                .tenant(entity.getTenant())
+                .workflowId(entity.getWorkflowId())
+                .misfirePolicy(entity.getMisfirePolicy() != null
+                        ? MisfirePolicy.valueOf(entity.getMisfirePolicy())
+                        : MisfirePolicy.FIRE_NOW)
+                .misfireCatchUpLimit(entity.getMisfireCatchUpLimit())
                 .status(JobStatus.valueOf(entity.getStatus()))
                 .version(entity.getVersion())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
+
+    /** @return the entity attribute {@code field} is read from */
+    public static String attribute(JobField field) {
+        return field == JobField.PAYLOAD ? "payloadHash" : field.fieldName();
+    }
+
+    /**
+     * A definition with only {@code fields} (and the id and creation time) set, from a
+     * tuple aliased by {@link #attribute entity attribute}.
+     */
+    public static JobDefinition toDomain(Tuple row, Set<JobField> fields) {
+        JobDefinition.JobDefinitionBuilder job = JobDefinition.builder()
+                .id(row.get("id", UUID.class))
+                .createdAt(row.get("createdAt", Instant.class));
+        for (JobField field : fields) {
+            Object value = row.get(attribute(field));
+            switch (field) {
+                case NAME -> job.name((String) value);
+                case JOB_TYPE -> job.jobType((String) value);
+                case SCHEDULE_TYPE -> job.scheduleType(value != null ? ScheduleType.valueOf((String) value) : null);
+                case CRON_EXPRESSION -> job.cronExpression((String) value);
+                case JITTER_SECONDS -> job.jitterSeconds((Integer) value);
+                case INTERVAL_SECONDS -> job.intervalSeconds((Long) value);
+                case INITIAL_DELAY_SECONDS -> job.initialDelaySeconds((Long) value);
+                case PAYLOAD -> job.payloadRef(value != null ? StoredPayload.toRef((byte[]) value) : null);
+                case LOG_RETENTION_DAYS -> job.logRetentionDays((Integer) value);
+                case MISFIRE_POLICY -> job.misfirePolicy(value != null
+                        ? MisfirePolicy.valueOf((String) value)
+                        : MisfirePolicy.FIRE_NOW);
+                case MISFIRE_CATCH_UP_LIMIT -> job.misfireCatchUpLimit((Integer) value);
+                case TIMEOUT_SECONDS -> job.timeoutSeconds((Integer) value);
+                case RETRY_MAX_ATTEMPTS -> job.retryMaxAttempts((Integer) value);
+                case RETRY_BACKOFF_SECONDS -> job.retryBackoffSeconds((Integer) value);
+                case MAX_CONCURRENT -> job.maxConcurrent((Integer) value);
+                case PRIORITY -> job.priority(value != null ? JobPriority.valueOf((String) value) : JobPriority.NORMAL);
+                case TENANT -> job.tenant((String) value);
+                case WORKFLOW_ID -> job.workflowId((UUID) value);
+                case STATUS -> job.status(JobStatus.valueOf((String) value));
+                case VERSION -> job.version((Integer) value);
+                case UPDATED_AT -> job.updatedAt((Instant) value);
+            }
+        }
+        return job.build();
+    }
 }
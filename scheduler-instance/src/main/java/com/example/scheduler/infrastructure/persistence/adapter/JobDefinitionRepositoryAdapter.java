@@ -2,28 +2,45 @@ package com.example.scheduler.infrastructure.persistence.adapter;
 
 import com.example.scheduler.domain.model.JobDefinition;
 import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.model.enums.JobField;
 import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
 import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
 import com.example.scheduler.infrastructure.persistence.JobDefinitionMapper;
 import com.example.scheduler.infrastructure.persistence.entity.JobDefinitionEntity;
+import com.example.scheduler.infrastructure.persistence.payload.PayloadStore;
+import com.example.scheduler.infrastructure.persistence.payload.StoredPayload;
 import com.example.scheduler.infrastructure.persistence.repository.JobDefinitionJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JobDefinitionRepositoryAdapter implements JobDefinitionRepositoryPort {
 
     private final JobDefinitionJpaRepository jpaRepository;
+    private final PayloadStore payloads;
 
     @Override
     public JobDefinition save(JobDefinition jobDefinition) {
-        JobDefinitionEntity entity = JobDefinitionMapper.toEntity(jobDefinition);
-        JobDefinitionEntity saved = jpaRepository.save(entity);
-        return JobDefinitionMapper.toDomain(saved);
+        JobDefinition job = jobDefinition.getPayload() != null
+                ? jobDefinition.toBuilder().payloadRef(payloads.put(jobDefinition.getPayload())).build()
+                : jobDefinition;
+        JobDefinitionEntity saved = jpaRepository.save(JobDefinitionMapper.toEntity(job));
+        JobDefinition domain = JobDefinitionMapper.toDomain(saved);
+        domain.setPayload(job.getPayload());
+        return domain;
     }
 
     @Override
@@ -40,6 +57,14 @@ public class JobDefinitionRepositoryAdapter implements JobDefinitionRepositoryPo
                 .toList();
     }
 
+    @Override
+    public List<JobDefinition> findActivePage(UUID afterId, int limit) {
+        return jpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.ACTIVE.name(), afterId, Limit.of(limit))
+                .stream()
+                .map(JobDefinitionMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void delete(JobId jobId) {
         jpaRepository.deleteById(jobId.value());
@@ -57,4 +82,89 @@ public class JobDefinitionRepositoryAdapter implements JobDefinitionRepositoryPo
                 .toList();
     }
 
+    @Override
+    public List<JobDefinition> findPage(JobStatus status, ScheduleType scheduleType, KeysetCursor after, int limit,
+                                        Set<JobField> fields) {
+        return jpaRepository.findPage(
+                        fields.stream().map(JobDefinitionMapper::attribute).toList(),
+                        status != null ? status.name() : null,
+                        scheduleType != null ? scheduleType.name() : null,
+                        after,
+                        limit)
+                .stream()
+                .map(row -> JobDefinitionMapper.toDomain(row, fields))
+                .toList();
+    }
+
+    // ============================================================
+    // Bulk operations
+    // ============================================================
+    @Override
+    public void insertAll(Collection<JobDefinition> jobs) {
+        List<JobDefinition> withPayload = jobs.stream().filter(job -> job.getPayload() != null).toList();
+        List<String> refs = payloads.putAll(withPayload.stream().map(JobDefinition::getPayload).toList());
+        Map<UUID, String> refsById = new HashMap<>();
+        for (int i = 0; i < refs.size(); i++) {
+            refsById.put(withPayload.get(i).getId(), refs.get(i));
+        }
+        List<JobDefinitionEntity> entities = jobs.stream()
+                .map(job -> {
+                    JobDefinitionEntity entity = JobDefinitionMapper.toEntity(job);
+                    String ref = refsById.get(job.getId());
+                    if (ref != null) {
+                        entity.setPayloadHash(StoredPayload.toHash(ref));
+                    }
+                    entity.setNewEntity(true);
+                    return entity;
+                })
+                .toList();
+        // hibernate.jdbc.batch_size turns these persists into batched INSERTs
+        jpaRepository.saveAll(entities);
+        jpaRepository.flush();
+    }
+
+    @Override
+    public List<JobDefinition> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(JobDefinitionMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int updateStatus(Collection<UUID> ids, JobStatus status, Instant updatedAt) {
+        return ids.isEmpty() ? 0 : jpaRepository.updateStatus(ids, status.name(), updatedAt);
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            jpaRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    // ============================================================
+    // Payloads
+    // ============================================================
+    @Override
+    public List<JobDefinition> withPayloads(List<JobDefinition> jobs) {
+        List<String> refs = jobs.stream()
+                .filter(job -> job.getPayload() == null && job.getPayloadRef() != null)
+                .map(JobDefinition::getPayloadRef)
+                .distinct()
+                .toList();
+        if (refs.isEmpty()) {
+            return jobs;
+        }
+        Map<String, String> loaded = payloads.getAll(refs);
+        return jobs.stream()
+                .map(job -> job.getPayload() == null && job.getPayloadRef() != null
+                        ? job.toBuilder().payload(loaded.get(job.getPayloadRef())).build()
+                        : job)
+                .toList();
+    }
+
+    @Override
+    public Map<String, String> findPayloads(Collection<String> refs) {
+        return payloads.getAll(refs);
+    }
 }
@@ -0,0 +1,225 @@
+package com.example.scheduler.infrastructure.persistence.cache;
+
+import com.example.scheduler.config.JobCacheProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.domain.model.enums.JobField;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.infrastructure.persistence.adapter.JobDefinitionRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-through Caffeine cache in front of {@link JobDefinitionRepositoryAdapter} for the
+ * API reads ({@code findById}, {@code findPage}). Bulk scans used by the reconciler and
+ * the bulk mutations go straight to the database.
+ *
+ * <p>Every write publishes the changed ids on the {@link JobDefinitionChangeBus} within
+ * its transaction and drops the local entries again after commit, so a read racing the
+ * write cannot re-cache the old row. Remote nodes drop an entry unless it already holds
+ * a newer version than the notification. Any change clears the page cache, since a page
+ * can gain or lose rows.
+ *
+ * <p>Callers get copies: services mutate the definitions they load before saving them.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "scheduler.job-cache", name = "enabled", matchIfMissing = true)
+public class CachingJobDefinitionRepository implements JobDefinitionRepositoryPort, JobDefinitionChangeBus.Subscriber {
+
+    private final JobDefinitionRepositoryAdapter delegate;
+    private final JobDefinitionChangeBus changeBus;
+    private final Cache<UUID, JobDefinition> byId;
+    private final Cache<PageKey, List<JobDefinition>> pages;
+
+    private record PageKey(JobStatus status, ScheduleType scheduleType, KeysetCursor after, int limit,
+                           Set<JobField> fields) {
+    }
+
+    public CachingJobDefinitionRepository(JobDefinitionRepositoryAdapter delegate,
+                                          JobDefinitionChangeBus changeBus,
+                                          JobCacheProperties properties,
+                                          MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.changeBus = changeBus;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getPageMaxSize())
+                .expireAfterWrite(properties.getPageExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "jobDefinitions");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "jobDefinitionPages");
+        changeBus.subscribe(this);
+    }
+
+    // ============================================================
+    // Cached reads
+    // ============================================================
+    @Override
+    public Optional<JobDefinition> findById(JobId id) {
+        JobDefinition cached = byId.get(id.value(), key -> delegate.findById(id).orElse(null));
+        return Optional.ofNullable(cached).map(CachingJobDefinitionRepository::copy);
+    }
+
+    @Override
+    public boolean exists(JobId id) {
+        return byId.getIfPresent(id.value()) != null || delegate.exists(id);
+    }
+
+    @Override
+    public List<JobDefinition> findPage(JobStatus status, ScheduleType scheduleType, KeysetCursor after, int limit,
+                                        Set<JobField> fields) {
+        List<JobDefinition> page = pages.get(new PageKey(status, scheduleType, after, limit, Set.copyOf(fields)),
+                key -> delegate.findPage(status, scheduleType, after, limit, fields));
+        return page.stream().map(CachingJobDefinitionRepository::copy).toList();
+    }
+
+    // ============================================================
+    // Uncached reads
+    // ============================================================
+    @Override
+    public List<JobDefinition> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<JobDefinition> findActivePage(UUID afterId, int limit) {
+        return delegate.findActivePage(afterId, limit);
+    }
+
+    @Override
+    public List<JobDefinition> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<JobDefinition> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    // payloads are cached by the payload store, which needs no invalidation
+    @Override
+    public List<JobDefinition> withPayloads(List<JobDefinition> jobs) {
+        return delegate.withPayloads(jobs);
+    }
+
+    @Override
+    public Map<String, String> findPayloads(Collection<String> refs) {
+        return delegate.findPayloads(refs);
+    }
+
+    // ============================================================
+    // Writes
+    // ============================================================
+    @Override
+    public JobDefinition save(JobDefinition jobDefinition) {
+        JobDefinition saved = delegate.save(jobDefinition);
+        changed(Map.of(saved.getId(), versionOf(saved)));
+        return saved;
+    }
+
+    @Override
+    public void insertAll(Collection<JobDefinition> jobs) {
+        delegate.insertAll(jobs);
+        Map<UUID, Integer> changes = new HashMap<>();
+        jobs.forEach(job -> changes.put(job.getId(), versionOf(job)));
+        changed(changes);
+    }
+
+    @Override
+    public int updateStatus(Collection<UUID> ids, JobStatus status, Instant updatedAt) {
+        int updated = delegate.updateStatus(ids, status, updatedAt);
+        // the new versions are not read back, so every node drops its entries
+        Map<UUID, Integer> changes = new HashMap<>();
+        ids.forEach(id -> changes.put(id, null));
+        changed(changes);
+        return updated;
+    }
+
+    @Override
+    public void delete(JobId jobId) {
+        delegate.delete(jobId);
+        Map<UUID, Integer> changes = new HashMap<>();
+        changes.put(jobId.value(), null);
+        changed(changes);
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> ids) {
+        delegate.deleteAll(ids);
+        Map<UUID, Integer> changes = new HashMap<>();
+        ids.forEach(id -> changes.put(id, null));
+        changed(changes);
+    }
+
+    private void changed(Map<UUID, Integer> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        changeBus.publish(changes);
+        evictLocally(changes.keySet());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictLocally(changes.keySet());
+                }
+            });
+        }
+    }
+
+    private void evictLocally(Collection<UUID> ids) {
+        byId.invalidateAll(ids);
+        pages.invalidateAll();
+    }
+
+    // ============================================================
+    // Change notifications (all nodes, after commit)
+    // ============================================================
+    @Override
+    public void changed(UUID id, Integer version) {
+        byId.asMap().computeIfPresent(id, (key, cached) ->
+                version != null && versionOf(cached) > version ? cached : null);
+        pages.invalidateAll();
+    }
+
+    @Override
+    public void changedAll() {
+        byId.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    private static int versionOf(JobDefinition job) {
+        return job.getVersion() == null ? 0 : job.getVersion();
+    }
+
+    private static JobDefinition copy(JobDefinition job) {
+        return job.toBuilder().build();
+    }
+}
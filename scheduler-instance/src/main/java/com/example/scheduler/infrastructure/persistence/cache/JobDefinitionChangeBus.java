@@ -0,0 +1,176 @@
+package com.example.scheduler.infrastructure.persistence.cache;
+
+import com.example.scheduler.config.JobCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Publishes and receives job definition changes over a Postgres NOTIFY channel.
+ *
+ * <p>{@link #publish} issues {@code pg_notify} on the caller's connection, so inside a
+ * transaction the message is delivered to every node (this one included) only if and
+ * when it commits. A single daemon thread LISTENs on a dedicated connection; after it
+ * (re)connects, subscribers are told to drop everything, since changes may have been
+ * missed while it was away.
+ *
+ * <p>Used by the definition cache and by the timing-wheel engine, so it is on whenever
+ * either of them is.
+ *
+ * <p>Payload: comma-separated {@code id:version} entries, {@code id} alone for deletes,
+ * or {@code *} for "anything may have changed".
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${scheduler.job-cache.enabled:true} or '${scheduler.engine:quartz}' == 'wheel'")
+public class JobDefinitionChangeBus implements SmartLifecycle {
+
+    static final String ALL = "*";
+
+    // NOTIFY payloads are capped at 8000 bytes; an entry is at most ~48 characters
+    private static final int MAX_ENTRIES_PER_NOTIFY = 150;
+
+    public interface Subscriber {
+
+        /** @param version the definition version after the change, or {@code null} for a delete */
+        void changed(UUID id, Integer version);
+
+        void changedAll();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final JobCacheProperties properties;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public JobDefinitionChangeBus(JdbcTemplate jdbcTemplate,
+                                  DataSourceProperties dataSourceProperties,
+                                  JobCacheProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+    }
+
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    // ============================================================
+    // Publishing
+    // ============================================================
+
+    /** @param changes job id to version after the change, {@code null} for deletes */
+    public void publish(Map<UUID, Integer> changes) {
+        List<String> entries = new ArrayList<>(changes.size());
+        changes.forEach((id, version) -> entries.add(version == null ? id.toString() : id + ":" + version));
+        for (int from = 0; from < entries.size(); from += MAX_ENTRIES_PER_NOTIFY) {
+            notify(String.join(",", entries.subList(from, Math.min(from + MAX_ENTRIES_PER_NOTIFY, entries.size()))));
+        }
+    }
+
+    public void publishAll() {
+        notify(ALL);
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, properties.getChannel(), payload);
+    }
+
+    // ============================================================
+    // Listening (single daemon thread)
+    // ============================================================
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+                }
+                log.info("📡 Listening for job definition changes on '{}'", properties.getChannel());
+                subscribers.forEach(Subscriber::changedAll);
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                int timeoutMillis = (int) properties.getPollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(timeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("❌ Job definition change listener lost its connection, retrying in {}: {}",
+                        properties.getReconnectDelay(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getReconnectDelay().toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void dispatch(String payload) {
+        if (ALL.equals(payload)) {
+            subscribers.forEach(Subscriber::changedAll);
+            return;
+        }
+        for (String entry : payload.split(",")) {
+            int colon = entry.indexOf(':');
+            UUID id = UUID.fromString(colon < 0 ? entry : entry.substring(0, colon));
+            Integer version = colon < 0 ? null : Integer.valueOf(entry.substring(colon + 1));
+            subscribers.forEach(s -> s.changed(id, version));
+        }
+    }
+
+    // ============================================================
+    // Lifecycle
+    // ============================================================
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listenLoop, "job-definition-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            try {
+                listener.join(properties.getPollTimeout().toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.scheduler.infrastructure.persistence.deadletter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of {@code job_dead_letter}: a fire that failed on every attempt.
+ *
+ * @param scheduledFireTime scheduled fire time of the first attempt
+ * @param replayedAt        when it was last replayed, or {@code null}
+ */
+public record DeadLetterEntry(UUID id,
+                              UUID jobId,
+                              String jobType,
+                              String payload,
+                              Instant scheduledFireTime,
+                              int attempts,
+                              String lastError,
+                              Instant failedAt,
+                              Instant replayedAt) {
+}
@@ -0,0 +1,100 @@
+package com.example.scheduler.infrastructure.persistence.deadletter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code job_dead_letter}: fires that exhausted their retry attempts, newest first.
+ *
+ * <p>Replays are claimed with a conditional update, so two concurrent replays of the
+ * same entry run it once; a replay that could not be scheduled is released again.
+ */
+@Component
+public class DeadLetterRepository {
+
+    private static final String COLUMNS = """
+            id, job_id, job_type, payload::text, scheduled_fire_time, attempts, last_error, failed_at, replayed_at
+            """;
+
+    private static final RowMapper<DeadLetterEntry> ROW_MAPPER = (rs, i) -> new DeadLetterEntry(
+            rs.getObject(1, UUID.class),
+            rs.getObject(2, UUID.class),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getTimestamp(5).toInstant(),
+            rs.getInt(6),
+            rs.getString(7),
+            rs.getTimestamp(8).toInstant(),
+            rs.getTimestamp(9) == null ? null : rs.getTimestamp(9).toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeadLetterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void add(DeadLetterEntry entry) {
+        jdbcTemplate.update("""
+                        INSERT INTO job_dead_letter (id, job_id, job_type, payload, scheduled_fire_time, attempts, last_error, failed_at)
+                        VALUES (?, ?, ?, ?::jsonb, ?, ?, ?, ?)
+                        """,
+                entry.id(), entry.jobId(), entry.jobType(), entry.payload(),
+                Timestamp.from(entry.scheduledFireTime()), entry.attempts(), entry.lastError(),
+                Timestamp.from(entry.failedAt()));
+    }
+
+    public List<DeadLetterEntry> findByIds(List<UUID> ids) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM job_dead_letter WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())), ROW_MAPPER);
+    }
+
+    /**
+     * One keyset page ordered by {@code (failed_at, id)} descending.
+     *
+     * @param jobId           only this job's entries, or all jobs if {@code null}
+     * @param includeReplayed also entries that have been replayed
+     * @param afterFailedAt   cursor position, or {@code null} for the first page
+     */
+    public List<DeadLetterEntry> findPage(UUID jobId, boolean includeReplayed,
+                                          Instant afterFailedAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM job_dead_letter WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (jobId != null) {
+            sql.append(" AND job_id = ?");
+            args.add(jobId);
+        }
+        if (!includeReplayed) {
+            sql.append(" AND replayed_at IS NULL");
+        }
+        if (afterFailedAt != null) {
+            sql.append(" AND (failed_at, id) < (?, ?)");
+            args.add(Timestamp.from(afterFailedAt));
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY failed_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /** @return whether this caller claimed the replay; false if it was already replayed */
+    public boolean claimReplay(UUID id) {
+        return jdbcTemplate.update(
+                "UPDATE job_dead_letter SET replayed_at = now() WHERE id = ? AND replayed_at IS NULL", id) == 1;
+    }
+
+    public void unclaimReplay(UUID id) {
+        jdbcTemplate.update("UPDATE job_dead_letter SET replayed_at = NULL WHERE id = ?", id);
+    }
+
+    /** Deletes entries that failed before {@code cutoff}. */
+    public int purge(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM job_dead_letter WHERE failed_at < ?", Timestamp.from(cutoff));
+    }
+}
@@ -2,8 +2,7 @@ package com.example.scheduler.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -15,28 +14,64 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class JobDefinitionEntity {
+public class JobDefinitionEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
 
     private String name;
 
+    @Column(name = "job_type")
+    private String jobType;
+
     @Column(name = "schedule_type")
     private String scheduleType;
 
     @Column(name = "cron_expression")
     private String cronExpression;
 
+    @Column(name = "jitter_seconds")
+    private Integer jitterSeconds;
+
     @Column(name = "interval_seconds")
     private Long intervalSeconds;
 
     @Column(name = "initial_delay_seconds")
     private Long initialDelaySeconds;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(columnDefinition = "jsonb")
-    private String payload;
+    // SHA-256 of the payload in job_payload; the payload itself is read only on request
+    @Column(name = "payload_hash")
+    private byte[] payloadHash;
+
+    @Column(name = "log_retention_days")
+    private Integer logRetentionDays;
+
+    @Column(name = "misfire_policy")
+    private String misfirePolicy;
+
+    @Column(name = "misfire_catch_up_limit")
+    private Integer misfireCatchUpLimit;
+
+    @Column(name = "timeout_seconds")
+    private Integer timeoutSeconds;
+
+    @Column(name = "retry_max_attempts")
+    private Integer retryMaxAttempts;
+
+    @Column(name = "retry_backoff_seconds")
+    private Integer retryBackoffSeconds;
+
+    @Column(name = "max_concurrent")
+    private Integer maxConcurrent;
+
+    @Column(name = "priority", nullable = false)
+    private String priority;
+
+    @Column(name = "tenant")
+    private String tenant;
+
+    @Column(name = "workflow_id")
+    private UUID workflowId;
 
     private String status;
 
@@ -47,4 +82,21 @@ public class JobDefinitionEntity {
 
     @Column(name = "updated_at")
     private Instant updatedAt;
+
+    // Set on rows built for insert, so save() persists them without a SELECT first
+    // (ids are assigned by the application, which otherwise makes Spring Data merge).
+    @Transient
+    @Builder.Default
+    private boolean newEntity = false;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -23,11 +23,17 @@ public class JobExecutionLogEntity {
     private Instant fireTime;
 
     @Column(name = "status", nullable = false)
-    private String status;  // SUCCESS / FAILED
+    private String status;  // SUCCESS / FAILED / TIMED_OUT / SKIPPED
 
     @Column(name = "error_message")
     private String errorMessage;
 
+    @Column(name = "duration_ms")
+    private Long durationMs;  // null when SKIPPED
+
+    @Column(name = "attempt", nullable = false)
+    private int attempt = 1;  // 1 = scheduled fire, 2.. = retries
+
     @Column(name = "created_at")
     private Instant createdAt;
 }
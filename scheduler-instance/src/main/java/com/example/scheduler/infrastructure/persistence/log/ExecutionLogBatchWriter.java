@@ -0,0 +1,257 @@
+package com.example.scheduler.infrastructure.persistence.log;
+
+import com.example.scheduler.config.ExecutionLogProperties;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import com.example.scheduler.infrastructure.persistence.stats.ExecutionStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Buffers execution-log records in a bounded queue and writes them to
+ * {@code job_execution_log} in JDBC batches, flushed by size or by time.
+ *
+ * <p>Quartz workers only pay for a queue offer. When the queue is full the worker
+ * waits up to {@code offer-timeout} and then writes the record itself, so a slow
+ * database pushes back on fire rate instead of growing the heap. On shutdown the
+ * queue is drained before the data source goes away; records submitted after that
+ * are written synchronously.
+ *
+ * <p>A batch that fails is retried with exponential backoff, up to {@code write-attempts}
+ * times, so a database failover or a connection pool hiccup does not lose history. While
+ * the flusher waits, the queue keeps absorbing new records and then pushes back on callers
+ * as usual.
+ *
+ * <p>Each batch then updates the minute and hour rollups in a transaction of its own,
+ * after the raw rows have committed: contention on a hot bucket row, or any other rollup
+ * failure, costs statistics but never the execution history itself. The rollup update is
+ * not idempotent, so it is retried only when it certainly rolled back; after a failed
+ * commit, which may have gone through, the batch is left out of the statistics rather
+ * than risk counting it twice.
+ */
+@Slf4j
+@Component
+public class ExecutionLogBatchWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_execution_log (id, job_id, fire_time, status, error_message, duration_ms, attempt, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutionLogProperties properties;
+    private final ExecutionStatsRepository statsRepository;
+    private final TransactionOperations transactions;
+    private final BlockingQueue<JobExecutionLogEntity> queue;
+
+    // submit holds the read lock from its running check through the offer, so stop() cannot
+    // let the flusher finish between the two and strand a record in the queue
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ExecutionLogBatchWriter(JdbcTemplate jdbcTemplate, ExecutionLogProperties properties,
+                                   ExecutionStatsRepository statsRepository, TransactionOperations transactions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.statsRepository = statsRepository;
+        this.transactions = transactions;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    // ============================================================
+    // Producer side (Quartz workers)
+    // ============================================================
+    public void submit(JobExecutionLogEntity entry) {
+        boolean queued = false;
+        lifecycle.readLock().lock();
+        try {
+            if (running) {
+                queued = queue.offer(entry, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                if (!queued) {
+                    log.warn("Execution log buffer full ({} entries), writing on caller thread", queue.size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+        if (!queued) {
+            write(List.of(entry));
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    // ============================================================
+    // Consumer side (single flusher thread)
+    // ============================================================
+    private void flushLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<JobExecutionLogEntity> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                JobExecutionLogEntity first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    JobExecutionLogEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() does not interrupt; keep draining until the queue is empty
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                write(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<JobExecutionLogEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (withRetry("execution log entries", batch.size(), true, () -> insert(batch))) {
+            withRetry("execution stats updates", batch.size(), false,
+                    () -> transactions.executeWithoutResult(tx -> statsRepository.add(batch)));
+        }
+    }
+
+    /**
+     * @param idempotent whether {@code action} may be repeated after a failed commit, whose
+     *                   outcome is unknown
+     * @return whether {@code action} succeeded within {@code write-attempts}
+     */
+    private boolean withRetry(String what, int size, boolean idempotent, Runnable action) {
+        long backoffMillis = properties.getWriteRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                action.run();
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                log.error("❌ {} {} rejected, dropping them", size, what, e);
+                return false;
+            } catch (TransactionSystemException e) {
+                if (!idempotent) {
+                    log.error("❌ Commit of {} {} failed and may have gone through, not retrying", size, what, e);
+                    return false;
+                }
+                if (attempt >= properties.getWriteAttempts()) {
+                    log.error("❌ Failed to write {} {} after {} attempts, dropping them", size, what, attempt, e);
+                    return false;
+                }
+                log.warn("⚠️ Failed to commit {} {} (attempt {}), retrying in {} ms: {}",
+                        size, what, attempt, backoffMillis, e.getMessage());
+            } catch (DataAccessException | TransactionException e) {
+                if (attempt >= properties.getWriteAttempts()) {
+                    log.error("❌ Failed to write {} {} after {} attempts, dropping them", size, what, attempt, e);
+                    return false;
+                }
+                log.warn("⚠️ Failed to write {} {} (attempt {}), retrying in {} ms: {}",
+                        size, what, attempt, backoffMillis, e.getMessage());
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("❌ Interrupted while retrying, dropping {} {}", size, what);
+                return false;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    private void insert(List<JobExecutionLogEntity> batch) {
+        transactions.executeWithoutResult(tx ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+                    ps.setObject(1, e.getId());
+                    ps.setObject(2, e.getJobId());
+                    ps.setTimestamp(3, Timestamp.from(e.getFireTime()));
+                    ps.setString(4, e.getStatus());
+                    ps.setString(5, e.getErrorMessage());
+                    ps.setObject(6, e.getDurationMs());
+                    ps.setInt(7, e.getAttempt());
+                    ps.setTimestamp(8, Timestamp.from(e.getCreatedAt()));
+                }));
+    }
+
+    // ============================================================
+    // Lifecycle
+    // ============================================================
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "execution-log-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        try {
+            flusher.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive() || !queue.isEmpty()) {
+            log.warn("Execution log writer stopped with {} entries not flushed", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the Quartz scheduler (phase {@code Integer.MAX_VALUE}) and the fair-share
+     * dispatcher so in-flight fires can still enqueue, and before the data source is closed.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 2;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.scheduler.infrastructure.persistence.log;
+
+import com.example.scheduler.config.ExecutionLogProperties;
+import com.example.scheduler.domain.model.enums.StatsGranularity;
+import com.example.scheduler.infrastructure.cluster.ClusterLock;
+import com.example.scheduler.infrastructure.persistence.stats.ExecutionStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Keeps the daily range partitions of {@code job_execution_log} in shape.
+ *
+ * <p>Each run creates the partitions for the next {@code premake-days} UTC days, then
+ * expires partitions whose upper bound is older than the longest retention in force:
+ * the global retention or the largest {@code log_retention_days} of a job that is not
+ * DELETED. Jobs that keep less than that, their own retention or else the global one,
+ * have their older rows deleted, which only touches the job's slice of the
+ * {@code (job_id, fire_time)} index. Rollup buckets past their own retention are
+ * deleted in the same run. Runs on startup and on {@code cron}, under a cluster lock so
+ * only one node changes DDL at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutionLogPartitionMaintainer {
+
+    private static final String LOCK_NAME = "execution-log-partitions";
+    private static final String TABLE = "job_execution_log";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname,
+                   (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1]::timestamptz
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'job_execution_log'::regclass
+            """;
+
+    // jobs without their own retention keep the global one
+    private static final String PER_JOB_DELETE_SQL = """
+            DELETE FROM job_execution_log l
+            USING (SELECT id, coalesce(make_interval(days => log_retention_days), make_interval(secs => ?)) AS keep
+                   FROM job_definition) d
+            WHERE l.job_id = d.id
+              AND d.keep < make_interval(secs => ?)
+              AND l.fire_time < now() - d.keep
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLock clusterLock;
+    private final ExecutionLogProperties properties;
+    private final ExecutionStatsRepository statsRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${scheduler.execution-log.partitions.cron:0 15 * * * *}")
+    public void maintain() {
+        if (!clusterLock.runExclusively(LOCK_NAME, this::runMaintenance)) {
+            log.debug("Another node is maintaining execution log partitions");
+        }
+    }
+
+    private void runMaintenance() {
+        ExecutionLogProperties.Partitions config = properties.getPartitions();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        int created = 0;
+        for (int i = 0; i <= config.getPremakeDays(); i++) {
+            if (createPartition(today.plusDays(i))) {
+                created++;
+            }
+        }
+
+        Integer longestJobRetention = jdbcTemplate.queryForObject(
+                "SELECT max(log_retention_days) FROM job_definition WHERE status <> 'DELETED'", Integer.class);
+        Duration keep = config.getRetention();
+        if (longestJobRetention != null && Duration.ofDays(longestJobRetention).compareTo(keep) > 0) {
+            keep = Duration.ofDays(longestJobRetention);
+        }
+        Instant cutoff = Instant.now().minus(keep);
+
+        int expired = 0;
+        for (Partition partition : partitions()) {
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(cutoff)) {
+                expire(partition.name(), config.getRetentionAction());
+                expired++;
+            }
+        }
+
+        int deleted = jdbcTemplate.update(PER_JOB_DELETE_SQL,
+                (double) config.getRetention().toSeconds(), (double) keep.toSeconds());
+
+        log.info("🗂️ Execution log partitions: {} created, {} {}, {} rows past per-job retention deleted",
+                created, expired, config.getRetentionAction() == ExecutionLogProperties.RetentionAction.DROP
+                        ? "dropped" : "detached", deleted);
+
+        ExecutionLogProperties.Stats stats = properties.getStats();
+        int minutes = statsRepository.purge(StatsGranularity.MINUTE, Instant.now().minus(stats.getMinuteRetention()));
+        int hours = statsRepository.purge(StatsGranularity.HOUR, Instant.now().minus(stats.getHourRetention()));
+        log.info("🗂️ Execution stats rollups: {} minute and {} hour buckets past retention deleted", minutes, hours);
+    }
+
+    private boolean createPartition(LocalDate day) {
+        String name = TABLE + "_p" + day.format(SUFFIX);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+        if (Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(name, TABLE, day.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                            day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+            return true;
+        } catch (DataAccessException e) {
+            // e.g. rows for that day already landed in the default partition
+            log.error("❌ Failed to create execution log partition {}", name, e);
+            return false;
+        }
+    }
+
+    private void expire(String partition, ExecutionLogProperties.RetentionAction action) {
+        switch (action) {
+            case DROP -> jdbcTemplate.execute("DROP TABLE " + partition);
+            case DETACH -> jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+        }
+        log.info("🗑️ Execution log partition {} expired ({})", partition, action);
+    }
+
+    private List<Partition> partitions() {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, i) -> new Partition(
+                rs.getString(1),
+                rs.getTimestamp(2) != null ? rs.getTimestamp(2).toInstant() : null));
+    }
+
+    /** A child partition and its exclusive upper bound; {@code null} for the default partition. */
+    private record Partition(String name, Instant upperBound) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.scheduler.infrastructure.persistence.payload;
+
+import com.example.scheduler.config.PayloadStoreProperties;
+import com.example.scheduler.infrastructure.cluster.ClusterLock;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code job_payload}: each distinct payload stored once, as a {@link StoredPayload},
+ * and referred to from {@code job_definition.payload_hash} by its hash (the payload's
+ * <em>ref</em>). Job definitions are read without their payload; callers that need it
+ * load it here.
+ *
+ * <p>A ref always names the same content, so decompressed payloads are cached without
+ * invalidation, bounded by their total length; jobs sharing a payload share one copy.
+ *
+ * <p>Payloads no job refers to any more are deleted by {@link #purgeOrphans} once unused
+ * for {@code orphan-retention}, every {@code purge-cron} under a cluster lock. Storing a payload marks it as used, and the row lock taken by that keeps a
+ * concurrent purge from deleting it before the job referring to it commits. A payload
+ * stored for a later fire, such as a retry's, is marked as used until that fire is due.
+ */
+@Slf4j
+@Component
+public class PayloadStore {
+
+    private static final String PURGE_LOCK_NAME = "payload-purge";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLock clusterLock;
+    private final PayloadStoreProperties properties;
+    private final Cache<String, String> byRef;
+
+    public PayloadStore(JdbcTemplate jdbcTemplate,
+                        ClusterLock clusterLock,
+                        PayloadStoreProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterLock = clusterLock;
+        this.properties = properties;
+        this.byRef = Caffeine.newBuilder()
+                .maximumWeight(properties.getCacheMaxChars())
+                .weigher((String ref, String payload) -> payload.length())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byRef, "payloads");
+    }
+
+    /**
+     * Stores the payloads that are not stored yet and marks the others as used.
+     *
+     * @return the ref of each payload, in order
+     */
+    public List<String> putAll(List<String> payloads) {
+        return putAll(payloads, null);
+    }
+
+    private List<String> putAll(List<String> payloads, Instant usedUntil) {
+        if (payloads.isEmpty()) {
+            return List.of();
+        }
+        Map<String, StoredPayload> distinct = new HashMap<>();
+        List<String> refs = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            refs.add(distinct.computeIfAbsent(payload,
+                    p -> StoredPayload.encode(p, properties.getCompressMinBytes())).ref());
+        }
+        // in ref order, so concurrent writers of the same payloads lock their rows in the same order
+        List<StoredPayload> rows = distinct.values().stream()
+                .sorted(Comparator.comparing(StoredPayload::ref))
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO job_payload (hash, codec, raw_size, body, last_used_at)
+                        VALUES (?, ?, ?, ?, GREATEST(now(), ?))
+                        ON CONFLICT (hash) DO UPDATE
+                        SET last_used_at = GREATEST(job_payload.last_used_at, EXCLUDED.last_used_at)
+                        """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setBytes(1, row.hash());
+                    ps.setString(2, row.codec().name());
+                    ps.setInt(3, row.rawSize());
+                    ps.setBytes(4, row.body());
+                    ps.setTimestamp(5, usedUntil != null ? Timestamp.from(usedUntil) : null);
+                });
+        distinct.forEach((payload, row) -> byRef.put(row.ref(), payload));
+        return refs;
+    }
+
+    /** @return the ref of the payload, now stored */
+    public String put(String payload) {
+        return putAll(List.of(payload)).get(0);
+    }
+
+    /**
+     * Stores a payload for a fire due at {@code usedUntil}, so it outlives the purge until
+     * then even if no job refers to it any more.
+     *
+     * @return the ref of the payload, now stored
+     */
+    public String put(String payload, Instant usedUntil) {
+        return putAll(List.of(payload), usedUntil).get(0);
+    }
+
+    /** @return the payload, or {@code null} if {@code ref} is not stored */
+    public String get(String ref) {
+        return getAll(List.of(ref)).get(ref);
+    }
+
+    /**
+     * Payloads by ref, from the cache or else in one query.
+     *
+     * @return the payloads found; refs that are not stored are missing
+     */
+    public Map<String, String> getAll(Collection<String> refs) {
+        if (refs.isEmpty()) {
+            return Map.of();
+        }
+        return byRef.getAll(refs, this::load);
+    }
+
+    private Map<String, String> load(Set<? extends String> refs) {
+        byte[][] hashes = refs.stream().map(StoredPayload::toHash).toArray(byte[][]::new);
+        Map<String, String> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT hash, codec, raw_size, body FROM job_payload WHERE hash = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bytea", hashes)),
+                rs -> {
+                    StoredPayload row = new StoredPayload(rs.getBytes(1),
+                            StoredPayload.Codec.valueOf(rs.getString(2)), rs.getInt(3), rs.getBytes(4));
+                    loaded.put(row.ref(), row.decode());
+                });
+        return loaded;
+    }
+
+    @Scheduled(cron = "${scheduler.payload-store.purge-cron:0 35 * * * *}")
+    public void purgeOrphans() {
+        if (!clusterLock.runExclusively(PURGE_LOCK_NAME, () -> {
+            int purged = purgeOrphans(Instant.now().minus(properties.getOrphanRetention()));
+            log.info("🗂️ Job payloads: {} no longer referred to deleted", purged);
+        })) {
+            log.debug("Another node is purging job payloads");
+        }
+    }
+
+    /** Deletes payloads no job refers to that have not been used since {@code unusedSince}. */
+    public int purgeOrphans(Instant unusedSince) {
+        return jdbcTemplate.update("""
+                        DELETE FROM job_payload p
+                        WHERE p.last_used_at < ?
+                          AND NOT EXISTS (SELECT 1 FROM job_definition j WHERE j.payload_hash = p.hash)
+                        """,
+                Timestamp.from(unusedSince));
+    }
+}
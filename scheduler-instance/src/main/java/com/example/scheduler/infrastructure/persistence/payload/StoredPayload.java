@@ -0,0 +1,66 @@
+package com.example.scheduler.infrastructure.persistence.payload;
+
+import net.jpountz.lz4.LZ4Factory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * A payload as stored in {@code job_payload}: keyed by the SHA-256 of its UTF-8 bytes,
+ * and LZ4-compressed when it is large enough and compression makes it smaller.
+ *
+ * @param rawSize UTF-8 bytes before compression
+ */
+public record StoredPayload(byte[] hash, Codec codec, int rawSize, byte[] body) {
+
+    public enum Codec {
+        NONE,
+        LZ4
+    }
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+    private static final HexFormat HEX = HexFormat.of();
+
+    public static StoredPayload encode(String payload, int compressMinBytes) {
+        byte[] raw = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] hash = sha256(raw);
+        if (raw.length >= compressMinBytes) {
+            byte[] compressed = LZ4_FACTORY.fastCompressor().compress(raw);
+            if (compressed.length < raw.length) {
+                return new StoredPayload(hash, Codec.LZ4, raw.length, compressed);
+            }
+        }
+        return new StoredPayload(hash, Codec.NONE, raw.length, raw);
+    }
+
+    public String decode() {
+        byte[] raw = switch (codec) {
+            case NONE -> body;
+            case LZ4 -> LZ4_FACTORY.safeDecompressor().decompress(body, rawSize);
+        };
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    /** @return the hash as job definitions refer to it, in hex */
+    public String ref() {
+        return toRef(hash);
+    }
+
+    public static String toRef(byte[] hash) {
+        return HEX.formatHex(hash);
+    }
+
+    public static byte[] toHash(String ref) {
+        return HEX.parseHex(ref);
+    }
+
+    private static byte[] sha256(byte[] raw) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(raw);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package com.example.scheduler.infrastructure.persistence.repository;
 
 import com.example.scheduler.infrastructure.persistence.entity.JobDefinitionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface JobDefinitionJpaRepository extends JpaRepository<JobDefinitionEntity, UUID> {
+public interface JobDefinitionJpaRepository extends JpaRepository<JobDefinitionEntity, UUID>,
+        JobDefinitionJpaRepositoryCustom {
 
     List<JobDefinitionEntity> findByStatus(String status);
+
+    List<JobDefinitionEntity> findByStatusAndIdGreaterThanOrderByIdAsc(String status, UUID afterId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobDefinitionEntity e SET e.status = :status, e.updatedAt = :updatedAt,"
+            + " e.version = coalesce(e.version, 0) + 1 WHERE e.id IN :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids,
+                     @Param("status") String status,
+                     @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,20 @@
+package com.example.scheduler.infrastructure.persistence.repository;
+
+import com.example.scheduler.domain.model.KeysetCursor;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JobDefinitionJpaRepositoryCustom {
+
+    /**
+     * Jobs ordered by {@code (created_at DESC, id DESC)}, optionally filtered, as tuples of
+     * {@code id}, {@code createdAt} and the given entity attributes, each aliased by its
+     * attribute name. No entities are loaded.
+     *
+     * @param after exclusive start position, or {@code null} for the first page
+     */
+    List<Tuple> findPage(Collection<String> attributes, String status, String scheduleType,
+                         KeysetCursor after, int limit);
+}
@@ -0,0 +1,58 @@
+package com.example.scheduler.infrastructure.persistence.repository;
+
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.infrastructure.persistence.entity.JobDefinitionEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+class JobDefinitionJpaRepositoryImpl implements JobDefinitionJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findPage(Collection<String> attributes, String status, String scheduleType,
+                                KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<JobDefinitionEntity> job = query.from(JobDefinitionEntity.class);
+
+        List<Selection<?>> select = new ArrayList<>(attributes.size() + 2);
+        select.add(job.get("id").alias("id"));
+        select.add(job.get("createdAt").alias("createdAt"));
+        for (String attribute : attributes) {
+            select.add(job.get(attribute).alias(attribute));
+        }
+
+        List<Predicate> where = new ArrayList<>();
+        if (status != null) {
+            where.add(cb.equal(job.get("status"), status));
+        }
+        if (scheduleType != null) {
+            where.add(cb.equal(job.get("scheduleType"), scheduleType));
+        }
+        if (after != null) {
+            where.add(KeysetPredicates.after(cb, job.<Instant>get("createdAt"), job.<UUID>get("id"), after));
+        }
+
+        query.multiselect(select)
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(job.get("createdAt")), cb.desc(job.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.scheduler.infrastructure.persistence.repository;
+
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface JobExecutionLogJpaRepositoryCustom {
+
+    /**
+     * Executions of one job ordered by {@code (fire_time DESC, id DESC)}, optionally
+     * filtered by status and by a {@code [fireTimeFrom, fireTimeTo)} range.
+     *
+     * @param after exclusive start position, or {@code null} for the first page
+     */
+    List<JobExecutionLogEntity> findPage(UUID jobId, String status, Instant fireTimeFrom, Instant fireTimeTo,
+                                         KeysetCursor after, int limit);
+
+    /**
+     * The latest {@code limit} executions of each of the jobs, in one query, ordered by
+     * {@code (job_id, fire_time DESC, id DESC)}.
+     */
+    List<JobExecutionLogEntity> findRecent(Collection<UUID> jobIds, int limit);
+}
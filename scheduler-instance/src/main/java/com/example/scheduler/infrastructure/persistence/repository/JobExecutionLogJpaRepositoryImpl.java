@@ -0,0 +1,75 @@
+package com.example.scheduler.infrastructure.persistence.repository;
+
+import com.example.scheduler.domain.model.KeysetCursor;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+class JobExecutionLogJpaRepositoryImpl implements JobExecutionLogJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JobExecutionLogEntity> findPage(UUID jobId, String status, Instant fireTimeFrom, Instant fireTimeTo,
+                                                KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobExecutionLogEntity> query = cb.createQuery(JobExecutionLogEntity.class);
+        Root<JobExecutionLogEntity> log = query.from(JobExecutionLogEntity.class);
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(log.get("jobId"), jobId));
+        if (status != null) {
+            where.add(cb.equal(log.get("status"), status));
+        }
+        if (fireTimeFrom != null) {
+            where.add(cb.greaterThanOrEqualTo(log.get("fireTime"), fireTimeFrom));
+        }
+        if (fireTimeTo != null) {
+            where.add(cb.lessThan(log.get("fireTime"), fireTimeTo));
+        }
+        if (after != null) {
+            where.add(KeysetPredicates.after(cb, log.<Instant>get("fireTime"), log.<UUID>get("id"), after));
+        }
+
+        query.select(log)
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(log.get("fireTime")), cb.desc(log.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // one index range scan on (job_id, fire_time DESC, id DESC) per job, however long its history
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobExecutionLogEntity> findRecent(Collection<UUID> jobIds, int limit) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createNativeQuery("""
+                        SELECT l.* FROM unnest(:jobIds) AS j(id)
+                        CROSS JOIN LATERAL (
+                            SELECT * FROM job_execution_log
+                            WHERE job_id = j.id
+                            ORDER BY fire_time DESC, id DESC
+                            LIMIT :limit
+                        ) l
+                        ORDER BY l.job_id, l.fire_time DESC, l.id DESC
+                        """, JobExecutionLogEntity.class)
+                .setParameter("jobIds", jobIds.toArray(UUID[]::new))
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+}
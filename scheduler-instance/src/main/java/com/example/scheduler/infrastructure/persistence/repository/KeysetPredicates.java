@@ -0,0 +1,30 @@
+package com.example.scheduler.infrastructure.persistence.repository;
+
+import com.example.scheduler.domain.model.KeysetCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+final class KeysetPredicates {
+
+    private KeysetPredicates() {
+    }
+
+    /**
+     * Rows strictly after {@code cursor} in {@code (timestamp DESC, id DESC)} order.
+     * The redundant {@code timestamp <= cursor.timestamp} bound lets Postgres turn the
+     * OR into an index range scan.
+     */
+    static Predicate after(CriteriaBuilder cb, Path<Instant> timestamp, Path<UUID> id, KeysetCursor cursor) {
+        return cb.and(
+                cb.lessThanOrEqualTo(timestamp, cursor.timestamp()),
+                cb.or(
+                        cb.lessThan(timestamp, cursor.timestamp()),
+                        cb.and(cb.equal(timestamp, cursor.timestamp()), cb.lessThan(id, cursor.id()))
+                )
+        );
+    }
+}
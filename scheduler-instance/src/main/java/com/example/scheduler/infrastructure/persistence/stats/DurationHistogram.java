@@ -0,0 +1,100 @@
+package com.example.scheduler.infrastructure.persistence.stats;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable histogram of execution durations in milliseconds, stored in the rollup
+ * tables' {@code duration_histogram} column.
+ *
+ * <p>Bucket 0 holds sub-millisecond runs; bucket {@code i > 0} covers
+ * {@code [2^((i-1)/4), 2^(i/4))} ms, four buckets per power of two, so a percentile read
+ * back from it is within about 9% of the true value. Histograms of any two buckets or
+ * time ranges add element-wise, which is what makes the hour rollups and range
+ * summaries exact merges rather than averages of percentiles.
+ */
+public final class DurationHistogram {
+
+    static final int SUB_BUCKETS = 4;
+    /** Last bucket; it also takes everything above {@code 2^(MAX_BUCKET/4)} ms (about 40 days). */
+    static final int MAX_BUCKET = 32 * SUB_BUCKETS;
+
+    private long[] counts;
+
+    public DurationHistogram() {
+        this.counts = new long[0];
+    }
+
+    private DurationHistogram(long[] counts) {
+        this.counts = counts;
+    }
+
+    public static DurationHistogram of(long[] counts) {
+        return new DurationHistogram(counts == null ? new long[0] : counts.clone());
+    }
+
+    public static int bucketOf(long durationMs) {
+        if (durationMs < 1) {
+            return 0;
+        }
+        int bucket = (int) Math.floor(SUB_BUCKETS * Math.log(durationMs) / Math.log(2)) + 1;
+        return Math.min(bucket, MAX_BUCKET);
+    }
+
+    public void record(long durationMs) {
+        int bucket = bucketOf(durationMs);
+        grow(bucket + 1);
+        counts[bucket]++;
+    }
+
+    public void merge(DurationHistogram other) {
+        grow(other.counts.length);
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public long count() {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        return total;
+    }
+
+    /**
+     * @param quantile between 0 and 1
+     * @param maxMs    exact maximum, used to cap the estimate from the top bucket
+     * @return geometric midpoint of the bucket holding the quantile, or {@code null} if empty
+     */
+    public Double percentile(double quantile, Long maxMs) {
+        long total = count();
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                double estimate = i == 0 ? 0 : Math.pow(2, (i - 0.5) / SUB_BUCKETS);
+                return maxMs != null ? Math.min(estimate, maxMs) : estimate;
+            }
+        }
+        return maxMs != null ? maxMs.doubleValue() : null;
+    }
+
+    /** @return counts up to the highest non-empty bucket */
+    public long[] toArray() {
+        int length = counts.length;
+        while (length > 0 && counts[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    private void grow(int length) {
+        if (counts.length < length) {
+            counts = Arrays.copyOf(counts, length);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.scheduler.infrastructure.persistence.stats;
+
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Execution counts and durations of one job over one rollup bucket, as accumulated
+ * from log entries or read back from {@code job_stats_minute} / {@code job_stats_hour}.
+ */
+@Getter
+public class ExecutionStatsBucket {
+
+    private final UUID jobId;
+    private final Instant bucketStart;
+    private long successCount;
+    private long failedCount;
+    private long skippedCount;
+    private long timedOutCount;
+    private long durationCount;
+    private long durationSumMs;
+    private Long durationMaxMs;
+    private final DurationHistogram histogram;
+
+    public ExecutionStatsBucket(UUID jobId, Instant bucketStart) {
+        this(jobId, bucketStart, 0, 0, 0, 0, 0, 0, null, new DurationHistogram());
+    }
+
+    ExecutionStatsBucket(UUID jobId, Instant bucketStart, long successCount, long failedCount, long skippedCount,
+                         long timedOutCount, long durationCount, long durationSumMs, Long durationMaxMs,
+                         DurationHistogram histogram) {
+        this.jobId = jobId;
+        this.bucketStart = bucketStart;
+        this.successCount = successCount;
+        this.failedCount = failedCount;
+        this.skippedCount = skippedCount;
+        this.timedOutCount = timedOutCount;
+        this.durationCount = durationCount;
+        this.durationSumMs = durationSumMs;
+        this.durationMaxMs = durationMaxMs;
+        this.histogram = histogram;
+    }
+
+    public void record(JobExecutionLogEntity entry) {
+        switch (entry.getStatus()) {
+            case "SUCCESS" -> successCount++;
+            case "FAILED" -> failedCount++;
+            case "TIMED_OUT" -> timedOutCount++;
+            default -> skippedCount++;
+        }
+        Long duration = entry.getDurationMs();
+        if (duration != null) {
+            durationCount++;
+            durationSumMs += duration;
+            durationMaxMs = durationMaxMs == null ? duration : Math.max(durationMaxMs, duration);
+            histogram.record(duration);
+        }
+    }
+
+    public void merge(ExecutionStatsBucket other) {
+        successCount += other.successCount;
+        failedCount += other.failedCount;
+        skippedCount += other.skippedCount;
+        timedOutCount += other.timedOutCount;
+        durationCount += other.durationCount;
+        durationSumMs += other.durationSumMs;
+        if (other.durationMaxMs != null) {
+            durationMaxMs = durationMaxMs == null ? other.durationMaxMs : Math.max(durationMaxMs, other.durationMaxMs);
+        }
+        histogram.merge(other.histogram);
+    }
+}
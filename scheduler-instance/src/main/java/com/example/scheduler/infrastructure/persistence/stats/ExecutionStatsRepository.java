@@ -0,0 +1,146 @@
+package com.example.scheduler.infrastructure.persistence.stats;
+
+import com.example.scheduler.domain.model.enums.StatsGranularity;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Minute and hour rollups of {@code job_execution_log} in {@code job_stats_minute} and
+ * {@code job_stats_hour}.
+ *
+ * <p>{@link #add} folds a batch of log entries into both tables with one upsert per
+ * {@code (job, bucket)}, however late the entries are written. The log writer calls it in
+ * a transaction of its own once the raw rows have committed, and does not repeat it when
+ * that commit fails, so the rollups count each logged execution at most once: a batch
+ * whose update fails is in the log but not in the statistics. Rows are upserted in key
+ * order so concurrent writers on several nodes cannot deadlock.
+ */
+@Component
+public class ExecutionStatsRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO %s AS s (job_id, bucket_start, success_count, failed_count, skipped_count, timed_out_count,
+                                 duration_count, duration_sum_ms, duration_max_ms, duration_histogram)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (job_id, bucket_start) DO UPDATE
+            SET success_count = s.success_count + EXCLUDED.success_count,
+                failed_count = s.failed_count + EXCLUDED.failed_count,
+                skipped_count = s.skipped_count + EXCLUDED.skipped_count,
+                timed_out_count = s.timed_out_count + EXCLUDED.timed_out_count,
+                duration_count = s.duration_count + EXCLUDED.duration_count,
+                duration_sum_ms = s.duration_sum_ms + EXCLUDED.duration_sum_ms,
+                duration_max_ms = GREATEST(s.duration_max_ms, EXCLUDED.duration_max_ms),
+                duration_histogram = job_stats_merge_histogram(s.duration_histogram, EXCLUDED.duration_histogram)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT job_id, bucket_start, success_count, failed_count, skipped_count, timed_out_count,
+                   duration_count, duration_sum_ms, duration_max_ms, duration_histogram
+            FROM %s
+            WHERE job_id = ? AND bucket_start >= ? AND bucket_start < ?
+            ORDER BY bucket_start
+            """;
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::jobId).thenComparing(Key::bucketStart);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExecutionStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void add(List<JobExecutionLogEntity> entries) {
+        Map<Key, ExecutionStatsBucket> minutes = new TreeMap<>(KEY_ORDER);
+        for (JobExecutionLogEntity entry : entries) {
+            Instant bucketStart = entry.getFireTime().truncatedTo(StatsGranularity.MINUTE.unit());
+            minutes.computeIfAbsent(new Key(entry.getJobId(), bucketStart),
+                    k -> new ExecutionStatsBucket(k.jobId(), k.bucketStart())).record(entry);
+        }
+        Map<Key, ExecutionStatsBucket> hours = new TreeMap<>(KEY_ORDER);
+        for (ExecutionStatsBucket minute : minutes.values()) {
+            Instant bucketStart = minute.getBucketStart().truncatedTo(StatsGranularity.HOUR.unit());
+            hours.computeIfAbsent(new Key(minute.getJobId(), bucketStart),
+                    k -> new ExecutionStatsBucket(k.jobId(), k.bucketStart())).merge(minute);
+        }
+        upsert(StatsGranularity.MINUTE, new ArrayList<>(minutes.values()));
+        upsert(StatsGranularity.HOUR, new ArrayList<>(hours.values()));
+    }
+
+    /** Buckets of one job starting in {@code [from, to)}, oldest first; empty buckets have no row. */
+    public List<ExecutionStatsBucket> find(UUID jobId, StatsGranularity granularity, Instant from, Instant to) {
+        return jdbcTemplate.query(SELECT_SQL.formatted(table(granularity)),
+                (rs, i) -> toBucket(rs), jobId, Timestamp.from(from), Timestamp.from(to));
+    }
+
+    /** Deletes buckets that started before {@code cutoff}. */
+    public int purge(StatsGranularity granularity, Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + table(granularity) + " WHERE bucket_start < ?",
+                Timestamp.from(cutoff));
+    }
+
+    private void upsert(StatsGranularity granularity, List<ExecutionStatsBucket> buckets) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL.formatted(table(granularity)), buckets, buckets.size(), (ps, b) -> {
+            ps.setObject(1, b.getJobId());
+            ps.setTimestamp(2, Timestamp.from(b.getBucketStart()));
+            ps.setLong(3, b.getSuccessCount());
+            ps.setLong(4, b.getFailedCount());
+            ps.setLong(5, b.getSkippedCount());
+            ps.setLong(6, b.getTimedOutCount());
+            ps.setLong(7, b.getDurationCount());
+            ps.setLong(8, b.getDurationSumMs());
+            ps.setObject(9, b.getDurationMaxMs());
+            long[] histogram = b.getHistogram().toArray();
+            Long[] boxed = new Long[histogram.length];
+            for (int i = 0; i < histogram.length; i++) {
+                boxed[i] = histogram[i];
+            }
+            ps.setArray(10, ps.getConnection().createArrayOf("bigint", boxed));
+        });
+    }
+
+    private static ExecutionStatsBucket toBucket(ResultSet rs) throws SQLException {
+        Array array = rs.getArray(10);
+        Long[] boxed = (Long[]) array.getArray();
+        long[] histogram = new long[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            histogram[i] = boxed[i];
+        }
+        return new ExecutionStatsBucket(
+                rs.getObject(1, UUID.class),
+                rs.getTimestamp(2).toInstant(),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getLong(5),
+                rs.getLong(6),
+                rs.getLong(7),
+                rs.getLong(8),
+                rs.getObject(9, Long.class),
+                DurationHistogram.of(histogram));
+    }
+
+    private static String table(StatsGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> "job_stats_minute";
+            case HOUR -> "job_stats_hour";
+        };
+    }
+
+    private record Key(UUID jobId, Instant bucketStart) {
+    }
+}
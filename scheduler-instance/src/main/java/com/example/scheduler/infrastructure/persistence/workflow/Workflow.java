@@ -0,0 +1,13 @@
+package com.example.scheduler.infrastructure.persistence.workflow;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of {@code workflow}: a DAG of jobs started by the fires of its root job.
+ */
+public record Workflow(UUID id,
+                       String name,
+                       UUID rootJobId,
+                       Instant createdAt) {
+}
@@ -0,0 +1,283 @@
+package com.example.scheduler.infrastructure.persistence.workflow;
+
+import com.example.scheduler.domain.model.enums.WorkflowRunStatus;
+import com.example.scheduler.domain.model.enums.WorkflowStepStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@code workflow}, {@code workflow_step}, {@code workflow_run} and {@code workflow_run_step}.
+ *
+ * <p>Each run keeps a fan-in barrier per step: {@code pending_upstreams} starts at the
+ * number of upstream steps and is decremented once per upstream success; the update that
+ * takes it to zero releases the step, so a step with several upstreams finishing at once
+ * on different nodes is released exactly once. Callers that change a run lock its
+ * {@code workflow_run} row first with {@link #lockRun}, which orders concurrent step
+ * completions of one run and keeps them from deadlocking on the step rows.
+ */
+@Component
+public class WorkflowRepository {
+
+    private static final String WORKFLOW_COLUMNS = "id, name, root_job_id, created_at";
+    private static final String RUN_COLUMNS = "id, workflow_id, status, pending_steps, started_at, finished_at";
+    private static final String RUN_STEP_COLUMNS =
+            "run_id, job_id, status, pending_upstreams, started_at, finished_at";
+
+    private static final RowMapper<Workflow> WORKFLOW_MAPPER = (rs, i) -> new Workflow(
+            rs.getObject(1, UUID.class),
+            rs.getString(2),
+            rs.getObject(3, UUID.class),
+            rs.getTimestamp(4).toInstant());
+
+    private static final RowMapper<WorkflowStep> STEP_MAPPER = (rs, i) -> new WorkflowStep(
+            rs.getObject(1, UUID.class),
+            rs.getObject(2, UUID.class),
+            Arrays.asList((UUID[]) rs.getArray(3).getArray()));
+
+    private static final RowMapper<WorkflowRun> RUN_MAPPER = (rs, i) -> new WorkflowRun(
+            rs.getObject(1, UUID.class),
+            rs.getObject(2, UUID.class),
+            WorkflowRunStatus.valueOf(rs.getString(3)),
+            rs.getInt(4),
+            rs.getTimestamp(5).toInstant(),
+            instantOrNull(rs, 6));
+
+    private static final RowMapper<WorkflowRunStep> RUN_STEP_MAPPER = (rs, i) -> new WorkflowRunStep(
+            rs.getObject(1, UUID.class),
+            rs.getObject(2, UUID.class),
+            WorkflowStepStatus.valueOf(rs.getString(3)),
+            rs.getInt(4),
+            instantOrNull(rs, 5),
+            instantOrNull(rs, 6));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WorkflowRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // =========================================================================
+    // Definitions
+    // =========================================================================
+
+    public void insert(Workflow workflow, List<WorkflowStep> steps) {
+        jdbcTemplate.update("INSERT INTO workflow (id, name, root_job_id, created_at) VALUES (?, ?, ?, ?)",
+                workflow.id(), workflow.name(), workflow.rootJobId(), Timestamp.from(workflow.createdAt()));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO workflow_step (workflow_id, job_id, upstream_job_ids) VALUES (?, ?, ?)",
+                steps, steps.size(), (ps, step) -> {
+                    ps.setObject(1, step.workflowId());
+                    ps.setObject(2, step.jobId());
+                    ps.setArray(3, ps.getConnection().createArrayOf("uuid", step.upstreamJobIds().toArray()));
+                });
+    }
+
+    public Optional<Workflow> findById(UUID id) {
+        return jdbcTemplate.query("SELECT " + WORKFLOW_COLUMNS + " FROM workflow WHERE id = ?", WORKFLOW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    /**
+     * One keyset page ordered by {@code (created_at, id)} descending.
+     *
+     * @param afterCreatedAt cursor position, or {@code null} for the first page
+     */
+    public List<Workflow> findPage(Instant afterCreatedAt, UUID afterId, int limit) {
+        if (afterCreatedAt == null) {
+            return jdbcTemplate.query("SELECT " + WORKFLOW_COLUMNS
+                    + " FROM workflow ORDER BY created_at DESC, id DESC LIMIT ?", WORKFLOW_MAPPER, limit);
+        }
+        return jdbcTemplate.query("SELECT " + WORKFLOW_COLUMNS
+                        + " FROM workflow WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?",
+                WORKFLOW_MAPPER, Timestamp.from(afterCreatedAt), afterId, limit);
+    }
+
+    public List<WorkflowStep> findSteps(List<UUID> workflowIds) {
+        return jdbcTemplate.query(
+                "SELECT workflow_id, job_id, upstream_job_ids FROM workflow_step WHERE workflow_id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", workflowIds.toArray())), STEP_MAPPER);
+    }
+
+    /** Deletes the workflow with its steps and runs. */
+    public boolean delete(UUID id) {
+        return jdbcTemplate.update("DELETE FROM workflow WHERE id = ?", id) == 1;
+    }
+
+    // =========================================================================
+    // Runs
+    // =========================================================================
+
+    /**
+     * Starts a run whose root step has already succeeded: every other step waits for all
+     * of its upstreams.
+     *
+     * @return false if the workflow no longer exists
+     */
+    public boolean startRun(UUID runId, UUID workflowId, Instant startedAt) {
+        int inserted = jdbcTemplate.update("""
+                        INSERT INTO workflow_run (id, workflow_id, status, pending_steps, started_at)
+                        SELECT ?, w.id, 'RUNNING', (SELECT count(*) - 1 FROM workflow_step s WHERE s.workflow_id = w.id), ?
+                        FROM workflow w WHERE w.id = ?
+                        """,
+                runId, Timestamp.from(startedAt), workflowId);
+        if (inserted == 0) {
+            return false;
+        }
+        jdbcTemplate.update("""
+                        INSERT INTO workflow_run_step (run_id, job_id, status, pending_upstreams, started_at, finished_at)
+                        SELECT ?, job_id,
+                               CASE WHEN cardinality(upstream_job_ids) = 0 THEN 'SUCCEEDED' ELSE 'WAITING' END,
+                               cardinality(upstream_job_ids),
+                               CASE WHEN cardinality(upstream_job_ids) = 0 THEN ?::timestamptz END,
+                               CASE WHEN cardinality(upstream_job_ids) = 0 THEN now() END
+                        FROM workflow_step WHERE workflow_id = ?
+                        """,
+                runId, Timestamp.from(startedAt), workflowId);
+        return true;
+    }
+
+    /**
+     * Locks the run's row until the end of the transaction.
+     *
+     * @return the run's status, or {@code null} if it no longer exists
+     */
+    public WorkflowRunStatus lockRun(UUID runId) {
+        return jdbcTemplate.query("SELECT status FROM workflow_run WHERE id = ? FOR UPDATE",
+                        (rs, i) -> WorkflowRunStatus.valueOf(rs.getString(1)), runId)
+                .stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Finishes a released step.
+     *
+     * @return false if the step was not running, e.g. a duplicate completion
+     */
+    public boolean completeStep(UUID runId, UUID jobId, WorkflowStepStatus status) {
+        return jdbcTemplate.update("""
+                        UPDATE workflow_run_step SET status = ?, finished_at = now()
+                        WHERE run_id = ? AND job_id = ? AND status = 'RUNNING'
+                        """,
+                status.name(), runId, jobId) == 1;
+    }
+
+    /**
+     * Counts one success of {@code upstreamJobId} against the barrier of each of its
+     * waiting downstream steps, releasing those with no upstreams left.
+     *
+     * @return jobs of the steps released by this call
+     */
+    public List<UUID> releaseDownstream(UUID runId, UUID upstreamJobId) {
+        return jdbcTemplate.queryForList("""
+                        WITH released AS (
+                            UPDATE workflow_run_step s
+                            SET pending_upstreams = s.pending_upstreams - 1,
+                                status = CASE WHEN s.pending_upstreams = 1 THEN 'RUNNING' ELSE s.status END,
+                                started_at = CASE WHEN s.pending_upstreams = 1 THEN now() ELSE s.started_at END
+                            FROM workflow_run r, workflow_step w
+                            WHERE s.run_id = ? AND s.status = 'WAITING'
+                              AND r.id = s.run_id AND r.status = 'RUNNING'
+                              AND w.workflow_id = r.workflow_id AND w.job_id = s.job_id
+                              AND ?::uuid = ANY (w.upstream_job_ids)
+                            RETURNING s.job_id, s.pending_upstreams)
+                        SELECT job_id FROM released WHERE pending_upstreams = 0 ORDER BY job_id
+                        """,
+                UUID.class, runId, upstreamJobId);
+    }
+
+    /**
+     * Counts one step success against the run, which succeeds when no steps are left.
+     *
+     * @return the updated run, or empty if it was not running
+     */
+    public Optional<WorkflowRun> stepSucceeded(UUID runId) {
+        return jdbcTemplate.query("""
+                        UPDATE workflow_run
+                        SET pending_steps = pending_steps - 1,
+                            status = CASE WHEN pending_steps = 1 THEN 'SUCCEEDED' ELSE status END,
+                            finished_at = CASE WHEN pending_steps = 1 THEN now() ELSE finished_at END
+                        WHERE id = ? AND status = 'RUNNING'
+                        RETURNING\s""" + RUN_COLUMNS,
+                RUN_MAPPER, runId).stream().findFirst();
+    }
+
+    /**
+     * Fails a running run and skips its steps that were still waiting. Steps already
+     * released keep running; their successes no longer release anything.
+     *
+     * @return the failed run, or empty if it was not running
+     */
+    public Optional<WorkflowRun> failRun(UUID runId) {
+        Optional<WorkflowRun> run = jdbcTemplate.query("""
+                        UPDATE workflow_run SET status = 'FAILED', finished_at = now()
+                        WHERE id = ? AND status = 'RUNNING'
+                        RETURNING\s""" + RUN_COLUMNS,
+                RUN_MAPPER, runId).stream().findFirst();
+        if (run.isPresent()) {
+            jdbcTemplate.update("""
+                    UPDATE workflow_run_step SET status = 'SKIPPED', finished_at = now()
+                    WHERE run_id = ? AND status = 'WAITING'
+                    """, runId);
+        }
+        return run;
+    }
+
+    /**
+     * One keyset page of a workflow's runs ordered by {@code (started_at, id)} descending.
+     *
+     * @param afterStartedAt cursor position, or {@code null} for the first page
+     */
+    public List<WorkflowRun> findRunPage(UUID workflowId, Instant afterStartedAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(RUN_COLUMNS)
+                .append(" FROM workflow_run WHERE workflow_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(workflowId);
+        if (afterStartedAt != null) {
+            sql.append(" AND (started_at, id) < (?, ?)");
+            args.add(Timestamp.from(afterStartedAt));
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY started_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), RUN_MAPPER, args.toArray());
+    }
+
+    public List<WorkflowRunStep> findRunSteps(List<UUID> runIds) {
+        return jdbcTemplate.query("SELECT " + RUN_STEP_COLUMNS + " FROM workflow_run_step WHERE run_id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", runIds.toArray())), RUN_STEP_MAPPER);
+    }
+
+    /**
+     * Steps of running runs that were released before {@code startedBefore} and are
+     * still RUNNING, oldest first.
+     */
+    public List<WorkflowRunStep> findStuckSteps(Instant startedBefore, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT s.run_id, s.job_id, s.status, s.pending_upstreams, s.started_at, s.finished_at
+                        FROM workflow_run_step s JOIN workflow_run r ON r.id = s.run_id
+                        WHERE r.status = 'RUNNING' AND s.status = 'RUNNING' AND s.started_at < ?
+                        ORDER BY s.started_at LIMIT ?
+                        """,
+                RUN_STEP_MAPPER, Timestamp.from(startedBefore), limit);
+    }
+
+    /** Deletes runs that finished before {@code cutoff}; runs still RUNNING are failed by the reaper first. */
+    public int purgeRuns(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM workflow_run WHERE finished_at < ?", Timestamp.from(cutoff));
+    }
+
+    private static Instant instantOrNull(ResultSet rs, int column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : ts.toInstant();
+    }
+}
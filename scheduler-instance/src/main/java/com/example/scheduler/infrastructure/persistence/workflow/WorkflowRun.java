@@ -0,0 +1,20 @@
+package com.example.scheduler.infrastructure.persistence.workflow;
+
+import com.example.scheduler.domain.model.enums.WorkflowRunStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of {@code workflow_run}: one pass through a workflow, started by a fire of its root.
+ *
+ * @param pendingSteps steps that have not succeeded yet
+ * @param finishedAt   when the run succeeded or failed, or {@code null} while running
+ */
+public record WorkflowRun(UUID id,
+                          UUID workflowId,
+                          WorkflowRunStatus status,
+                          int pendingSteps,
+                          Instant startedAt,
+                          Instant finishedAt) {
+}
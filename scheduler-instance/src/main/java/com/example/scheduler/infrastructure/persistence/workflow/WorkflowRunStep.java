@@ -0,0 +1,20 @@
+package com.example.scheduler.infrastructure.persistence.workflow;
+
+import com.example.scheduler.domain.model.enums.WorkflowStepStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of {@code workflow_run_step}: the state of one step within a run.
+ *
+ * @param pendingUpstreams upstream steps that have not succeeded yet; the step is released at 0
+ * @param startedAt        when the step was released, or {@code null} while waiting
+ */
+public record WorkflowRunStep(UUID runId,
+                              UUID jobId,
+                              WorkflowStepStatus status,
+                              int pendingUpstreams,
+                              Instant startedAt,
+                              Instant finishedAt) {
+}
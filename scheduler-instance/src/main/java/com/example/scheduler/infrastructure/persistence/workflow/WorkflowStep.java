@@ -0,0 +1,14 @@
+package com.example.scheduler.infrastructure.persistence.workflow;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A row of {@code workflow_step}: a job of a workflow and the jobs it waits for.
+ *
+ * @param upstreamJobIds jobs that must succeed before this one runs; empty for the root
+ */
+public record WorkflowStep(UUID workflowId,
+                           UUID jobId,
+                           List<UUID> upstreamJobIds) {
+}
@@ -0,0 +1,50 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import org.quartz.Job;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.spi.JobFactory;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hands Quartz the singleton {@link Job} beans instead of letting
+ * SpringBeanJobFactory create and autowire a fresh instance on every fire.
+ * Job classes without a matching bean go to the fallback factory.
+ *
+ * <p>The beans are looked up on the first fire, not at construction, because job
+ * beans may themselves depend on the {@link Scheduler} this factory is part of.
+ */
+public class BeanJobFactory implements JobFactory {
+
+    private final ObjectProvider<Job> jobBeans;
+    private final JobFactory fallback;
+
+    private volatile Map<Class<?>, Job> jobs;
+
+    public BeanJobFactory(ObjectProvider<Job> jobBeans, JobFactory fallback) {
+        this.jobBeans = jobBeans;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Job newJob(TriggerFiredBundle bundle, Scheduler scheduler) throws SchedulerException {
+        Job job = jobs().get(bundle.getJobDetail().getJobClass());
+        return job != null ? job : fallback.newJob(bundle, scheduler);
+    }
+
+    private Map<Class<?>, Job> jobs() {
+        Map<Class<?>, Job> table = jobs;
+        if (table == null) {
+            table = jobBeans.orderedStream()
+                    .collect(Collectors.toUnmodifiableMap(AopUtils::getTargetClass, Function.identity()));
+            jobs = table;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.config.ExecutionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enforces job time limits.
+ *
+ * <p>A job with a limit runs its body on a separate thread while the calling worker waits
+ * at most that long. On expiry the body is interrupted and the worker returns at once, so
+ * its Quartz (or wheel) slot is free for the next fire even if the body ignores the
+ * interrupt. Such a body keeps its own thread until it ends; {@code onExit} runs then,
+ * and {@code scheduler.job.timeout.abandoned} counts the ones still running. While a job
+ * has such a body, {@link #isAbandoned} tells the caller to refuse its new fires, so a job
+ * that ignores interrupts holds at most one extra thread per concurrent run instead of
+ * one per fire. Jobs without a limit run inline on the worker as before.
+ */
+@Component
+public class ExecutionWatchdog {
+
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int ABANDONED = 2;
+
+    private final Duration defaultTimeout;
+    private final ExecutorService bodies;
+    private final AtomicInteger abandoned = new AtomicInteger();
+    private final ConcurrentMap<UUID, Integer> abandonedByJob = new ConcurrentHashMap<>();
+
+    public ExecutionWatchdog(ExecutionProperties properties, MeterRegistry registry) {
+        this.defaultTimeout = properties.getDefaultTimeout();
+        this.bodies = Executors.newCachedThreadPool(VirtualThreadPool.threadFactory("job-body-"));
+        Gauge.builder("scheduler.job.timeout.abandoned", abandoned, AtomicInteger::get)
+                .description("Timed-out job bodies that have not returned yet")
+                .register(registry);
+    }
+
+    /** @return the limit for a job, or {@code null} if it has none */
+    public Duration timeoutFor(Integer timeoutSeconds) {
+        if (timeoutSeconds != null) {
+            return Duration.ofSeconds(timeoutSeconds);
+        }
+        return defaultTimeout.isZero() || defaultTimeout.isNegative() ? null : defaultTimeout;
+    }
+
+    /** @return whether a timed-out body of the job has not returned yet */
+    public boolean isAbandoned(UUID jobId) {
+        return abandonedByJob.containsKey(jobId);
+    }
+
+    /**
+     * Runs {@code body} of job {@code jobId} and waits up to {@code timeout} for it.
+     *
+     * @param onExit runs once the body has returned or thrown, on the body's thread
+     * @throws TimeoutException if the limit passed; the body has been interrupted
+     * @throws Exception        whatever the body threw
+     */
+    public void run(UUID jobId, Callable<?> body, Duration timeout, Runnable onExit) throws Exception {
+        AtomicInteger state = new AtomicInteger(RUNNING);
+        Future<?> future;
+        try {
+            future = bodies.submit(() -> {
+                try {
+                    return body.call();
+                } finally {
+                    if (!state.compareAndSet(RUNNING, DONE)) {
+                        abandoned.decrementAndGet();
+                        abandonedByJob.computeIfPresent(jobId, (id, count) -> count > 1 ? count - 1 : null);
+                    }
+                    onExit.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            onExit.run();
+            throw e;
+        }
+        try {
+            future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            if (!state.compareAndSet(RUNNING, ABANDONED)) {
+                // the body finished as the limit passed; report its own outcome
+                awaitOutcome(future);
+                return;
+            }
+            abandoned.incrementAndGet();
+            abandonedByJob.merge(jobId, 1, Integer::sum);
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private static void awaitOutcome(Future<?> future) throws Exception {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /** Running bodies are left to finish like inline ones; their threads are daemons. */
+    @PreDestroy
+    public void shutdown() {
+        bodies.shutdown();
+    }
+}
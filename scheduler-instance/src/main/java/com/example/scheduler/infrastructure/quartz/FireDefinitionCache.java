@@ -0,0 +1,58 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.config.JobCacheProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.infrastructure.persistence.adapter.JobDefinitionRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Job definitions the Quartz executor builds fires from. Job details carry only the job
+ * id and the definition version they were stored with; everything else (type, payload,
+ * timeout, retries, priority, tenant, workflow) is read here.
+ *
+ * <p>An entry is used as long as it is at least as new as the version of the detail
+ * that fired; a newer detail, written when the definition changed, reloads it from
+ * job_definition. Entries hold their payload, loaded through the payload store, which
+ * shares one copy between jobs with the same payload. Entries are never handed out to
+ * code that mutates them.
+ */
+@Component
+public class FireDefinitionCache {
+
+    private final JobDefinitionRepositoryAdapter repository;
+    private final Cache<UUID, JobDefinition> byId;
+
+    public FireDefinitionCache(JobDefinitionRepositoryAdapter repository,
+                               JobCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getFireMaxSize())
+                .expireAfterAccess(properties.getFireExpireAfterAccess())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "fireDefinitions");
+    }
+
+    /**
+     * @param version definition version of the job detail that fired
+     * @return the definition at {@code version} or newer, or empty if the job is gone
+     */
+    public Optional<JobDefinition> resolve(UUID jobId, int version) {
+        JobDefinition cached = byId.getIfPresent(jobId);
+        if (cached != null && cached.getVersion() != null && cached.getVersion() >= version) {
+            return Optional.of(cached);
+        }
+        Optional<JobDefinition> loaded = repository.findById(new JobId(jobId)).map(repository::withPayload);
+        loaded.ifPresentOrElse(job -> byId.put(jobId, job), () -> byId.invalidate(jobId));
+        return loaded;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.domain.model.enums.ExecutionEventType;
+import com.example.scheduler.infrastructure.dispatch.FairShareDispatcher;
+import com.example.scheduler.infrastructure.events.ExecutionEvent;
+import com.example.scheduler.infrastructure.events.ExecutionEventBus;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import com.example.scheduler.infrastructure.persistence.log.ExecutionLogBatchWriter;
+import com.example.scheduler.infrastructure.retry.JobRetryHandler;
+import com.example.scheduler.infrastructure.workflow.WorkflowCoordinator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Records how a fire ended: its execution-log row, its execution events, the next attempt
+ * or dead letter of a failed fire ({@link JobRetryHandler}) and the outcome of a workflow
+ * step ({@link WorkflowCoordinator}). Used by {@link FirePipeline} for fires that ran and
+ * by {@link QuartzJobExecutor} for fires that never got to run.
+ */
+@Component
+@RequiredArgsConstructor
+public class FireOutcomes {
+
+    private final ExecutionLogBatchWriter executionLogWriter;
+    private final JobExecutionMetrics metrics;
+    private final JobRetryHandler retryHandler;
+    private final WorkflowCoordinator workflows;
+    private final ExecutionEventBus events;
+    private final FairShareDispatcher dispatcher;
+
+    /** Publishes the start of a run that begins at {@code fireTime}. */
+    void started(JobFire fire, Instant fireTime) {
+        publish(ExecutionEventType.STARTED, fire, fireTime, null, null, false);
+    }
+
+    /**
+     * Writes the finished run's log row, then hands a failure to {@link JobRetryHandler};
+     * the workflow is told of a success, or of a failure that will not be retried.
+     */
+    void finished(JobFire fire, JobExecutionLogEntity logEntity) {
+        executionLogWriter.submit(logEntity);
+
+        if ("SUCCESS".equals(logEntity.getStatus())) {
+            publish(ExecutionEventType.SUCCEEDED, fire, logEntity.getFireTime(), logEntity.getDurationMs(), null, false);
+            workflows.onSuccess(fire);
+            return;
+        }
+        JobExecutionMetrics.TypeMeters meters = metrics.forType(fire.jobType());
+        JobRetryHandler.Outcome outcome = retryHandler.onFailure(fire, logEntity.getErrorMessage());
+        publish(ExecutionEventType.valueOf(logEntity.getStatus()), fire, logEntity.getFireTime(),
+                logEntity.getDurationMs(), logEntity.getErrorMessage(), outcome == JobRetryHandler.Outcome.RETRY_SCHEDULED);
+        switch (outcome) {
+            case RETRY_SCHEDULED -> meters.recordRetry();
+            case DEAD_LETTERED -> meters.recordDeadLetter();
+            case NONE -> { }
+        }
+        if (outcome != JobRetryHandler.Outcome.RETRY_SCHEDULED) {
+            workflows.onFailure(fire, logEntity.getStatus());
+        }
+    }
+
+    /**
+     * Logs a fire that was accepted but never ran, e.g. dropped on shutdown, as FAILED and
+     * hands it on like a failed run, so it is retried or dead-lettered and its workflow
+     * step fails.
+     */
+    void dropped(JobFire fire, String reason) {
+        JobExecutionLogEntity logEntity = newLogEntry(fire,
+                (fire.actualFireTime() != null ? fire.actualFireTime() : new Date()).toInstant());
+        logEntity.setStatus("FAILED");
+        logEntity.setErrorMessage(reason);
+        finished(fire, logEntity);
+    }
+
+    /** Logs a fire that did not run as SKIPPED; a workflow step counts as failed. */
+    void skipped(JobFire fire, String reason) {
+        JobExecutionLogEntity logEntity = newLogEntry(fire,
+                (fire.actualFireTime() != null ? fire.actualFireTime() : new Date()).toInstant());
+        logEntity.setStatus("SKIPPED");
+        logEntity.setErrorMessage(reason);
+        metrics.forType(fire.jobType()).recordSkipped();
+        executionLogWriter.submit(logEntity);
+        publish(ExecutionEventType.SKIPPED, fire, logEntity.getFireTime(), null, reason, false);
+        workflows.onFailure(fire, "SKIPPED");
+    }
+
+    private void publish(ExecutionEventType type, JobFire fire, Instant fireTime, Long durationMs,
+                         String error, boolean willRetry) {
+        if (!events.isEnabled()) {
+            return;
+        }
+        events.publish(new ExecutionEvent(type, fire.jobId(), fire.jobType(), dispatcher.tenantOf(fire),
+                fire.attempt(), fireTime, durationMs, events.truncate(error), willRetry,
+                fire.workflowRunId(), Instant.now()));
+    }
+
+    static JobExecutionLogEntity newLogEntry(JobFire fire, Instant fireTime) {
+        JobExecutionLogEntity logEntity = new JobExecutionLogEntity();
+        logEntity.setId(UUID.randomUUID());
+        logEntity.setJobId(fire.jobId());
+        logEntity.setFireTime(fireTime);
+        logEntity.setAttempt(fire.attempt());
+        logEntity.setCreatedAt(Instant.now());
+        return logEntity;
+    }
+}
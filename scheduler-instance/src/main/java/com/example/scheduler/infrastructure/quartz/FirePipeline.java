@@ -0,0 +1,118 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.application.service.JobHandlerRegistry;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import com.example.scheduler.infrastructure.retry.JobRetryHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs one fire on the calling thread: per-job concurrency limit, handler invocation
+ * under the {@link ExecutionWatchdog}, run metrics, and the outcome handed to
+ * {@link FireOutcomes}. Independent of how the fire was triggered or dispatched.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FirePipeline {
+
+    private final JobConcurrencyLimiter concurrencyLimiter;
+    private final JobHandlerRegistry handlerRegistry;
+    private final ExecutionWatchdog watchdog;
+    private final JobExecutionMetrics metrics;
+    private final FireOutcomes outcomes;
+
+    /**
+     * Runs the fire. Handler failures and timeouts are logged and recorded, never thrown;
+     * they are handed to {@link JobRetryHandler}, which schedules the next attempt or
+     * dead-letters the fire. A fire over its job's concurrency limit, or of a job whose
+     * last timed-out body is still running, is logged as SKIPPED.
+     */
+    public void run(JobFire fire) {
+        UUID jobId = fire.jobId();
+        String jobType = fire.jobType();
+        String payload = fire.payload();
+        Date actualFireTime = fire.actualFireTime();
+        Instant fireTime = actualFireTime.toInstant();
+
+        log.debug("Executing jobId={} jobType={} attempt={}", jobId, jobType, fire.attempt());
+
+        JobExecutionMetrics.TypeMeters meters = metrics.forType(jobType);
+        meters.recordFireLag(actualFireTime, fire.scheduledFireTime());
+
+        if (watchdog.isAbandoned(jobId)) {
+            log.warn("Job {} skipped: a timed-out run has not returned yet", jobId);
+            outcomes.skipped(fire, "Previous run timed out and has not returned yet");
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire(fire)) {
+            log.warn("Job {} skipped: per-job concurrency limit reached", jobId);
+            outcomes.skipped(fire, "Per-job concurrency limit reached");
+            return;
+        }
+
+        JobExecutionLogEntity logEntity = FireOutcomes.newLogEntry(fire, fireTime);
+
+        Duration timeout = watchdog.timeoutFor(fire.timeoutSeconds());
+        // with a limit, the per-job slot is held until the body really ends, so a job that
+        // ignores interrupts cannot pile up more runs than its cap
+        boolean bodyReleases = false;
+        metrics.started();
+        outcomes.started(fire, fireTime);
+        long started = System.nanoTime();
+        try {
+            JobHandlerRegistry.RegisteredHandler<?> handler = handlerRegistry.resolve(jobType);
+            if (handler == null) {
+                throw new IllegalStateException("No JobHandler registered for job type '" + jobType + "'");
+            }
+            if (timeout == null) {
+                handler.invoke(new JobId(jobId), payload);
+            } else {
+                bodyReleases = true;
+                watchdog.run(jobId, () -> {
+                    handler.invoke(new JobId(jobId), payload);
+                    return null;
+                }, timeout, () -> concurrencyLimiter.release(fire));
+            }
+
+            long elapsed = System.nanoTime() - started;
+            meters.recordSuccess(elapsed);
+            logEntity.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            logEntity.setStatus("SUCCESS");
+            logEntity.setErrorMessage(null);
+        } catch (TimeoutException e) {
+            long elapsed = System.nanoTime() - started;
+            meters.recordTimeout(elapsed);
+            log.warn("⏱️ Job {} timed out after {}s; interrupted it and released the worker", jobId, timeout.toSeconds());
+            logEntity.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            logEntity.setStatus("TIMED_OUT");
+            logEntity.setErrorMessage("Timed out after " + timeout.toSeconds() + "s");
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            long elapsed = System.nanoTime() - started;
+            meters.recordFailure(elapsed);
+            logEntity.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            log.error("Job {} failed (attempt {})", jobId, fire.attempt(), e);
+            logEntity.setStatus("FAILED");
+            logEntity.setErrorMessage(e.getMessage());
+        } finally {
+            metrics.finished();
+            if (!bodyReleases) {
+                concurrencyLimiter.release(fire);
+            }
+        }
+
+        outcomes.finished(fire, logEntity);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs FIXED_DELAY jobs: executes the run through {@link QuartzJobExecutor}, then
+ * schedules the next one-shot fire {@code intervalSeconds} after this run completed.
+ *
+ * <p>Concurrent execution is disallowed, so a {@code runJobNow} fire during a run waits
+ * for it instead of overlapping. The next fire is built from the current definition;
+ * deleted jobs and jobs switched to another schedule type are not rescheduled (the
+ * latter are picked up by the reconciler through their version change). A run that
+ * times out counts as completed at the timeout; if its body ignores the interrupt, the
+ * next run is skipped while it is still running (see {@link ExecutionWatchdog}). Retry
+ * fires ({@link QuartzRetryScheduler}) do not schedule another run; the failed run
+ * already did.
+ * With fair-share dispatch the Quartz worker waits for the dispatched run, so the delay
+ * still counts from its end and a lost node still leaves a recoverable fire.
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class FixedDelayJobExecutor implements Job {
+
+    private final QuartzJobExecutor executor;
+    private final QuartzSchedulingAdapter schedulingAdapter;
+    private final JobDefinitionRepositoryPort jobRepo;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        try {
+            executor.dispatch(context).join();
+        } catch (CompletionException e) {
+            log.warn("Fixed-delay run of {} did not complete: {}", context.getJobDetail().getKey(), e.getMessage());
+        } finally {
+            if (!isRetry(context)) {
+                scheduleNext(UUID.fromString(context.getMergedJobDataMap().getString(QuartzJobExecutor.JOB_ID_KEY)));
+            }
+        }
+    }
+
+    // retries carry their attempt in the trigger data, also once deferred by MisfireRecoveryListener
+    private static boolean isRetry(JobExecutionContext context) {
+        JobDataMap data = context.getTrigger().getJobDataMap();
+        return data.containsKey(QuartzJobExecutor.ATTEMPT_KEY) && data.getInt(QuartzJobExecutor.ATTEMPT_KEY) > 1;
+    }
+
+    private void scheduleNext(UUID jobId) {
+        try {
+            Optional<JobDefinition> job = jobRepo.findById(new JobId(jobId));
+            if (job.isEmpty() || job.get().getStatus() == JobStatus.DELETED
+                    || job.get().getScheduleType() != ScheduleType.FIXED_DELAY) {
+                log.debug("Not rescheduling fixed-delay job {}: deleted or no longer FIXED_DELAY", jobId);
+                return;
+            }
+            schedulingAdapter.scheduleNextFixedDelay(job.get());
+        } catch (RuntimeException e) {
+            // the job may have been deleted mid-run; anything else is repaired by the reconciler
+            log.warn("❌ Failed to schedule next run of fixed-delay job {}: {}", jobId, e.getMessage());
+        }
+    }
+}
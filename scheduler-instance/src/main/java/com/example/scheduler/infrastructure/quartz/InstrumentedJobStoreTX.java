@@ -0,0 +1,144 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobPersistenceException;
+import org.quartz.SchedulerConfigException;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.impl.jdbcjobstore.LockException;
+import org.quartz.impl.jdbcjobstore.Semaphore;
+import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JobStoreTX} that times trigger acquisition and the TRIGGER_ACCESS row lock,
+ * applies the batch size and fire-ahead window chosen by {@link TriggerAcquisitionTuner},
+ * and stamps triggers rewritten by misfire handling with their recovery fire time (see
+ * {@link MisfireRecoveryListener}).
+ *
+ * <p>Quartz instantiates the job store itself from {@code org.quartz.jobStore.class},
+ * so meters and the tuner are handed over through {@link #bind} and {@link #bindTuner}
+ * instead of injection. Until they are bound, nothing is recorded and Quartz's own
+ * batch settings apply.
+ */
+// JobStoreTX overrides JobStoreSupport's generic executeInLock with a raw signature, which
+// every subclass inherits as an unchecked override; it cannot be redeclared generically
+// (same erasure as the raw method) and this class never calls it, so nothing here is unchecked.
+@SuppressWarnings("unchecked")
+public class InstrumentedJobStoreTX extends JobStoreTX {
+
+    private static final String TRIGGER_ACCESS = "TRIGGER_ACCESS";
+
+    private static volatile Timer acquireTimer;
+    private static volatile DistributionSummary acquiredTriggers;
+    private static volatile Timer triggerLockWait;
+    private static volatile TriggerAcquisitionTuner tuner;
+    private static volatile SchedulerSignaler schedulerSignaler;
+
+    static void bind(Timer timer, DistributionSummary batchSize, Timer lockWait) {
+        acquireTimer = timer;
+        acquiredTriggers = batchSize;
+        triggerLockWait = lockWait;
+    }
+
+    static void bindTuner(TriggerAcquisitionTuner acquisitionTuner) {
+        tuner = acquisitionTuner;
+    }
+
+    @Override
+    public void initialize(ClassLoadHelper loadHelper, SchedulerSignaler signaler) throws SchedulerConfigException {
+        super.initialize(loadHelper, signaler);
+        setLockHandler(new TimedSemaphore(getLockHandler()));
+        schedulerSignaler = signaler;
+    }
+
+    /**
+     * Wakes the local scheduler thread to re-read the next fire times, as the Scheduler API
+     * does after its own trigger changes; triggers changed by plain SQL would otherwise
+     * wait out {@code org.quartz.scheduler.idleWaitTime}. No-op before Quartz is set up.
+     */
+    static void signalSchedulingChange() {
+        SchedulerSignaler signaler = schedulerSignaler;
+        if (signaler != null) {
+            signaler.signalSchedulingChange(0L);
+        }
+    }
+
+    /**
+     * Quartz passes {@code min(free threads, batchTriggerAcquisitionMaxCount)} and the
+     * configured window; the tuner can only narrow them.
+     */
+    @Override
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow)
+            throws JobPersistenceException {
+        TriggerAcquisitionTuner t = tuner;
+        if (t != null) {
+            maxCount = Math.max(1, Math.min(maxCount, t.batchSize()));
+            timeWindow = maxCount == 1 ? 0 : Math.min(timeWindow, t.fireAheadWindowMillis());
+        }
+        long started = System.nanoTime();
+        List<OperableTrigger> triggers = super.acquireNextTriggers(noLaterThan, maxCount, timeWindow);
+        Timer timer = acquireTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            acquiredTriggers.record(triggers.size());
+        }
+        return triggers;
+    }
+
+    /**
+     * Misfire handling notifies listeners, then moves the trigger's next fire time, then
+     * stores it. The listener can only flag the trigger; the fire time it was moved to is
+     * recorded here, on the way to the database.
+     */
+    @Override
+    protected void storeTrigger(Connection conn, OperableTrigger newTrigger, JobDetail job, boolean replaceExisting,
+                                String state, boolean forceState, boolean recovering) throws JobPersistenceException {
+        JobDataMap data = newTrigger.getJobDataMap();
+        if (data.remove(MisfireRecoveryListener.MISFIRED_KEY) != null && newTrigger.getNextFireTime() != null) {
+            data.put(MisfireRecoveryListener.RECOVERY_FIRE_TIME_KEY, newTrigger.getNextFireTime().getTime());
+        }
+        super.storeTrigger(conn, newTrigger, job, replaceExisting, state, forceState, recovering);
+    }
+
+    /** Times every TRIGGER_ACCESS acquisition of the wrapped lock handler. */
+    private static final class TimedSemaphore implements Semaphore {
+
+        private final Semaphore delegate;
+
+        private TimedSemaphore(Semaphore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean obtainLock(Connection conn, String lockName) throws LockException {
+            Timer timer = triggerLockWait;
+            if (timer == null || !TRIGGER_ACCESS.equals(lockName)) {
+                return delegate.obtainLock(conn, lockName);
+            }
+            long started = System.nanoTime();
+            try {
+                return delegate.obtainLock(conn, lockName);
+            } finally {
+                timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void releaseLock(String lockName) throws LockException {
+            delegate.releaseLock(lockName);
+        }
+
+        @Override
+        public boolean requiresConnection() {
+            return delegate.requiresConnection();
+        }
+    }
+}
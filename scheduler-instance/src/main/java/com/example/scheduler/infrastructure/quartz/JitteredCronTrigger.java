@@ -0,0 +1,91 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.ScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.triggers.CronTriggerImpl;
+import org.quartz.spi.MutableTrigger;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Cron trigger firing a fixed {@code offsetMillis} after every slot of its expression, so
+ * jobs sharing an expression like {@code 0 * * * * ?} are spread over a window instead of
+ * all firing at second zero.
+ *
+ * <p>Quartz's cron delegate only stores plain {@link CronTriggerImpl}s, so this one reports
+ * additional properties and the JDBC store keeps it serialized in QRTZ_BLOB_TRIGGERS.
+ * End times are not supported; the scheduler never sets them.
+ */
+public class JitteredCronTrigger extends CronTriggerImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    private long offsetMillis;
+
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public void setOffsetMillis(long offsetMillis) {
+        this.offsetMillis = offsetMillis;
+    }
+
+    @Override
+    public Date getFireTimeAfter(Date afterTime) {
+        if (afterTime == null) {
+            afterTime = new Date();
+        }
+        // not the second before the start time like CronTriggerImpl: with an offset the
+        // first fire could land inside that second, before the start, and repeat forever
+        if (getStartTime().after(afterTime)) {
+            afterTime = new Date(getStartTime().getTime() - 1L);
+        }
+        Date slot = getTimeAfter(new Date(afterTime.getTime() - offsetMillis));
+        return slot == null ? null : new Date(slot.getTime() + offsetMillis);
+    }
+
+    @Override
+    public Date getFinalFireTime() {
+        return null;
+    }
+
+    @Override
+    public boolean hasAdditionalProperties() {
+        return true;
+    }
+
+    @Override
+    public ScheduleBuilder<CronTrigger> getScheduleBuilder() {
+        return new Builder((CronScheduleBuilder) super.getScheduleBuilder(), offsetMillis);
+    }
+
+    /** Wraps a {@link CronScheduleBuilder}, keeping its expression, time zone and misfire instruction. */
+    public static final class Builder extends ScheduleBuilder<CronTrigger> {
+
+        private final CronScheduleBuilder cron;
+        private final long offsetMillis;
+
+        public Builder(CronScheduleBuilder cron, long offsetMillis) {
+            this.cron = cron;
+            this.offsetMillis = offsetMillis;
+        }
+
+        @Override
+        protected MutableTrigger build() {
+            CronTriggerImpl plain = (CronTriggerImpl) TriggerBuilder.newTrigger().withSchedule(cron).build();
+            JitteredCronTrigger trigger = new JitteredCronTrigger();
+            try {
+                trigger.setCronExpression(plain.getCronExpression());
+            } catch (ParseException e) {
+                throw new IllegalStateException(e); // already parsed by the cron builder
+            }
+            trigger.setTimeZone(plain.getTimeZone());
+            trigger.setMisfireInstruction(plain.getMisfireInstruction());
+            trigger.setOffsetMillis(offsetMillis);
+            return trigger;
+        }
+    }
+}
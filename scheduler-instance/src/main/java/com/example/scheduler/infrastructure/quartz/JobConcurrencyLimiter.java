@@ -0,0 +1,54 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.config.ExecutionProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caps how many fires of the same job may run at once on this node: the job's own
+ * {@code maxConcurrent}, else {@code scheduler.execution.max-concurrent-per-job}. Fires
+ * over the cap are rejected rather than queued so they never hold a pool slot while
+ * waiting. Only jobs with fires in flight have an entry.
+ */
+@Component
+public class JobConcurrencyLimiter {
+
+    private final int defaultMaxPerJob;
+    private final ConcurrentMap<UUID, Integer> inFlight = new ConcurrentHashMap<>();
+
+    public JobConcurrencyLimiter(ExecutionProperties properties) {
+        this.defaultMaxPerJob = properties.getMaxConcurrentPerJob();
+    }
+
+    public boolean tryAcquire(JobFire fire) {
+        int max = maxFor(fire);
+        if (max <= 0) {
+            return true;
+        }
+        boolean[] acquired = new boolean[1];
+        inFlight.compute(fire.jobId(), (id, running) -> {
+            int count = running == null ? 0 : running;
+            if (count >= max) {
+                return running;
+            }
+            acquired[0] = true;
+            return count + 1;
+        });
+        return acquired[0];
+    }
+
+    /** Releases a slot taken by {@link #tryAcquire} for the same fire. */
+    public void release(JobFire fire) {
+        if (maxFor(fire) <= 0) {
+            return;
+        }
+        inFlight.computeIfPresent(fire.jobId(), (id, running) -> running > 1 ? running - 1 : null);
+    }
+
+    private int maxFor(JobFire fire) {
+        return fire.maxConcurrent() != null ? fire.maxConcurrent() : defaultMaxPerJob;
+    }
+}
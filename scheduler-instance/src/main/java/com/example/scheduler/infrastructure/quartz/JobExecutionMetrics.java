@@ -0,0 +1,183 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.application.service.JobHandlerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer meters for the fire path.
+ *
+ * <p>Every meter is registered up front, one set per registered job type plus an
+ * {@code unknown} set, so recording a fire is a map probe and a few lock-free updates
+ * with no allocation. Tags are limited to job type and outcome; job ids are left to the
+ * execution log, since they would make series count grow with the number of jobs.
+ */
+@Component
+public class JobExecutionMetrics {
+
+    private static final String UNKNOWN_TYPE = "unknown";
+
+    private final Map<String, TypeMeters> byType;
+    private final TypeMeters unknown;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public JobExecutionMetrics(MeterRegistry registry,
+                               JobHandlerRegistry handlerRegistry,
+                               ObjectProvider<Scheduler> scheduler) {
+        Map<String, TypeMeters> table = new HashMap<>();
+        for (String type : handlerRegistry.types()) {
+            table.put(type, new TypeMeters(registry, type));
+        }
+        this.byType = Map.copyOf(table);
+        this.unknown = new TypeMeters(registry, UNKNOWN_TYPE);
+
+        Gauge.builder("scheduler.job.active", active, AtomicInteger::get)
+                .description("Job bodies currently running on this node")
+                .register(registry);
+        Gauge.builder("scheduler.quartz.threadpool.size", scheduler, JobExecutionMetrics::threadPoolSize)
+                .description("Max concurrent job bodies allowed by the Quartz thread pool")
+                .strongReference(true)
+                .register(registry);
+
+        InstrumentedJobStoreTX.bind(
+                Timer.builder("scheduler.quartz.trigger.acquire")
+                        .description("Time spent in JobStore.acquireNextTriggers")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry),
+                DistributionSummary.builder("scheduler.quartz.trigger.acquire.batch")
+                        .description("Triggers returned per acquisition")
+                        .register(registry),
+                Timer.builder("scheduler.quartz.lock.wait")
+                        .description("Time to obtain the QRTZ_LOCKS row lock, including the round trip")
+                        .tag("lock", "TRIGGER_ACCESS")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry));
+    }
+
+    /** @return the meters for {@code jobType}; never {@code null} */
+    public TypeMeters forType(String jobType) {
+        TypeMeters meters = jobType == null ? null : byType.get(jobType);
+        return meters != null ? meters : unknown;
+    }
+
+    /** @return job bodies currently running on this node */
+    public int activeCount() {
+        return active.get();
+    }
+
+    public void started() {
+        active.incrementAndGet();
+    }
+
+    public void finished() {
+        active.decrementAndGet();
+    }
+
+    private static double threadPoolSize(ObjectProvider<Scheduler> scheduler) {
+        Scheduler s = scheduler.getIfAvailable();
+        if (s == null) {
+            return Double.NaN;
+        }
+        try {
+            return s.getMetaData().getThreadPoolSize();
+        } catch (SchedulerException e) {
+            return Double.NaN;
+        }
+    }
+
+    /** Pre-registered meters for one job type. */
+    public static final class TypeMeters {
+
+        private final Timer success;
+        private final Timer failed;
+        private final Timer timedOut;
+        private final Counter skipped;
+        private final Timer fireLag;
+        private final Counter retries;
+        private final Counter deadLettered;
+
+        private TypeMeters(MeterRegistry registry, String jobType) {
+            this.success = executionTimer(registry, jobType, "success");
+            this.failed = executionTimer(registry, jobType, "failed");
+            this.timedOut = executionTimer(registry, jobType, "timed_out");
+            this.skipped = Counter.builder("scheduler.job.skipped")
+                    .description("Fires dropped by the per-job concurrency limit")
+                    .tag("jobType", jobType)
+                    .register(registry);
+            this.fireLag = Timer.builder("scheduler.job.fire.lag")
+                    .description("Actual fire time minus scheduled fire time")
+                    .tag("jobType", jobType)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofMinutes(10))
+                    .register(registry);
+            this.retries = Counter.builder("scheduler.job.retries")
+                    .description("Retry fires scheduled after a failed or timed-out attempt")
+                    .tag("jobType", jobType)
+                    .register(registry);
+            this.deadLettered = Counter.builder("scheduler.job.dead.lettered")
+                    .description("Fires that failed on every attempt and were written to the dead-letter table")
+                    .tag("jobType", jobType)
+                    .register(registry);
+        }
+
+        public void recordSuccess(long nanos) {
+            success.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordFailure(long nanos) {
+            failed.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordTimeout(long nanos) {
+            timedOut.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordSkipped() {
+            skipped.increment();
+        }
+
+        public void recordRetry() {
+            retries.increment();
+        }
+
+        public void recordDeadLetter() {
+            deadLettered.increment();
+        }
+
+        public void recordFireLag(Date fireTime, Date scheduledFireTime) {
+            if (fireTime != null && scheduledFireTime != null) {
+                fireLag.record(Math.max(0, fireTime.getTime() - scheduledFireTime.getTime()), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private static Timer executionTimer(MeterRegistry registry, String jobType, String outcome) {
+            return Timer.builder("scheduler.job.execution")
+                    .description("Job body run time")
+                    .tag("jobType", jobType)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofHours(1))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobPriority;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * One run handed to {@link QuartzJobExecutor}: what to run, its limits, and which attempt
+ * of a scheduled fire it is.
+ *
+ * @param timeoutSeconds      job's own limit, or {@code null} for the default
+ * @param retryMaxAttempts    job's own attempts per fire, or {@code null} for the default
+ * @param retryBackoffSeconds job's own first retry delay, or {@code null} for the default
+ * @param maxConcurrent       job's own cap on concurrent fires per node, or {@code null} for the default
+ * @param priority            dispatch class; never {@code null}
+ * @param tenant              fair-share group, or {@code null} for the default tenant
+ * @param attempt             1 for the scheduled fire, 2.. for retries
+ * @param firstFireTime       scheduled fire time of attempt 1
+ * @param workflowId          workflow whose run a successful fire starts, set on fires of root jobs
+ * @param workflowRunId       workflow run this fire is a step of, or {@code null}
+ */
+public record JobFire(UUID jobId,
+                      String jobType,
+                      String payload,
+                      Integer timeoutSeconds,
+                      Integer retryMaxAttempts,
+                      Integer retryBackoffSeconds,
+                      Integer maxConcurrent,
+                      JobPriority priority,
+                      String tenant,
+                      int attempt,
+                      Date firstFireTime,
+                      Date scheduledFireTime,
+                      Date actualFireTime,
+                      UUID workflowId,
+                      UUID workflowRunId) {
+
+    /** First attempt of a fire of {@code job} with its current settings. */
+    public static JobFire of(JobDefinition job, Date scheduledFireTime, Date actualFireTime) {
+        return of(job, job.getPayload(), 1, scheduledFireTime, scheduledFireTime, actualFireTime);
+    }
+
+    /** A fire of {@code job} with its current settings and the given input and attempt. */
+    public static JobFire of(JobDefinition job, String payload, int attempt, Date firstFireTime,
+                             Date scheduledFireTime, Date actualFireTime) {
+        return new JobFire(job.getId(), job.getJobType(), payload, job.getTimeoutSeconds(),
+                job.getRetryMaxAttempts(), job.getRetryBackoffSeconds(), job.getMaxConcurrent(),
+                job.getPriority() != null ? job.getPriority() : JobPriority.NORMAL, job.getTenant(),
+                attempt, firstFireTime, scheduledFireTime, actualFireTime,
+                job.isWorkflowRoot() ? job.getWorkflowId() : null, null);
+    }
+
+    /** The same input as the next attempt; fire times are set when it runs. */
+    public JobFire nextAttempt() {
+        return new JobFire(jobId, jobType, payload, timeoutSeconds, retryMaxAttempts, retryBackoffSeconds,
+                maxConcurrent, priority, tenant, attempt + 1, firstFireTime, null, null, workflowId, workflowRunId);
+    }
+
+    /** This fire as started at {@code actual}, e.g. after waiting in the dispatcher. */
+    public JobFire startedAt(Date actual) {
+        return new JobFire(jobId, jobType, payload, timeoutSeconds, retryMaxAttempts, retryBackoffSeconds,
+                maxConcurrent, priority, tenant, attempt, firstFireTime, scheduledFireTime, actual, workflowId, workflowRunId);
+    }
+
+    /** This fire as a step of workflow run {@code runId}. */
+    public JobFire inRun(UUID runId) {
+        return new JobFire(jobId, jobType, payload, timeoutSeconds, retryMaxAttempts, retryBackoffSeconds,
+                maxConcurrent, priority, tenant, attempt, firstFireTime, scheduledFireTime, actualFireTime, null, runId);
+    }
+}
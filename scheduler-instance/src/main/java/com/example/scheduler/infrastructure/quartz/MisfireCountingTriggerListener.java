@@ -0,0 +1,31 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+
+/**
+ * Counts triggers Quartz reports as misfired, i.e. not fired within
+ * {@code misfireThreshold} of their scheduled time. Registered as a global listener.
+ */
+public class MisfireCountingTriggerListener extends TriggerListenerSupport {
+
+    private final Counter misfires;
+
+    public MisfireCountingTriggerListener(MeterRegistry registry) {
+        this.misfires = Counter.builder("scheduler.trigger.misfires")
+                .description("Triggers that missed their fire time by more than the misfire threshold")
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return "misfire-metrics";
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        misfires.increment();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.config.MisfireProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide rate limit for recovered misfires, shared through one row of
+ * {@code scheduler_rate_limit}. Implements GCRA: every caller reserves the next slot
+ * with a single atomic UPDATE, so nodes need no coordination beyond the row lock held
+ * for that statement.
+ */
+@Slf4j
+@Component
+public class MisfireRateLimiter {
+
+    static final String NAME = "misfire-recovery";
+
+    private static final String RESERVE_SQL = """
+            UPDATE scheduler_rate_limit
+            SET tat_millis = GREATEST(tat_millis, ?) + ?
+            WHERE name = ?
+            RETURNING tat_millis
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long emissionMillis;
+    private final long burstToleranceMillis;
+
+    public MisfireRateLimiter(JdbcTemplate jdbcTemplate, MisfireProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.emissionMillis = Math.max(1, Math.round(1000 / properties.getReleaseRate()));
+        this.burstToleranceMillis = (long) (Math.max(1, properties.getBurst()) - 1) * emissionMillis;
+    }
+
+    /**
+     * Reserves one release slot.
+     *
+     * @return epoch millis at which the caller may proceed; {@code <= now} means immediately
+     */
+    public long reserve(long now) {
+        Long tat = jdbcTemplate.query(RESERVE_SQL, rs -> rs.next() ? rs.getLong(1) : null,
+                now, emissionMillis, NAME);
+        if (tat == null) {
+            log.warn("Rate limit row '{}' is missing; releasing without throttling", NAME);
+            return now;
+        }
+        return tat - emissionMillis - burstToleranceMillis;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.listeners.TriggerListenerSupport;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Releases recovered misfires at the cluster-wide rate of {@link MisfireRateLimiter}
+ * instead of all at once.
+ *
+ * <p>A fire counts as recovered when it is
+ * <ul>
+ *   <li>the fire Quartz scheduled when it applied a FIRE_NOW misfire instruction:
+ *       {@link #triggerMisfired} flags the trigger, {@link InstrumentedJobStoreTX}
+ *       replaces the flag with the rewritten fire time as it stores the trigger, so
+ *       whichever node fires it can tell; or</li>
+ *   <li>a replayed fire of a CATCH_UP trigger, i.e. later than the misfire threshold.
+ *       Replays older than the job's last {@code misfireCatchUpLimit} missed slots are
+ *       vetoed outright.</li>
+ * </ul>
+ * A recovered fire without a free slot is vetoed and re-queued as a one-shot trigger at
+ * its reserved slot, so waiting costs no worker thread. The re-queued trigger keeps the
+ * priority and job data of the vetoed one, so a deferred retry or workflow step still
+ * runs as its attempt, with its payload and run. SKIP triggers never fire late.
+ */
+@Slf4j
+public class MisfireRecoveryListener extends TriggerListenerSupport {
+
+    static final String MISFIRED_KEY = "misfired";
+    static final String RECOVERY_FIRE_TIME_KEY = "misfireRecoveryFireTime";
+    static final String RELEASE_KEY = "misfireRelease";
+    static final String RELEASE_GROUP = "MISFIRE_RELEASE";
+
+    private final MisfireRateLimiter rateLimiter;
+    private final long misfireThresholdMillis;
+    private final Counter released;
+    private final Counter deferred;
+    private final Counter dropped;
+
+    public MisfireRecoveryListener(MisfireRateLimiter rateLimiter, long misfireThresholdMillis, MeterRegistry registry) {
+        this.rateLimiter = rateLimiter;
+        this.misfireThresholdMillis = misfireThresholdMillis;
+        this.released = recovered(registry, "released");
+        this.deferred = recovered(registry, "deferred");
+        this.dropped = recovered(registry, "dropped");
+    }
+
+    private static Counter recovered(MeterRegistry registry, String outcome) {
+        return Counter.builder("scheduler.misfire.recovered")
+                .description("Recovered misfires by outcome: released now, deferred by the rate limit, or dropped")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return "misfire-recovery";
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        trigger.getJobDataMap().put(MISFIRED_KEY, true);
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        JobDataMap data = trigger.getJobDataMap();
+        if (data.containsKey(RELEASE_KEY)) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long scheduled = context.getScheduledFireTime().getTime();
+
+        if (data.containsKey(QuartzSchedulingAdapter.CATCH_UP_LIMIT_KEY)) {
+            if (now - scheduled <= misfireThresholdMillis) {
+                return false;
+            }
+            int limit = data.getInt(QuartzSchedulingAdapter.CATCH_UP_LIMIT_KEY);
+            if (laterMissedFires(trigger, scheduled, now, limit) >= limit) {
+                dropped.increment();
+                return true;
+            }
+        } else {
+            Object recoveryFireTime = data.get(RECOVERY_FIRE_TIME_KEY);
+            if (!(recoveryFireTime instanceof Long recoveryAt) || scheduled != recoveryAt) {
+                return false;
+            }
+        }
+
+        long releaseAt = rateLimiter.reserve(now);
+        if (releaseAt <= now) {
+            released.increment();
+            return false;
+        }
+        JobDataMap releaseData = new JobDataMap(data.getWrappedMap());
+        releaseData.remove(MISFIRED_KEY);
+        releaseData.remove(RECOVERY_FIRE_TIME_KEY);
+        releaseData.remove(QuartzSchedulingAdapter.CATCH_UP_LIMIT_KEY);
+        releaseData.put(RELEASE_KEY, true);
+        try {
+            context.getScheduler().scheduleJob(TriggerBuilder.newTrigger()
+                    .withIdentity(UUID.randomUUID().toString(), RELEASE_GROUP)
+                    .forJob(context.getJobDetail().getKey())
+                    .startAt(new Date(releaseAt))
+                    .withPriority(trigger.getPriority())
+                    .usingJobData(releaseData)
+                    .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                    .build());
+        } catch (SchedulerException e) {
+            log.warn("Could not defer recovered fire of {}, running it now: {}",
+                    context.getJobDetail().getKey(), e.getMessage());
+            released.increment();
+            return false;
+        }
+        deferred.increment();
+        log.debug("Deferred recovered fire of {} by {} ms", context.getJobDetail().getKey(), releaseAt - now);
+        return true;
+    }
+
+    /** Missed slots after {@code scheduled} that are already due, counted up to {@code limit}. */
+    private static int laterMissedFires(Trigger trigger, long scheduled, long now, int limit) {
+        int count = 0;
+        Date next = trigger.getFireTimeAfter(new Date(scheduled));
+        while (next != null && next.getTime() <= now && count < limit) {
+            count++;
+            next = trigger.getFireTimeAfter(next);
+        }
+        return count;
+    }
+}
@@ -1,51 +1,148 @@
 package com.example.scheduler.infrastructure.quartz;
 
-import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
-import com.example.scheduler.infrastructure.persistence.repository.JobExecutionLogJpaRepository;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.infrastructure.dispatch.FairShareDispatcher;
+import com.example.scheduler.infrastructure.persistence.payload.PayloadStore;
+import com.example.scheduler.infrastructure.workflow.WorkflowCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
+import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class QuartzJobExecutor implements Job {
 
-    private final JobExecutionLogJpaRepository executionLogRepository;
-    // TODO: inject a domain service that actually performs the work the job represents
+    /** Job data of every job detail: the definition is resolved by id and version, see {@link FireDefinitionCache}. */
+    static final String JOB_ID_KEY = "jobId";
+    static final String VERSION_KEY = "version";
+    /** Trigger data of retry fires, set by {@link QuartzRetryScheduler}. */
+    static final String ATTEMPT_KEY = "attempt";
+    static final String FIRST_FIRE_TIME_KEY = "firstFireTime";
+    /**
+     * {@link PayloadStore} ref of the input of the failed run a retry repeats ({@code null} for
+     * none); fires without it run the definition's payload.
+     */
+    static final String PAYLOAD_REF_KEY = "payloadRef";
+    /** The input itself, on retry triggers stored before {@link #PAYLOAD_REF_KEY}. */
+    static final String PAYLOAD_KEY = "payload";
+    /** Trigger data key of a workflow step's run; see {@link WorkflowCoordinator}. */
+    static final String WORKFLOW_RUN_KEY = "workflowRunId";
+
+    private final FireDefinitionCache definitions;
+    private final FairShareDispatcher dispatcher;
+    private final FirePipeline pipeline;
+    private final FireOutcomes outcomes;
+    private final PayloadStore payloads;
 
     @Override
     public void execute(JobExecutionContext context) {
-        String jobIdStr = context.getMergedJobDataMap().getString("jobId");
-        String payload = context.getMergedJobDataMap().getString("payload");
+        dispatch(context);
+    }
 
-        UUID jobId = UUID.fromString(jobIdStr);
-        Instant fireTime = context.getFireTime().toInstant();
+    /**
+     * Dispatches the fire of a Quartz trigger; see {@link #dispatch(JobFire)}.
+     *
+     * @return completes when the run has ended, at once if the job no longer exists
+     */
+    CompletableFuture<Void> dispatch(JobExecutionContext context) {
+        JobFire fire = fireOf(context);
+        if (fire == null) {
+            log.warn("Job {} fired but its definition no longer exists; dropped the fire",
+                    context.getMergedJobDataMap().getString(JOB_ID_KEY));
+            return CompletableFuture.completedFuture(null);
+        }
+        return dispatch(fire);
+    }
 
-        log.info("Executing jobId={} payload={}", jobId, payload);
+    /**
+     * Builds a fire from the job's definition, resolved by the id and version in the job
+     * data, and the attempt data of retry and workflow triggers. The job type, payload and
+     * settings always come from the definition, so details stored by any earlier release,
+     * with or without a job type, version or payload of their own, fire the same way.
+     *
+     * @return {@code null} if the job no longer exists
+     */
+    JobFire fireOf(JobExecutionContext context) {
+        JobDataMap detail = context.getJobDetail().getJobDataMap();
+        UUID jobId = UUID.fromString(detail.getString(JOB_ID_KEY));
+        // details stored before job data was slimmed down have no version; any definition will do
+        int version = detail.containsKey(VERSION_KEY) ? detail.getInt(VERSION_KEY) : 0;
+        JobDefinition job = definitions.resolve(jobId, version).orElse(null);
+        if (job == null) {
+            return null;
+        }
+        // attempt data is only ever set on the trigger; a payload left in an old detail is stale
+        JobDataMap data = context.getTrigger().getJobDataMap();
+        Date scheduled = context.getScheduledFireTime();
+        Object firstFireTime = data.get(FIRST_FIRE_TIME_KEY);
+        JobFire fire = JobFire.of(job,
+                payloadOf(data, job),
+                data.containsKey(ATTEMPT_KEY) ? data.getInt(ATTEMPT_KEY) : 1,
+                firstFireTime instanceof Long time ? new Date(time) : scheduled,
+                scheduled,
+                context.getFireTime());
+        return data.containsKey(WORKFLOW_RUN_KEY)
+                ? fire.inRun(UUID.fromString(data.getString(WORKFLOW_RUN_KEY)))
+                : fire;
+    }
 
-        JobExecutionLogEntity logEntity = new JobExecutionLogEntity();
-        logEntity.setId(UUID.randomUUID());
-        logEntity.setJobId(jobId);
-        logEntity.setFireTime(fireTime);
-        logEntity.setCreatedAt(Instant.now());
+    private String payloadOf(JobDataMap data, JobDefinition job) {
+        if (data.containsKey(PAYLOAD_KEY)) {
+            return data.getString(PAYLOAD_KEY);
+        }
+        if (!data.containsKey(PAYLOAD_REF_KEY)) {
+            return job.getPayload();
+        }
+        String ref = data.getString(PAYLOAD_REF_KEY);
+        if (ref == null) {
+            return null;
+        }
+        String payload = payloads.get(ref);
+        if (payload == null) {
+            // only once the retry is overdue by the orphan retention, e.g. while its job was paused
+            log.warn("Payload {} of a retry of job {} has been purged; running the job's current payload",
+                    ref, job.getId());
+            return job.getPayload();
+        }
+        return payload;
+    }
 
+    /**
+     * Hands the fire to the {@link FairShareDispatcher} when it is enabled, otherwise runs
+     * it through the {@link FirePipeline} on the calling thread. A fire rejected by a full
+     * tenant queue is logged as SKIPPED; one the dispatcher drops on shutdown is logged as
+     * FAILED and goes to retries and its workflow like any failed run.
+     *
+     * @return completes when the run has ended; exceptionally if it was dropped on shutdown
+     */
+    public CompletableFuture<Void> dispatch(JobFire fire) {
+        if (!dispatcher.isEnabled()) {
+            pipeline.run(fire);
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> done;
         try {
-            // TODO: call domain service with jobId + payload
-
-            logEntity.setStatus("SUCCESS");
-            logEntity.setErrorMessage(null);
-        } catch (Exception e) {
-            log.error("Job {} failed", jobId, e);
-            logEntity.setStatus("FAILED");
-            logEntity.setErrorMessage(e.getMessage());
+            done = dispatcher.submit(fire, () -> pipeline.run(fire.startedAt(new Date())));
+        } catch (RejectedExecutionException e) {
+            log.warn("Job {} skipped: {}", fire.jobId(), e.getMessage());
+            outcomes.skipped(fire, e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
-
-        executionLogRepository.save(logEntity);
+        done.whenComplete((ignored, error) -> {
+            if (error instanceof RejectedExecutionException) {
+                log.warn("Job {} dropped by the dispatcher: {}", fire.jobId(), error.getMessage());
+                outcomes.dropped(fire, "Dropped before it ran: " + error.getMessage());
+            }
+        });
+        return done;
     }
 }
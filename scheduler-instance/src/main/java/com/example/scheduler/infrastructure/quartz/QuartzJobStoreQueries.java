@@ -0,0 +1,259 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.jdbcjobstore.Constants;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based statements against the Quartz QRTZ_ tables. The Scheduler API only offers
+ * per-key lookups and updates, each in its own job-store transaction on Quartz's
+ * DataSource; these run one SQL statement for a whole batch of jobs, on the application
+ * DataSource and so in the caller's transaction.
+ */
+@Component
+public class QuartzJobStoreQueries {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Scheduler scheduler;
+    private final String triggersTable;
+    private final String jobDetailsTable;
+    private final String locksTable;
+    private final long misfireThresholdMillis;
+
+    public QuartzJobStoreQueries(JdbcTemplate jdbcTemplate, Scheduler scheduler, QuartzProperties quartzProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduler = scheduler;
+        String tablePrefix = quartzProperties.getProperties()
+                .getOrDefault("org.quartz.jobStore.tablePrefix", "QRTZ_");
+        this.triggersTable = tablePrefix + "TRIGGERS";
+        this.jobDetailsTable = tablePrefix + "JOB_DETAILS";
+        this.locksTable = tablePrefix + "LOCKS";
+        this.misfireThresholdMillis = Long.parseLong(quartzProperties.getProperties()
+                .getOrDefault("org.quartz.jobStore.misfireThreshold", "60000"));
+    }
+
+    /**
+     * Queue depth for acquisition tuning: triggers waiting to fire at or before
+     * {@code noLaterThan}, overdue ones included. Served by Quartz's
+     * (SCHED_NAME, TRIGGER_STATE, NEXT_FIRE_TIME) index.
+     */
+    public int countDueTriggers(long noLaterThan) {
+        String sql = "SELECT COUNT(*) FROM " + triggersTable
+                + " WHERE SCHED_NAME = ? AND TRIGGER_STATE = 'WAITING' AND NEXT_FIRE_TIME <= ?";
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, schedulerName(), noLaterThan);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Definition version recorded by {@link #tagVersions} for each job that has a main
+     * trigger, or a durable detail if it is a WORKFLOW job, keyed by job id. Jobs with
+     * neither are absent; entries never tagged map to {@code null}.
+     */
+    public Map<UUID, Integer> scheduledVersions(Collection<UUID> jobIds) {
+        Map<UUID, Integer> versions = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return versions;
+        }
+        String sql = "SELECT s.name, v.version FROM ("
+                + "SELECT TRIGGER_NAME AS name FROM " + triggersTable
+                + " WHERE SCHED_NAME = ? AND TRIGGER_GROUP = ? AND TRIGGER_NAME = ANY (?)"
+                + " UNION ALL SELECT JOB_NAME FROM " + jobDetailsTable
+                + " WHERE SCHED_NAME = ? AND JOB_GROUP = ? AND JOB_NAME = ANY (?) AND IS_DURABLE) s"
+                + " LEFT JOIN quartz_scheduled_version v ON v.job_id::text = s.name";
+        jdbcTemplate.query(sql, ps -> {
+            Array names = ps.getConnection().createArrayOf("varchar", names(jobIds));
+            ps.setString(1, schedulerName());
+            ps.setString(2, QuartzSchedulingAdapter.TRIGGER_GROUP);
+            ps.setArray(3, names);
+            ps.setString(4, schedulerName());
+            ps.setString(5, QuartzSchedulingAdapter.JOB_GROUP);
+            ps.setArray(6, names);
+        }, rs -> {
+            versions.put(UUID.fromString(rs.getString(1)), rs.getObject(2, Integer.class));
+        });
+        return versions;
+    }
+
+    /**
+     * State of each job's main trigger as {@link Scheduler#getTriggerState} reports it,
+     * keyed by job id; jobs without one are absent.
+     */
+    public Map<UUID, Trigger.TriggerState> triggerStates(Collection<UUID> jobIds) {
+        Map<UUID, Trigger.TriggerState> states = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return states;
+        }
+        String sql = "SELECT TRIGGER_NAME, TRIGGER_STATE FROM " + triggersTable
+                + " WHERE SCHED_NAME = ? AND TRIGGER_GROUP = ? AND TRIGGER_NAME = ANY (?)";
+        jdbcTemplate.query(sql, ps -> {
+            ps.setString(1, schedulerName());
+            ps.setString(2, QuartzSchedulingAdapter.TRIGGER_GROUP);
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", names(jobIds)));
+        }, rs -> {
+            states.put(UUID.fromString(rs.getString(1)), triggerState(rs.getString(2)));
+        });
+        return states;
+    }
+
+    // the mapping JobStoreSupport.getTriggerState applies to the stored state
+    private static Trigger.TriggerState triggerState(String stored) {
+        return switch (stored) {
+            case Constants.STATE_DELETED -> Trigger.TriggerState.NONE;
+            case Constants.STATE_COMPLETE -> Trigger.TriggerState.COMPLETE;
+            case Constants.STATE_PAUSED, Constants.STATE_PAUSED_BLOCKED -> Trigger.TriggerState.PAUSED;
+            case Constants.STATE_ERROR -> Trigger.TriggerState.ERROR;
+            case Constants.STATE_BLOCKED -> Trigger.TriggerState.BLOCKED;
+            default -> Trigger.TriggerState.NORMAL;
+        };
+    }
+
+    /**
+     * Job ids that still have a main trigger but no row in job_definition. Triggers that
+     * started less than {@code minAge} ago are ignored: createJob schedules the trigger
+     * before its definition row commits.
+     */
+    public List<UUID> orphanedJobIds(Duration minAge) {
+        String sql = "SELECT t.TRIGGER_NAME FROM " + triggersTable + " t"
+                + " WHERE t.SCHED_NAME = ? AND t.TRIGGER_GROUP = ? AND t.START_TIME < ?"
+                + " AND NOT EXISTS (SELECT 1 FROM job_definition d WHERE d.id::text = t.TRIGGER_NAME)";
+        return jdbcTemplate.query(sql, (rs, i) -> UUID.fromString(rs.getString(1)),
+                schedulerName(), QuartzSchedulingAdapter.TRIGGER_GROUP,
+                System.currentTimeMillis() - minAge.toMillis());
+    }
+
+    // ============================================================
+    // Trigger state updates
+    // ============================================================
+
+    /**
+     * Pauses the triggers of the given jobs, keeping BLOCKED triggers blocked, like
+     * {@link Scheduler#pauseJob} does per job. Must run inside the caller's transaction:
+     * the TRIGGER_ACCESS row lock taken first is held until commit, so no node acquires
+     * one of these triggers half-way through.
+     *
+     * @return number of triggers paused
+     */
+    public int pauseTriggers(Collection<UUID> jobIds) {
+        return updateTriggerStates(jobIds,
+                "CASE WHEN TRIGGER_STATE = 'BLOCKED' THEN 'PAUSED_BLOCKED' ELSE 'PAUSED' END",
+                "'WAITING', 'ACQUIRED', 'BLOCKED'");
+    }
+
+    /**
+     * Jobs with a paused trigger whose next fire time is already past the misfire
+     * threshold. Resuming them needs the misfire handling of {@link Scheduler#resumeJob};
+     * see {@link QuartzSchedulingAdapter#resumeJobs}.
+     */
+    public List<UUID> misfiredPausedJobIds(Collection<UUID> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT DISTINCT JOB_NAME FROM " + triggersTable
+                + " WHERE SCHED_NAME = ? AND JOB_GROUP = ? AND JOB_NAME = ANY (?)"
+                + " AND TRIGGER_STATE IN ('PAUSED', 'PAUSED_BLOCKED') AND NEXT_FIRE_TIME < ?";
+        return jdbcTemplate.query(sql, ps -> {
+            ps.setString(1, schedulerName());
+            ps.setString(2, QuartzSchedulingAdapter.JOB_GROUP);
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", names(jobIds)));
+            ps.setLong(4, System.currentTimeMillis() - misfireThresholdMillis);
+        }, (rs, i) -> UUID.fromString(rs.getString(1)));
+    }
+
+    /**
+     * Resumes paused triggers of the given jobs, with the same transaction requirement as
+     * {@link #pauseTriggers}, and wakes this node's scheduler thread once the transaction
+     * commits; other nodes notice the triggers within {@code org.quartz.scheduler.idleWaitTime}.
+     * No misfire instruction is applied: resume jobs from {@link #misfiredPausedJobIds}
+     * through the Scheduler API first. A trigger that misfires in between is still
+     * recovered by the job store's periodic misfire scan, just later.
+     *
+     * @return number of triggers resumed
+     */
+    public int resumeTriggers(Collection<UUID> jobIds) {
+        int resumed = updateTriggerStates(jobIds,
+                "CASE WHEN TRIGGER_STATE = 'PAUSED_BLOCKED' THEN 'BLOCKED' ELSE 'WAITING' END",
+                "'PAUSED', 'PAUSED_BLOCKED'");
+        if (resumed > 0) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        InstrumentedJobStoreTX.signalSchedulingChange();
+                    }
+                });
+            } else {
+                InstrumentedJobStoreTX.signalSchedulingChange();
+            }
+        }
+        return resumed;
+    }
+
+    private int updateTriggerStates(Collection<UUID> jobIds, String newState, String fromStates) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        String schedulerName = schedulerName();
+        jdbcTemplate.query("SELECT LOCK_NAME FROM " + locksTable
+                        + " WHERE SCHED_NAME = ? AND LOCK_NAME = 'TRIGGER_ACCESS' FOR UPDATE",
+                rs -> { }, schedulerName);
+        String sql = "UPDATE " + triggersTable + " SET TRIGGER_STATE = " + newState
+                + " WHERE SCHED_NAME = ? AND JOB_GROUP = ? AND JOB_NAME = ANY (?)"
+                + " AND TRIGGER_STATE IN (" + fromStates + ")";
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, schedulerName);
+            ps.setString(2, QuartzSchedulingAdapter.JOB_GROUP);
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", names(jobIds)));
+        });
+    }
+
+    /**
+     * Records each job's current definition version as the one its trigger or durable
+     * detail was built or updated from, where {@link #scheduledVersions} reads it. Runs in
+     * the caller's transaction, so the versions commit together with the definitions; call
+     * it after the Scheduler API call that stored the trigger, which commits on Quartz's
+     * own connection first. Kept in {@code quartz_scheduled_version} rather than on the
+     * trigger row: Quartz rewrites QRTZ_TRIGGERS.DESCRIPTION of a BLOB trigger (a
+     * {@link JitteredCronTrigger}) from its serialized copy on every fire.
+     */
+    public void tagVersions(Collection<JobDefinition> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Object[] ids = jobs.stream().map(JobDefinition::getId).toArray();
+        Object[] versions = jobs.stream().map(job -> job.getVersion() == null ? 0 : job.getVersion()).toArray();
+        jdbcTemplate.update("INSERT INTO quartz_scheduled_version (job_id, version)"
+                + " SELECT v.job_id, v.version FROM unnest(?, ?) AS v(job_id, version)"
+                + " JOIN job_definition d ON d.id = v.job_id"
+                + " ON CONFLICT (job_id) DO UPDATE SET version = EXCLUDED.version", ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("integer", versions));
+        });
+    }
+
+    private String schedulerName() {
+        try {
+            return scheduler.getSchedulerName();
+        } catch (SchedulerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Object[] names(Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).toArray();
+    }
+}
@@ -1,48 +1,123 @@
 package com.example.scheduler.infrastructure.quartz;
 
-import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.config.ReconcilerProperties;
 import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.infrastructure.cluster.ClusterLock;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.SchedulerException;
-import org.quartz.Scheduler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Brings the Quartz tables in line with job_definition on startup.
+ *
+ * <p>ACTIVE definitions are streamed in keyset pages. Each page is diffed against
+ * QRTZ_TRIGGERS with one query, and only jobs whose trigger is missing or was built
+ * from an older definition version are (re)scheduled, in one job-store transaction
+ * per page. Triggers whose definition no longer exists are removed. The whole pass
+ * runs under a cluster lock, so nodes starting together do not repeat it.
+ */
 @Slf4j
 @Component
 @AllArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "quartz", matchIfMissing = true)
 public class QuartzReconciler {
 
+    private static final String LOCK_NAME = "quartz-reconciler";
+    private static final Duration ORPHAN_MIN_AGE = Duration.ofMinutes(1);
+
     private final JobDefinitionRepositoryPort jobRepo;
     private final QuartzSchedulingAdapter schedulingAdapter;
-    private final Scheduler scheduler;
+    private final QuartzJobStoreQueries jobStoreQueries;
+    private final ClusterLock clusterLock;
+    private final ReconcilerProperties properties;
 
     @EventListener(ApplicationReadyEvent.class)
-    public void reconcileOnStartup() throws SchedulerException {
+    public void reconcileOnStartup() {
         log.info("🔄 Reconciling jobs on startup...");
-        // Optionally clear existing jobs or diff them; for now, we’ll just ensure all ACTIVE jobs are scheduled.
-        List<JobDefinition> activeJobs = jobRepo.findAllActive();
-
-        for (JobDefinition job : activeJobs) {
-            // If trigger already exists, reschedule; else schedule.
-            try {
-                var triggerKey = schedulingAdapter.triggerKey(job.getId());
-                if (scheduler.checkExists(schedulingAdapter.jobKey(job.getId()))) {
-                    schedulingAdapter.reschedule(job);
-                    log.info("🔁 Re-scheduled job '{}'", job.getName());
-                } else {
-                    schedulingAdapter.schedule(job);
-                    log.info("🆕 Scheduled job '{}'", job.getName());
+        long started = System.nanoTime();
+
+        if (!clusterLock.runExclusively(LOCK_NAME, this::reconcile)) {
+            log.info("⏭️ Another node is reconciling; skipping startup reconciliation.");
+            return;
+        }
+
+        log.info("✅ Startup reconciliation complete in {} ms.", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void reconcile() {
+        int pageSize = properties.getPageSize();
+        UUID after = new UUID(0, 0);
+        int seen = 0;
+        int applied = 0;
+
+        while (true) {
+            List<JobDefinition> page = jobRepo.findActivePage(after, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            seen += page.size();
+
+            Map<UUID, Integer> scheduled = jobStoreQueries.scheduledVersions(
+                    page.stream().map(JobDefinition::getId).toList());
+            List<JobDefinition> stale = page.stream()
+                    .filter(job -> !scheduled.containsKey(job.getId())
+                            || !Objects.equals(scheduled.get(job.getId()), job.getVersion()))
+                    .toList();
+            applied += apply(stale);
+
+            after = page.get(page.size() - 1).getId();
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        int removed = removeOrphans();
+        log.info("🔁 Reconciled {} active jobs: {} (re)scheduled, {} up to date, {} orphaned removed",
+                seen, applied, seen - applied, removed);
+    }
+
+    private int apply(List<JobDefinition> stale) {
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        try {
+            schedulingAdapter.scheduleAll(stale);
+            return stale.size();
+        } catch (SchedulerException | RuntimeException batchFailure) {
+            // One bad definition fails the whole batch; retry one by one to isolate it.
+            log.warn("Batch scheduling of {} jobs failed, retrying individually", stale.size(), batchFailure);
+            int applied = 0;
+            for (JobDefinition job : stale) {
+                try {
+                    schedulingAdapter.scheduleAll(List.of(job));
+                    applied++;
+                } catch (SchedulerException | RuntimeException e) {
+                    log.error("❌ Failed scheduling job {} on startup", job.getId(), e);
                 }
-            } catch (SchedulerException e) {
-                log.error("❌ Failed scheduling job {} on startup", job.getId(), e);
             }
+            return applied;
         }
+    }
 
-        log.info("✅ Startup reconciliation complete.");
+    private int removeOrphans() {
+        List<UUID> orphans = jobStoreQueries.orphanedJobIds(ORPHAN_MIN_AGE);
+        try {
+            schedulingAdapter.unscheduleAll(orphans);
+            return orphans.size();
+        } catch (SchedulerException e) {
+            log.error("❌ Failed removing {} orphaned Quartz jobs", orphans.size(), e);
+            return 0;
+        }
     }
 }
@@ -0,0 +1,74 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.infrastructure.persistence.payload.PayloadStore;
+import com.example.scheduler.infrastructure.retry.JobRetryScheduler;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobDataMap;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Retries on the Quartz engine: one persistent one-shot trigger per attempt in the
+ * {@value #RETRY_GROUP} group, on the job's own JobDetail, so a retry survives restarts,
+ * runs on whichever node acquires it and is removed with the job. The trigger carries the
+ * attempt number, the first attempt's fire time and the ref of the failed run's payload,
+ * which is put in the {@link PayloadStore} and kept there until the retry is due; the
+ * job's current settings come from its definition. A retry of a paused job is paused
+ * with it.
+ *
+ * <p>Workflow steps are launched the same way, in the {@value #WORKFLOW_GROUP} group and
+ * with their run id, so each ready step of a run is picked up by whichever node is free.
+ * A step's first attempt runs its definition's payload, so its trigger carries none.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "quartz", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QuartzRetryScheduler implements JobRetryScheduler {
+
+    static final String RETRY_GROUP = "RETRY";
+    static final String WORKFLOW_GROUP = "WORKFLOW";
+
+    private final Scheduler scheduler;
+    private final QuartzSchedulingAdapter schedulingAdapter;
+    private final PayloadStore payloads;
+
+    @Override
+    public void schedule(JobFire fire, Instant at) {
+        JobDataMap data = new JobDataMap();
+        data.put(QuartzJobExecutor.ATTEMPT_KEY, fire.attempt());
+        data.put(QuartzJobExecutor.FIRST_FIRE_TIME_KEY, fire.firstFireTime().getTime());
+        boolean step = fire.workflowRunId() != null && fire.attempt() == 1;
+        if (!step) {
+            data.put(QuartzJobExecutor.PAYLOAD_REF_KEY,
+                    fire.payload() != null ? payloads.put(fire.payload(), at) : null);
+        }
+        if (fire.workflowRunId() != null) {
+            data.put(QuartzJobExecutor.WORKFLOW_RUN_KEY, fire.workflowRunId().toString());
+        }
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(UUID.randomUUID().toString(), step ? WORKFLOW_GROUP : RETRY_GROUP)
+                .forJob(schedulingAdapter.jobKey(fire.jobId()))
+                .startAt(Date.from(at))
+                .withPriority(fire.priority().triggerPriority())
+                .usingJobData(data)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            scheduler.scheduleJob(trigger);
+            if (scheduler.getTriggerState(schedulingAdapter.triggerKey(fire.jobId())) == Trigger.TriggerState.PAUSED) {
+                scheduler.pauseTrigger(trigger.getKey());
+            }
+        } catch (SchedulerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.scheduler.infrastructure.quartz;
 
 import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobPriority;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.MisfirePolicy;
 import com.example.scheduler.domain.model.enums.ScheduleType;
 import com.example.scheduler.domain.port.JobSchedulerPort;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +13,13 @@ import org.quartz.impl.matchers.GroupMatcher;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -21,12 +27,21 @@ import java.util.stream.Collectors;
 public class QuartzSchedulingAdapter implements JobSchedulerPort {
 
     private final Scheduler scheduler;
+    private final QuartzJobStoreQueries jobStoreQueries;
 
     // ============================================================
     // Key helpers (SINGLE SOURCE OF TRUTH)
     // ============================================================
-    private static final String JOB_GROUP = "JOB_GROUP";
-    private static final String TRIGGER_GROUP = "TRIGGER_GROUP";
+    static final String JOB_GROUP = "JOB_GROUP";
+    static final String TRIGGER_GROUP = "TRIGGER_GROUP";
+
+    // Triggers are described by the definition version they were built from, for people
+    // reading QRTZ_TRIGGERS; the reconciler reads the version recorded by
+    // QuartzJobStoreQueries.tagVersions, which Quartz cannot overwrite.
+    private static final String VERSION_TAG_PREFIX = "v";
+
+    // Trigger data read by MisfireRecoveryListener for CATCH_UP jobs
+    static final String CATCH_UP_LIMIT_KEY = "misfireCatchUpLimit";
 
     public JobKey jobKey(UUID id) {
         return JobKey.jobKey(id.toString(), JOB_GROUP);
@@ -36,16 +51,25 @@ public class QuartzSchedulingAdapter implements JobSchedulerPort {
         return TriggerKey.triggerKey(id.toString(), TRIGGER_GROUP);
     }
 
+    static String versionTag(Integer version) {
+        return VERSION_TAG_PREFIX + (version == null ? 0 : version);
+    }
+
     // ============================================================
     // Core scheduling methods used by API + Reconciler
     // ============================================================
     @Override
     public void scheduleJob(JobDefinition job) {
         try {
-            scheduler.scheduleJob(buildJobDetail(job), buildTrigger(job));
+            if (job.isWorkflowSchedule()) {
+                scheduler.addJob(buildJobDetail(job), true);
+            } else {
+                scheduler.scheduleJob(buildJobDetail(job), buildTrigger(job));
+            }
         } catch (SchedulerException e) {
             throw new RuntimeException(e);
         }
+        jobStoreQueries.tagVersions(List.of(job));
     }
 
     // same as scheduleJob but cleaner for reconciler
@@ -53,85 +77,175 @@ public class QuartzSchedulingAdapter implements JobSchedulerPort {
         scheduleJob(job);
     }
 
+    /**
+     * Stores (or replaces) the job detail and trigger of every job in one job-store
+     * transaction.
+     */
+    public void scheduleAll(Collection<JobDefinition> jobs) throws SchedulerException {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Map<JobDetail, Set<? extends Trigger>> batch = new HashMap<>();
+        for (JobDefinition job : jobs) {
+            batch.put(buildJobDetail(job), job.isWorkflowSchedule() ? Set.of() : Set.of(buildTrigger(job)));
+        }
+        scheduler.scheduleJobs(batch, true);
+        jobStoreQueries.tagVersions(jobs);
+    }
+
+    /** Deletes jobs and their triggers in one job-store transaction. */
+    public void unscheduleAll(Collection<UUID> jobIds) throws SchedulerException {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        scheduler.deleteJobs(jobIds.stream().map(this::jobKey).toList());
+    }
+
     public void reschedule(JobDefinition job) {
         try {
             scheduler.rescheduleJob(triggerKey(job.getId()), buildTrigger(job));
         } catch (SchedulerException e) {
             throw new RuntimeException(e);
         }
+        jobStoreQueries.tagVersions(List.of(job));
     }
 
     // ============================================================
     // Builders
     // ============================================================
-    private JobDetail buildJobDetail(JobDefinition job) {
+    JobDetail buildJobDetail(JobDefinition job) {
 
+        // only what identifies the definition: Quartz serializes job data into
+        // QRTZ_JOB_DETAILS and reads it back on every fire, so the payload and settings
+        // are resolved from job_definition instead (see FireDefinitionCache)
         JobDataMap map = new JobDataMap();
-        map.put("jobId", job.getId().toString());
-        map.put("payload", job.getPayload());
+        map.put(QuartzJobExecutor.JOB_ID_KEY, job.getId().toString());
+        map.put(QuartzJobExecutor.VERSION_KEY, job.getVersion() == null ? 0 : job.getVersion());
 
-        return JobBuilder.newJob(QuartzJobExecutor.class)
+        // FIXED_DELAY runs never overlap, and a run lost with its node is re-run once
+        // elsewhere so the delay chain continues (see FixedDelayJobExecutor)
+        boolean fixedDelay = job.getScheduleType() == ScheduleType.FIXED_DELAY;
+        // WORKFLOW jobs have no trigger of their own, only one-shot step triggers, so their
+        // detail is durable and carries the version tag the reconciler otherwise reads
+        // from the main trigger
+        boolean durable = job.isWorkflowSchedule();
+
+        return JobBuilder.newJob(fixedDelay ? FixedDelayJobExecutor.class : QuartzJobExecutor.class)
                 .withIdentity(jobKey(job.getId()))
-                .withDescription(job.getName())
+                .withDescription(durable ? versionTag(job.getVersion()) : job.getName())
                 .usingJobData(map)
-                .storeDurably(false)
+                .storeDurably(durable)
+                .requestRecovery(fixedDelay)
                 .build();
     }
 
-    private Trigger buildTrigger(JobDefinition job) {
+    Trigger buildTrigger(JobDefinition job) {
+        long initialDelaySeconds = job.getInitialDelaySeconds() == null ? 0 : job.getInitialDelaySeconds();
+        Instant firstFire = job.getScheduleType() == ScheduleType.FIXED_DELAY
+                ? Instant.now().plusSeconds(initialDelaySeconds)
+                : Instant.now().plusSeconds(1);
+        return buildTrigger(job, firstFire);
+    }
+
+    Trigger buildTrigger(JobDefinition job, Instant startAt) {
 
         TriggerBuilder<Trigger> tb = TriggerBuilder.newTrigger()
                 .withIdentity(triggerKey(job.getId()))
+                .withDescription(versionTag(job.getVersion()))
                 .forJob(jobKey(job.getId()))
-                .startAt(new Date(System.currentTimeMillis() + 1000));
+                .startAt(Date.from(startAt))
+                // orders triggers due at the same instant, so CRITICAL jobs are acquired first
+                .withPriority((job.getPriority() != null ? job.getPriority() : JobPriority.NORMAL).triggerPriority());
+
+        MisfirePolicy misfirePolicy = job.getMisfirePolicy() == null ? MisfirePolicy.FIRE_NOW : job.getMisfirePolicy();
+        if (misfirePolicy == MisfirePolicy.CATCH_UP) {
+            tb.usingJobData(CATCH_UP_LIMIT_KEY, job.getMisfireCatchUpLimit() == null ? 1 : job.getMisfireCatchUpLimit());
+        }
 
         switch (job.getScheduleType()) {
             case CRON:
-                tb.withSchedule(
-                        CronScheduleBuilder.cronSchedule(job.getCronExpression())
-                );
+                CronScheduleBuilder cron = CronScheduleBuilder.cronSchedule(job.getCronExpression());
+                cron = switch (misfirePolicy) {
+                    case FIRE_NOW -> cron.withMisfireHandlingInstructionFireAndProceed();
+                    case SKIP -> cron.withMisfireHandlingInstructionDoNothing();
+                    // every missed fire is replayed; MisfireRecoveryListener drops all but the last N
+                    case CATCH_UP -> cron.withMisfireHandlingInstructionIgnoreMisfires();
+                };
+                long offsetMillis = job.fireOffsetMillis();
+                // jobs sharing an expression fire spread over their jitter window, not all on the slot
+                tb.withSchedule(offsetMillis > 0 ? new JitteredCronTrigger.Builder(cron, offsetMillis) : cron);
                 break;
 
             case FIXED_RATE:
-                tb.withSchedule(
-                        SimpleScheduleBuilder.simpleSchedule()
-                                .withIntervalInMilliseconds(job.getIntervalSeconds() * 1000)
-                                .repeatForever()
-                );
+                SimpleScheduleBuilder rate = SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(job.getIntervalSeconds() * 1000)
+                        .repeatForever();
+                tb.withSchedule(switch (misfirePolicy) {
+                    case FIRE_NOW -> rate.withMisfireHandlingInstructionNowWithRemainingCount();
+                    case SKIP -> rate.withMisfireHandlingInstructionNextWithRemainingCount();
+                    case CATCH_UP -> rate.withMisfireHandlingInstructionIgnoreMisfires();
+                });
                 break;
 
             case FIXED_DELAY:
+                // one-shot; FixedDelayJobExecutor schedules the next fire when a run
+                // completes, and a fire missed during an outage runs once, not once per interval
                 tb.withSchedule(
                         SimpleScheduleBuilder.simpleSchedule()
-                                .withIntervalInMilliseconds(job.getIntervalSeconds() * 1000)
-                                .repeatForever()
+                                .withMisfireHandlingInstructionFireNow()
                 );
-                tb.startAt(Date.from(Instant.now().plusSeconds(job.getInitialDelaySeconds())));
                 break;
+
+            case WORKFLOW:
+                throw new IllegalArgumentException("WORKFLOW job " + job.getId() + " has no trigger of its own");
         }
 
         return tb.build();
     }
 
+    /**
+     * Replaces a FIXED_DELAY job's trigger with one firing {@code intervalSeconds} from
+     * now. Called from within the completing run: Quartz keeps a trigger rescheduled
+     * during execution instead of deleting it as complete. Paused jobs get a paused trigger.
+     */
+    public void scheduleNextFixedDelay(JobDefinition job) {
+        TriggerKey key = triggerKey(job.getId());
+        Trigger next = buildTrigger(job, Instant.now().plusSeconds(job.getIntervalSeconds()));
+        try {
+            if (scheduler.rescheduleJob(key, next) == null) {
+                // trigger already gone, e.g. removed by cluster recovery of a crashed run
+                scheduler.scheduleJob(next);
+            }
+            if (job.getStatus() == JobStatus.PAUSED) {
+                scheduler.pauseTrigger(key);
+            }
+        } catch (SchedulerException e) {
+            throw new RuntimeException("Failed to schedule next run of job " + job.getId(), e);
+        }
+        jobStoreQueries.tagVersions(List.of(job));
+    }
+
     // ============================================================
     // Pause / Resume / Delete / Run
     // ============================================================
     @Override
-    public void pauseJob(String jobId) {
+    public void pauseJob(JobDefinition job) {
         try {
-            scheduler.pauseJob(jobKey(UUID.fromString(jobId)));
+            scheduler.pauseJob(jobKey(job.getId()));
         } catch (Exception e) {
-            throw new RuntimeException("Failed to pause job " + jobId, e);
+            throw new RuntimeException("Failed to pause job " + job.getId(), e);
         }
+        jobStoreQueries.tagVersions(List.of(job));
     }
 
     @Override
-    public void resumeJob(String jobId) {
+    public void resumeJob(JobDefinition job) {
         try {
-            scheduler.resumeJob(jobKey(UUID.fromString(jobId)));
+            scheduler.resumeJob(jobKey(job.getId()));
         } catch (Exception e) {
-            throw new RuntimeException("Failed to resume job " + jobId, e);
+            throw new RuntimeException("Failed to resume job " + job.getId(), e);
         }
+        jobStoreQueries.tagVersions(List.of(job));
     }
 
     @Override
@@ -175,6 +289,17 @@ public class QuartzSchedulingAdapter implements JobSchedulerPort {
         }
     }
 
+    /** Reads QRTZ_TRIGGERS directly; the Scheduler API has one job-store transaction per trigger. */
+    @Override
+    public Map<UUID, String> getQuartzStates(Collection<UUID> jobIds) {
+        Map<UUID, Trigger.TriggerState> states = jobStoreQueries.triggerStates(jobIds);
+        Map<UUID, String> result = new HashMap<>();
+        for (UUID jobId : jobIds) {
+            result.put(jobId, states.getOrDefault(jobId, Trigger.TriggerState.NONE).name());
+        }
+        return result;
+    }
+
     @Override
     public List<String> listAllQuartzJobs() {
         try {
@@ -186,4 +311,60 @@ public class QuartzSchedulingAdapter implements JobSchedulerPort {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // Bulk operations
+    // ============================================================
+    @Override
+    public void scheduleJobs(Collection<JobDefinition> jobs) {
+        try {
+            scheduleAll(jobs);
+        } catch (SchedulerException e) {
+            throw new RuntimeException("Failed to schedule " + jobs.size() + " jobs", e);
+        }
+    }
+
+    /**
+     * One statement in the caller's transaction, like {@link Scheduler#pauseJob} per job;
+     * see {@link QuartzJobStoreQueries#pauseTriggers}.
+     */
+    @Override
+    public void pauseJobs(Collection<JobDefinition> jobs) {
+        jobStoreQueries.pauseTriggers(ids(jobs));
+        jobStoreQueries.tagVersions(jobs);
+    }
+
+    /**
+     * Jobs whose trigger misfired while paused are resumed through {@link Scheduler#resumeJob},
+     * one job-store transaction each, so their misfire policy applies as for a single
+     * resume. The rest are resumed by one statement in the caller's transaction. The
+     * Scheduler calls commit on their own: if the caller's transaction then rolls back,
+     * those jobs stay resumed in Quartz under a stale version tag, which the next startup
+     * reconciliation repairs.
+     */
+    @Override
+    public void resumeJobs(Collection<JobDefinition> jobs) {
+        for (UUID jobId : jobStoreQueries.misfiredPausedJobIds(ids(jobs))) {
+            try {
+                scheduler.resumeJob(jobKey(jobId));
+            } catch (SchedulerException e) {
+                throw new RuntimeException("Failed to resume job " + jobId, e);
+            }
+        }
+        jobStoreQueries.resumeTriggers(ids(jobs));
+        jobStoreQueries.tagVersions(jobs);
+    }
+
+    @Override
+    public void deleteJobs(Collection<UUID> jobIds) {
+        try {
+            unscheduleAll(jobIds);
+        } catch (SchedulerException e) {
+            throw new RuntimeException("Failed to delete " + jobIds.size() + " jobs", e);
+        }
+    }
+
+    private static List<UUID> ids(Collection<JobDefinition> jobs) {
+        return jobs.stream().map(JobDefinition::getId).toList();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.application.dto.TriggerAcquisitionDto;
+import com.example.scheduler.config.TriggerAcquisitionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chooses how many triggers each Quartz acquisition takes and how far ahead of the first
+ * one it may reach. Applied by {@link InstrumentedJobStoreTX}.
+ *
+ * <p>One trigger per acquisition (Quartz's default) pays for a QRTZ_LOCKS round trip per
+ * fire. In adaptive mode the tuner samples the queue depth, i.e. the triggers due within
+ * {@code lookahead}, turns it into a smoothed due rate, and sizes the batch to what
+ * arrives within the configured fire-ahead bound, capped by free worker threads. The
+ * window is then just wide enough to fill that batch, so triggers fire as little ahead of
+ * time as possible. With a sparse queue it falls back to one trigger and no window.
+ *
+ * <p>Settings are per node; {@link #update} switches this node to fixed values or back.
+ */
+@Slf4j
+@Component
+public class TriggerAcquisitionTuner {
+
+    private final ObjectProvider<Scheduler> scheduler;
+    private final QuartzJobStoreQueries jobStoreQueries;
+    private final JobExecutionMetrics metrics;
+    private final TriggerAcquisitionProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final int maxBatchSize;
+    private final long maxFireAheadWindowMillis;
+
+    private volatile boolean adaptive;
+    private volatile int batchSize;
+    private volatile long fireAheadWindowMillis;
+    private volatile double dueRate;
+    private volatile int freeThreads;
+
+    public TriggerAcquisitionTuner(ObjectProvider<Scheduler> scheduler,
+                                   QuartzJobStoreQueries jobStoreQueries,
+                                   JobExecutionMetrics metrics,
+                                   TriggerAcquisitionProperties properties,
+                                   QuartzProperties quartzProperties,
+                                   TaskScheduler taskScheduler,
+                                   MeterRegistry registry) {
+        this.scheduler = scheduler;
+        this.jobStoreQueries = jobStoreQueries;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.maxBatchSize = Math.max(1, Integer.parseInt(quartzProperties.getProperties()
+                .getOrDefault("org.quartz.scheduler.batchTriggerAcquisitionMaxCount", "1")));
+        this.maxFireAheadWindowMillis = Math.max(0, Long.parseLong(quartzProperties.getProperties()
+                .getOrDefault("org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow", "0")));
+
+        this.adaptive = properties.isAdaptive();
+        this.batchSize = clampBatch(properties.getBatchSize());
+        this.fireAheadWindowMillis = clampWindow(properties.getFireAheadWindow().toMillis());
+
+        Gauge.builder("scheduler.quartz.trigger.acquire.batch.limit", this, TriggerAcquisitionTuner::batchSize)
+                .description("Max triggers per acquisition currently applied")
+                .register(registry);
+        Gauge.builder("scheduler.quartz.trigger.acquire.window", this, TriggerAcquisitionTuner::fireAheadWindowMillis)
+                .description("Fire-ahead window currently applied, in milliseconds")
+                .baseUnit("milliseconds")
+                .register(registry);
+        InstrumentedJobStoreTX.bindTuner(this);
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    long fireAheadWindowMillis() {
+        return fireAheadWindowMillis;
+    }
+
+    public TriggerAcquisitionDto current() {
+        return new TriggerAcquisitionDto(adaptive, batchSize, fireAheadWindowMillis,
+                maxBatchSize, maxFireAheadWindowMillis, dueRate, freeThreads);
+    }
+
+    /**
+     * Changes this node's settings. Giving a batch size or window without
+     * {@code adaptive=true} switches to fixed mode; {@code null} keeps the current value.
+     */
+    public TriggerAcquisitionDto update(Boolean adaptive, Integer batchSize, Long fireAheadWindowMillis) {
+        if (batchSize != null && (batchSize < 1 || batchSize > maxBatchSize)) {
+            throw new IllegalArgumentException("batchSize must be between 1 and " + maxBatchSize
+                    + " (org.quartz.scheduler.batchTriggerAcquisitionMaxCount)");
+        }
+        if (fireAheadWindowMillis != null && (fireAheadWindowMillis < 0 || fireAheadWindowMillis > maxFireAheadWindowMillis)) {
+            throw new IllegalArgumentException("fireAheadWindowMs must be between 0 and " + maxFireAheadWindowMillis
+                    + " (org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow)");
+        }
+        if (batchSize != null) {
+            this.batchSize = batchSize;
+        }
+        if (fireAheadWindowMillis != null) {
+            this.fireAheadWindowMillis = fireAheadWindowMillis;
+        }
+        this.adaptive = adaptive != null ? adaptive : (batchSize == null && fireAheadWindowMillis == null && this.adaptive);
+        log.info("🎛️ Trigger acquisition set to {}: batch {} window {} ms",
+                this.adaptive ? "adaptive" : "fixed", this.batchSize, this.fireAheadWindowMillis);
+        return current();
+    }
+
+    // ============================================================
+    // Adaptive sampling
+    // ============================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSampling() {
+        taskScheduler.scheduleWithFixedDelay(this::sample, properties.getSampleInterval());
+    }
+
+    void sample() {
+        Scheduler s = scheduler.getIfAvailable();
+        try {
+            if (s == null || !s.isStarted() || s.isInStandbyMode()) {
+                return;
+            }
+            long lookahead = properties.getLookahead().toMillis();
+            int due = jobStoreQueries.countDueTriggers(System.currentTimeMillis() + lookahead);
+            double rate = due * 1000.0 / lookahead;
+            double smoothing = Math.min(1, Math.max(0.01, properties.getSmoothing()));
+            dueRate = dueRate == 0 ? rate : smoothing * rate + (1 - smoothing) * dueRate;
+            freeThreads = Math.max(1, s.getMetaData().getThreadPoolSize() - metrics.activeCount());
+        } catch (SchedulerException | RuntimeException e) {
+            log.debug("Trigger acquisition sample failed: {}", e.getMessage());
+            return;
+        }
+        if (adaptive) {
+            apply(dueRate, freeThreads);
+        }
+    }
+
+    private void apply(double ratePerSecond, int free) {
+        int batch = clampBatch((int) Math.ceil(ratePerSecond * maxFireAheadWindowMillis / 1000.0));
+        batch = Math.max(1, Math.min(batch, free));
+        long window = batch == 1 ? 0 : clampWindow((long) Math.ceil(batch * 1000.0 / ratePerSecond));
+        if (batch != batchSize || window != fireAheadWindowMillis) {
+            log.debug("Trigger acquisition: {} due/s, {} free threads -> batch {} window {} ms",
+                    Math.round(ratePerSecond), free, batch, window);
+        }
+        batchSize = batch;
+        fireAheadWindowMillis = window;
+    }
+
+    private int clampBatch(int batch) {
+        return Math.max(1, Math.min(batch, maxBatchSize));
+    }
+
+    private long clampWindow(long window) {
+        return Math.max(0, Math.min(window, maxFireAheadWindowMillis));
+    }
+}
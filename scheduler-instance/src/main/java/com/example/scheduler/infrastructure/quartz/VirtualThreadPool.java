@@ -0,0 +1,201 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Quartz {@link ThreadPool} that runs every fire on its own virtual thread.
+ *
+ * <p>Concurrency is capped by {@code maxConcurrency} rather than by a fixed set of
+ * worker threads, so thousands of blocking job bodies can be in flight while the
+ * trigger-acquisition thread keeps going. {@link #blockForAvailableThreads()} still
+ * reports the free slots, so Quartz never acquires more triggers than it can run.
+ *
+ * <p>Instantiated by Quartz from {@code org.quartz.threadPool.class}; properties are
+ * set through the bean setters below. On a JDK without virtual threads it falls back
+ * to one platform thread per fire under the same cap.
+ */
+@Slf4j
+public class VirtualThreadPool implements ThreadPool {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+
+    private int maxConcurrency = 1_000;
+    private int running;
+    private boolean shutdown;
+
+    private String instanceName = "quartz";
+    private ThreadFactory threadFactory;
+
+    // ============================================================
+    // Quartz bean properties
+    // ============================================================
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * SchedulerFactoryBean always sets {@code threadCount}; it has no meaning here.
+     */
+    public void setThreadCount(int threadCount) {
+        // ignored, see maxConcurrency
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        // not used
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    // ============================================================
+    // ThreadPool
+    // ============================================================
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (maxConcurrency <= 0) {
+            throw new SchedulerConfigException("maxConcurrency must be > 0");
+        }
+        threadFactory = virtualThreadFactory(instanceName + "-vt-");
+        if (threadFactory == null) {
+            log.warn("Virtual threads are not available on this JVM; using a platform thread per fire");
+            threadFactory = platformThreadFactory(instanceName + "-worker-");
+        }
+        log.info("Quartz job bodies run on {} threads, max {} concurrent",
+                threadFactory instanceof PlatformThreadFactory ? "platform" : "virtual", maxConcurrency);
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        lock.lock();
+        try {
+            while (running >= maxConcurrency && !shutdown) {
+                slotFreed.awaitUninterruptibly();
+            }
+            if (shutdown) {
+                return false;
+            }
+            running++;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    release();
+                }
+            }).start();
+            return true;
+        } catch (RuntimeException | Error e) {
+            release();
+            log.error("Failed to start job thread", e);
+            return false;
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        lock.lock();
+        try {
+            while (running >= maxConcurrency && !shutdown) {
+                slotFreed.awaitUninterruptibly();
+            }
+            return shutdown ? 0 : maxConcurrency - running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        lock.lock();
+        try {
+            shutdown = true;
+            slotFreed.signalAll();
+            if (waitForJobsToComplete) {
+                while (running > 0) {
+                    slotFreed.awaitUninterruptibly();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return maxConcurrency;
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ============================================================
+    // Thread factories
+    // ============================================================
+
+    /**
+     * Virtual-thread factory when the JVM has one, otherwise daemon platform threads;
+     * shared with the timing-wheel engine's workers.
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        ThreadFactory factory = virtualThreadFactory(prefix + "vt-");
+        return factory != null ? factory : platformThreadFactory(prefix + "worker-");
+    }
+
+    /**
+     * Looks up {@code Thread.ofVirtual()} reflectively so the project still builds
+     * for Java 17; returns {@code null} when the running JVM does not support it.
+     */
+    private static ThreadFactory virtualThreadFactory(String prefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory(String prefix) {
+        return new PlatformThreadFactory(prefix);
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicLong counter = new AtomicLong();
+
+        private PlatformThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, prefix + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.scheduler.infrastructure.retry;
+
+import com.example.scheduler.config.RetryProperties;
+import com.example.scheduler.infrastructure.persistence.deadletter.DeadLetterEntry;
+import com.example.scheduler.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.example.scheduler.infrastructure.quartz.JobFire;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides what happens after a failed or timed-out run.
+ *
+ * <p>Jobs retry when they set {@code retryMaxAttempts} or {@code scheduler.retry.default-max-attempts}
+ * is above 1. Attempt {@code n} is followed by attempt {@code n + 1} after
+ * {@code backoff * multiplier^(n-1)}, capped at {@code max-backoff} and shortened by up to
+ * {@code jitter} of itself so that jobs failing together do not retry together. The retry
+ * is a one-shot fire of the trigger engine ({@link JobRetryScheduler}), so no worker waits
+ * for it. A run whose last attempt fails, or whose retry cannot be scheduled, is written
+ * to {@code job_dead_letter} for inspection and replay. Jobs without a retry policy keep
+ * their failures in the execution log only.
+ */
+@Slf4j
+@Component
+public class JobRetryHandler {
+
+    public enum Outcome {
+        /** No retry policy applies. */
+        NONE,
+        RETRY_SCHEDULED,
+        DEAD_LETTERED
+    }
+
+    private final RetryProperties properties;
+    private final ObjectProvider<JobRetryScheduler> retryScheduler;
+    private final DeadLetterRepository deadLetters;
+
+    public JobRetryHandler(RetryProperties properties,
+                           ObjectProvider<JobRetryScheduler> retryScheduler,
+                           DeadLetterRepository deadLetters) {
+        this.properties = properties;
+        this.retryScheduler = retryScheduler;
+        this.deadLetters = deadLetters;
+    }
+
+    /** Never throws; a dead letter that cannot be written is logged. */
+    public Outcome onFailure(JobFire fire, String error) {
+        int maxAttempts = fire.retryMaxAttempts() != null ? fire.retryMaxAttempts() : properties.getDefaultMaxAttempts();
+        if (fire.retryMaxAttempts() == null && maxAttempts <= 1) {
+            return Outcome.NONE;
+        }
+        if (fire.attempt() < maxAttempts) {
+            JobRetryScheduler scheduler = retryScheduler.getIfAvailable();
+            Duration delay = backoff(fire.retryBackoffSeconds(), fire.attempt());
+            try {
+                if (scheduler == null) {
+                    throw new IllegalStateException("no retry scheduler for this engine");
+                }
+                scheduler.schedule(fire.nextAttempt(), Instant.now().plus(delay));
+                log.info("🔁 Job {} attempt {}/{} failed; retrying in {} ms",
+                        fire.jobId(), fire.attempt(), maxAttempts, delay.toMillis());
+                return Outcome.RETRY_SCHEDULED;
+            } catch (RuntimeException e) {
+                log.warn("❌ Could not schedule retry of job {}, dead-lettering it: {}", fire.jobId(), e.getMessage());
+            }
+        }
+        try {
+            deadLetters.add(new DeadLetterEntry(UUID.randomUUID(), fire.jobId(), fire.jobType(), fire.payload(),
+                    fire.firstFireTime().toInstant(), fire.attempt(), error, Instant.now(), null));
+            log.warn("☠️ Job {} failed on attempt {}/{}; moved to the dead-letter table",
+                    fire.jobId(), fire.attempt(), maxAttempts);
+            return Outcome.DEAD_LETTERED;
+        } catch (RuntimeException e) {
+            log.error("❌ Could not dead-letter failed run of job {}: {}", fire.jobId(), e.getMessage());
+            return Outcome.NONE;
+        }
+    }
+
+    /** Delay after attempt {@code attempt}, jitter included. */
+    Duration backoff(Integer backoffSeconds, int attempt) {
+        long initial = backoffSeconds != null
+                ? Duration.ofSeconds(backoffSeconds).toMillis()
+                : properties.getInitialBackoff().toMillis();
+        double delay = initial * Math.pow(Math.max(1, properties.getMultiplier()), attempt - 1);
+        delay = Math.min(delay, properties.getMaxBackoff().toMillis());
+        double jitter = Math.min(1, Math.max(0, properties.getJitter()));
+        delay *= 1 - jitter * ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis(Math.max(0, Math.round(delay)));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.scheduler.infrastructure.retry;
+
+import com.example.scheduler.infrastructure.quartz.JobFire;
+
+import java.time.Instant;
+
+/**
+ * Schedules a single extra fire of a job, as a timer of the active trigger engine rather
+ * than a worker waiting out the delay.
+ */
+public interface JobRetryScheduler {
+
+    /**
+     * @param fire the run to start, with its attempt number; fire times are set when it runs
+     * @throws RuntimeException if the fire could not be scheduled, e.g. because the job is gone
+     */
+    void schedule(JobFire fire, Instant at);
+}
@@ -0,0 +1,89 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable consistent hash ring assigning job ids to node ids.
+ *
+ * <p>Each node is placed at {@code virtualNodes} points; a job belongs to the node at the
+ * first point at or after its hash, wrapping around. Adding or removing one of N nodes
+ * therefore moves only about 1/N of the jobs, and the assignment depends on nothing but
+ * the set of node ids, so every node computes the same ring independently.
+ */
+final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        this.nodes = nodeIds.stream().distinct().sorted().toList();
+        int size = nodes.size() * virtualNodes;
+        long[] hashes = new long[size];
+        String[] names = new String[size];
+        int i = 0;
+        for (String node : nodes) {
+            for (int v = 0; v < virtualNodes; v++) {
+                hashes[i] = hash(node + '#' + v);
+                names[i] = node;
+                i++;
+            }
+        }
+        // sort points and owners together
+        Integer[] order = new Integer[size];
+        for (int k = 0; k < size; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> hashes[a] != hashes[b]
+                ? Long.compare(hashes[a], hashes[b])
+                : names[a].compareTo(names[b]));
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int k = 0; k < size; k++) {
+            points[k] = hashes[order[k]];
+            owners[k] = names[order[k]];
+        }
+    }
+
+    List<String> nodes() {
+        return nodes;
+    }
+
+    boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /** @return the owning node, or {@code null} if the ring is empty */
+    String ownerOf(UUID jobId) {
+        if (points.length == 0) {
+            return null;
+        }
+        long h = mix(jobId.getMostSignificantBits() ^ mix(jobId.getLeastSignificantBits()));
+        int idx = Arrays.binarySearch(points, h);
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        return owners[idx == points.length ? 0 : idx];
+    }
+
+    /** FNV-1a over UTF-8 bytes, finished with a 64-bit mixer. */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
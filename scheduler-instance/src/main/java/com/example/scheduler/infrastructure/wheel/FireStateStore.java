@@ -0,0 +1,96 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last scheduled fire time per job, the only per-fire state the wheel engine persists.
+ *
+ * <p>Fires only update an in-memory map; {@link #flush} writes the latest value per job
+ * in one JDBC batch, so database load follows the number of distinct jobs fired per
+ * flush interval rather than the fire rate. A node that crashes loses at most one
+ * interval of updates, and the next owner replays those fires (at-least-once).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "wheel")
+public class FireStateStore {
+
+    // rows for jobs deleted in the meantime are skipped instead of violating the FK
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_fire_state (job_id, last_fire_time)
+            SELECT id, ? FROM job_definition WHERE id = ?
+            ON CONFLICT (job_id) DO UPDATE
+            SET last_fire_time = GREATEST(job_fire_state.last_fire_time, EXCLUDED.last_fire_time)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+    public FireStateStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void record(UUID jobId, Instant fireTime) {
+        pending.merge(jobId, fireTime, FireStateStore::latest);
+    }
+
+    /** Writes pending fire times; failed rows are kept for the next flush. */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(pending.size());
+        for (UUID id : pending.keySet()) {
+            Instant fireTime = pending.remove(id);
+            if (fireTime != null) {
+                batch.add(Map.entry(id, fireTime));
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch, 1_000, (ps, e) -> {
+                ps.setTimestamp(1, Timestamp.from(e.getValue()));
+                ps.setObject(2, e.getKey());
+            });
+        } catch (RuntimeException ex) {
+            log.warn("❌ Failed to write {} fire times, retrying on next flush: {}", batch.size(), ex.getMessage());
+            batch.forEach(e -> record(e.getKey(), e.getValue()));
+        }
+    }
+
+    /** @return the last fire time of each job that has one, unflushed updates included */
+    public Map<UUID, Instant> load(Collection<UUID> jobIds) {
+        Map<UUID, Instant> result = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query("SELECT job_id, last_fire_time FROM job_fire_state WHERE job_id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", jobIds.toArray())),
+                rs -> {
+                    result.put(rs.getObject(1, UUID.class), rs.getTimestamp(2).toInstant());
+                });
+        for (UUID id : jobIds) {
+            Instant local = pending.get(id);
+            if (local != null) {
+                result.merge(id, local, FireStateStore::latest);
+            }
+        }
+        return result;
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
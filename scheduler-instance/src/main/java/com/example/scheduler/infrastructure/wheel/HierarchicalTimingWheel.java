@@ -0,0 +1,296 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: O(1) insert and cancel for any number of pending timers.
+ *
+ * <p>Level 0 has {@code wheelSize} buckets of {@code tick} each; every further level is
+ * created on demand with buckets as wide as the whole level below. A timer goes into the
+ * finest level whose span covers its deadline. Only non-empty buckets are put in a
+ * {@link DelayQueue}, so the driver thread sleeps until the next bucket is due instead of
+ * ticking through empty ones. A due bucket on an outer level is flushed back into the
+ * wheel, which cascades its timers down to finer levels until they expire.
+ *
+ * <p>Expired tasks are handed to the dispatcher on the driver thread, so the dispatcher
+ * must not run them inline.
+ */
+@Slf4j
+public final class HierarchicalTimingWheel {
+
+    /** Handle of a scheduled task. */
+    public static final class Timeout {
+
+        private final long deadline;
+        private final Runnable task;
+        private volatile boolean cancelled;
+
+        // guarded by the owning bucket's monitor
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /** Cancels the task if it has not been dispatched yet; safe to call more than once. */
+        public void cancel() {
+            cancelled = true;
+            Bucket b = bucket;
+            if (b != null) {
+                b.remove(this);
+            }
+        }
+    }
+
+    private static final class Bucket implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1);
+        private final Timeout root = new Timeout(-1, null);
+
+        private Bucket() {
+            root.prev = root;
+            root.next = root;
+        }
+
+        synchronized void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = root.prev;
+            timeout.next = root;
+            root.prev.next = timeout;
+            root.prev = timeout;
+        }
+
+        synchronized void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /** Empties the bucket, handing every live timer to {@code sink}. */
+        void flush(Consumer<Timeout> sink) {
+            Timeout head;
+            synchronized (this) {
+                head = root.next;
+                root.next = root;
+                root.prev = root;
+                expiration.set(-1);
+                for (Timeout t = head; t != root; t = t.next) {
+                    t.bucket = null;
+                }
+            }
+            for (Timeout t = head; t != root; ) {
+                Timeout next = t.next;
+                t.prev = null;
+                t.next = null;
+                if (!t.cancelled) {
+                    sink.accept(t);
+                }
+                t = next;
+            }
+        }
+
+        /** @return {@code true} if the expiration changed, i.e. the bucket must be (re)queued */
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(expiration.get() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration.get(), ((Bucket) other).expiration.get());
+        }
+    }
+
+    private static final class Level {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private final DelayQueue<Bucket> queue;
+        private long currentTime;
+        private volatile Level overflow;
+
+        Level(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket> queue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.queue = queue;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        /** @return {@code false} if the timer is already due and must be dispatched */
+        boolean add(Timeout timeout) {
+            long deadline = timeout.deadline;
+            if (deadline < currentTime + tickMs) {
+                return false;
+            }
+            if (deadline < currentTime + interval) {
+                long virtualId = deadline / tickMs;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(timeout);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            return overflow().add(timeout);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                Level next = overflow;
+                if (next != null) {
+                    next.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Level overflow() {
+            Level next = overflow;
+            if (next == null) {
+                synchronized (this) {
+                    next = overflow;
+                    if (next == null) {
+                        next = new Level(interval, wheelSize, currentTime, queue);
+                        overflow = next;
+                    }
+                }
+            }
+            return next;
+        }
+    }
+
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+    private final Level root;
+    private final Consumer<Runnable> dispatcher;
+    // adds share the read lock; the driver takes the write lock to advance the clock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Thread driver;
+    private volatile boolean running;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, String threadName, Consumer<Runnable> dispatcher) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick and wheelSize must be > 0");
+        }
+        this.root = new Level(tickMs, wheelSize, System.currentTimeMillis(), queue);
+        this.dispatcher = dispatcher;
+        this.driver = new Thread(this::drive, threadName);
+        this.driver.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        driver.start();
+    }
+
+    /** Stops the driver; pending timers are dropped. */
+    public void stop() {
+        running = false;
+        driver.interrupt();
+        try {
+            driver.join(1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Schedules {@code task} at {@code deadlineMs} (epoch millis); past deadlines run right away. */
+    public Timeout schedule(long deadlineMs, Runnable task) {
+        Timeout timeout = new Timeout(deadlineMs, task);
+        add(timeout);
+        return timeout;
+    }
+
+    private void add(Timeout timeout) {
+        boolean added;
+        lock.readLock().lock();
+        try {
+            added = root.add(timeout);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!added && !timeout.cancelled) {
+            dispatch(timeout);
+        }
+    }
+
+    private void dispatch(Timeout timeout) {
+        try {
+            dispatcher.accept(timeout.task);
+        } catch (RuntimeException e) {
+            log.error("Timing wheel dispatcher failed", e);
+        }
+    }
+
+    private void drive() {
+        List<Timeout> expired = new ArrayList<>();
+        while (running) {
+            try {
+                Bucket bucket = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+                lock.writeLock().lock();
+                try {
+                    while (bucket != null) {
+                        root.advanceClock(bucket.expiration.get());
+                        bucket.flush(timeout -> {
+                            if (!root.add(timeout)) {
+                                expired.add(timeout);
+                            }
+                        });
+                        bucket = queue.poll();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                // outside the lock, so a dispatcher that blocks cannot stall schedule()
+                for (Timeout timeout : expired) {
+                    if (!timeout.cancelled) {
+                        dispatch(timeout);
+                    }
+                }
+                expired.clear();
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobPriority;
+import com.example.scheduler.infrastructure.quartz.JobFire;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Retries and workflow step launches of the wheel engine, kept in wheel_pending_retry so
+ * they outlive the node that armed them.
+ *
+ * <p>A row is written before its timer is armed. When the timer comes due, the node
+ * claims the row by deleting it and runs the retry only if that delete hit; a node that
+ * takes over the job arms every row it finds, so a retry armed on two nodes still runs
+ * once. Rows of deleted jobs go with the job.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "wheel")
+public class PendingRetryStore {
+
+    /** A retry waiting for {@code dueAt}; the job's settings are read again when it runs. */
+    public record PendingRetry(UUID id, UUID jobId, int attempt, String payload, Instant firstFireTime,
+                               UUID workflowRunId, Instant dueAt) {
+
+        static PendingRetry of(JobFire fire, Instant dueAt) {
+            return new PendingRetry(UUID.randomUUID(), fire.jobId(), fire.attempt(), fire.payload(),
+                    fire.firstFireTime().toInstant(), fire.workflowRunId(), dueAt);
+        }
+
+        /** The retry as a fire of {@code job}'s current settings; of its id alone if the job is gone. */
+        JobFire toFire(JobDefinition job, Date actualFireTime) {
+            JobFire fire = job != null
+                    ? JobFire.of(job, payload, attempt, Date.from(firstFireTime), Date.from(dueAt), actualFireTime)
+                    : new JobFire(jobId, null, payload, null, null, null, null, JobPriority.NORMAL, null,
+                            attempt, Date.from(firstFireTime), Date.from(dueAt), actualFireTime, null, null);
+            return workflowRunId != null ? fire.inRun(workflowRunId) : fire;
+        }
+    }
+
+    private static final String INSERT_SQL = """
+            INSERT INTO wheel_pending_retry (id, job_id, attempt, payload, first_fire_time, workflow_run_id, due_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT id, job_id, attempt, payload, first_fire_time, workflow_run_id, due_at
+            FROM wheel_pending_retry
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PendingRetryStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void save(PendingRetry retry) {
+        jdbcTemplate.update(INSERT_SQL, retry.id(), retry.jobId(), retry.attempt(), retry.payload(),
+                Timestamp.from(retry.firstFireTime()), retry.workflowRunId(), Timestamp.from(retry.dueAt()));
+    }
+
+    /** @return {@code true} if this call removed the row, i.e. the caller runs the retry */
+    public boolean claim(UUID id) {
+        return jdbcTemplate.update("DELETE FROM wheel_pending_retry WHERE id = ?", id) == 1;
+    }
+
+    /** Every pending retry, overdue ones included. */
+    public List<PendingRetry> loadAll() {
+        return jdbcTemplate.query(SELECT_SQL, (rs, i) -> new PendingRetry(
+                rs.getObject(1, UUID.class),
+                rs.getObject(2, UUID.class),
+                rs.getInt(3),
+                rs.getString(4),
+                rs.getTimestamp(5).toInstant(),
+                rs.getObject(6, UUID.class),
+                rs.getTimestamp(7).toInstant()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.domain.port.JobSchedulerPort;
+import com.example.scheduler.infrastructure.persistence.cache.JobDefinitionChangeBus;
+import lombok.RequiredArgsConstructor;
+import org.quartz.Trigger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link JobSchedulerPort} backed by the {@link WheelTriggerEngine}.
+ *
+ * <p>job_definition is the only schedule there is, so every change is just announced on
+ * the {@link JobDefinitionChangeBus}. The notification is sent inside the caller's
+ * transaction and reaches the owning node after commit, which then reloads the job.
+ * Job states are derived from the definition and the hash ring, so every node reports
+ * the same; {@link #listAllQuartzJobs} only lists the timers held by this node.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "wheel")
+public class WheelSchedulingAdapter implements JobSchedulerPort {
+
+    private final WheelTriggerEngine engine;
+    private final JobDefinitionChangeBus changeBus;
+    private final JobDefinitionRepositoryPort jobRepo;
+
+    @Override
+    public void scheduleJob(JobDefinition job) {
+        changeBus.publish(Map.of(job.getId(), job.getVersion()));
+    }
+
+    @Override
+    public void pauseJob(JobDefinition job) {
+        scheduleJob(job);
+    }
+
+    @Override
+    public void resumeJob(JobDefinition job) {
+        scheduleJob(job);
+    }
+
+    @Override
+    public void deleteJob(String jobId) {
+        changed(UUID.fromString(jobId));
+    }
+
+    @Override
+    public void runNow(String jobId) {
+        engine.runNow(UUID.fromString(jobId));
+    }
+
+    @Override
+    public boolean exists(String jobId) {
+        return jobRepo.exists(new JobId(UUID.fromString(jobId)));
+    }
+
+    @Override
+    public String getQuartzState(String jobId) {
+        UUID id = UUID.fromString(jobId);
+        return stateOf(id, jobRepo.findById(new JobId(id)).orElse(null));
+    }
+
+    /** {@link #getQuartzState} of each of the jobs, from one definition lookup. */
+    @Override
+    public Map<UUID, String> getQuartzStates(Collection<UUID> jobIds) {
+        Map<UUID, JobDefinition> jobs = new HashMap<>();
+        jobRepo.findAllById(jobIds).forEach(job -> jobs.put(job.getId(), job));
+        Map<UUID, String> states = new HashMap<>();
+        for (UUID jobId : jobIds) {
+            states.put(jobId, stateOf(jobId, jobs.get(jobId)));
+        }
+        return states;
+    }
+
+    /**
+     * The Quartz trigger state the job would have: {@code PAUSED} if paused, {@code NORMAL}
+     * if active and some live node owns it, otherwise {@code NONE}, as for deleted jobs,
+     * WORKFLOW jobs (they have no timer) and jobs no node is there to fire.
+     */
+    private String stateOf(UUID jobId, JobDefinition job) {
+        if (job == null || job.getStatus() == JobStatus.DELETED || job.isWorkflowSchedule()) {
+            return Trigger.TriggerState.NONE.name();
+        }
+        if (job.getStatus() == JobStatus.PAUSED) {
+            return Trigger.TriggerState.PAUSED.name();
+        }
+        return engine.ownerOf(jobId) != null ? Trigger.TriggerState.NORMAL.name() : Trigger.TriggerState.NONE.name();
+    }
+
+    /** @return ids of the jobs whose timers live on this node */
+    @Override
+    public List<String> listAllQuartzJobs() {
+        return engine.ownedJobIds().stream().map(UUID::toString).toList();
+    }
+
+    // ============================================================
+    // Bulk operations
+    // ============================================================
+    @Override
+    public void scheduleJobs(Collection<JobDefinition> jobs) {
+        Map<UUID, Integer> changes = new HashMap<>(jobs.size() * 2);
+        jobs.forEach(job -> changes.put(job.getId(), job.getVersion()));
+        changeBus.publish(changes);
+    }
+
+    @Override
+    public void pauseJobs(Collection<JobDefinition> jobs) {
+        scheduleJobs(jobs);
+    }
+
+    @Override
+    public void resumeJobs(Collection<JobDefinition> jobs) {
+        scheduleJobs(jobs);
+    }
+
+    @Override
+    public void deleteJobs(Collection<UUID> jobIds) {
+        changed(jobIds);
+    }
+
+    private void changed(UUID jobId) {
+        changeBus.publish(Collections.singletonMap(jobId, null));
+    }
+
+    private void changed(Collection<UUID> jobIds) {
+        Map<UUID, Integer> changes = new HashMap<>(jobIds.size() * 2);
+        jobIds.forEach(id -> changes.put(id, null));
+        changeBus.publish(changes);
+    }
+}
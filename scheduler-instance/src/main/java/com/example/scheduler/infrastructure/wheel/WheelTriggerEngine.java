@@ -0,0 +1,586 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import com.example.scheduler.config.ExecutionProperties;
+import com.example.scheduler.config.WheelProperties;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.MisfirePolicy;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.infrastructure.cluster.ClusterMembership;
+import com.example.scheduler.infrastructure.persistence.cache.JobDefinitionChangeBus;
+import com.example.scheduler.infrastructure.quartz.JobFire;
+import com.example.scheduler.infrastructure.quartz.MisfireRateLimiter;
+import com.example.scheduler.infrastructure.quartz.QuartzJobExecutor;
+import com.example.scheduler.infrastructure.quartz.VirtualThreadPool;
+import com.example.scheduler.infrastructure.retry.JobRetryScheduler;
+import com.example.scheduler.infrastructure.wheel.PendingRetryStore.PendingRetry;
+import com.example.scheduler.infrastructure.workflow.WorkflowCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trigger engine that replaces Quartz polling when {@code scheduler.engine=wheel}.
+ *
+ * <p>Jobs are sharded over live nodes ({@link ClusterMembership}) with a
+ * {@link ConsistentHashRing} on the job id. Each node keeps timers only for the jobs it
+ * owns, in a {@link HierarchicalTimingWheel}, so firing costs no database round trip; the
+ * last fire time per job is written to job_fire_state in coalesced batches
+ * ({@link FireStateStore}).
+ *
+ * <p>All ownership changes run on one control thread. When membership changes, jobs that
+ * moved away are cancelled at once, while jobs that moved here are only taken over after
+ * membership has been stable for {@code rebalance-delay}, by which time the previous
+ * owner has let go. A node that cannot heartbeat for a whole node TTL drops its shard,
+ * since the others will already have reassigned it. Definition changes arrive through
+ * {@link JobDefinitionChangeBus}; the owner reloads the job and re-arms its timer. Owned
+ * jobs are held with their payloads, loaded when they are taken over.
+ *
+ * <p>Misfires (a next fire more than {@code org.quartz.jobStore.misfireThreshold} in the
+ * past, e.g. after a takeover or resume) follow the job's {@link MisfirePolicy}, and
+ * recovered fires share the cluster-wide {@link MisfireRateLimiter} with the Quartz path.
+ *
+ * <p>Retries are wheel timers on the node whose run failed, recorded in
+ * {@link PendingRetryStore}: a retry pending when that node stops is re-armed by the
+ * job's owner once the ring has settled, and runs on whichever node claims it first. A
+ * retry of a job that is no longer ACTIVE when it comes due is dropped. Workflow steps are
+ * launched the same way, on the node whose run released them; WORKFLOW jobs themselves
+ * own no timer.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler", name = "engine", havingValue = "wheel")
+public class WheelTriggerEngine implements SmartLifecycle, JobDefinitionChangeBus.Subscriber, JobRetryScheduler {
+
+    private final JobDefinitionRepositoryPort jobRepo;
+    private final QuartzJobExecutor jobExecutor;
+    private final WorkflowCoordinator workflows;
+    private final ClusterMembership membership;
+    private final FireStateStore fireState;
+    private final PendingRetryStore pendingRetries;
+    private final MisfireRateLimiter misfireRateLimiter;
+    private final WheelProperties properties;
+    private final ExecutionProperties executionProperties;
+    private final int workerThreads;
+    private final long misfireThresholdMs;
+
+    private final Map<UUID, OwnedJob> owned = new ConcurrentHashMap<>();
+    private final Set<UUID> armedRetries = ConcurrentHashMap.newKeySet();
+    private final Counter released;
+    private final Counter deferred;
+    private final Counter dropped;
+
+    private HierarchicalTimingWheel wheel;
+    private ThreadPoolExecutor workers;
+    private ScheduledExecutorService control;
+    private volatile boolean running;
+
+    // written on the control thread only
+    private volatile ConsistentHashRing ring = new ConsistentHashRing(List.of(), 1);
+    private long ringChangedAt;
+    private long lastHeartbeatAt;
+    private boolean shardLoaded;
+
+    public WheelTriggerEngine(JobDefinitionRepositoryPort jobRepo,
+                              QuartzJobExecutor jobExecutor,
+                              WorkflowCoordinator workflows,
+                              ClusterMembership membership,
+                              FireStateStore fireState,
+                              PendingRetryStore pendingRetries,
+                              MisfireRateLimiter misfireRateLimiter,
+                              JobDefinitionChangeBus changeBus,
+                              WheelProperties properties,
+                              ExecutionProperties executionProperties,
+                              QuartzProperties quartzProperties,
+                              MeterRegistry registry) {
+        this.jobRepo = jobRepo;
+        this.jobExecutor = jobExecutor;
+        this.workflows = workflows;
+        this.membership = membership;
+        this.fireState = fireState;
+        this.pendingRetries = pendingRetries;
+        this.misfireRateLimiter = misfireRateLimiter;
+        this.properties = properties;
+        this.executionProperties = executionProperties;
+        this.workerThreads = Integer.parseInt(quartzProperties.getProperties()
+                .getOrDefault("org.quartz.threadPool.threadCount", "10"));
+        this.misfireThresholdMs = Long.parseLong(quartzProperties.getProperties()
+                .getOrDefault("org.quartz.jobStore.misfireThreshold", "60000"));
+
+        this.released = recovered(registry, "released");
+        this.deferred = recovered(registry, "deferred");
+        this.dropped = recovered(registry, "dropped");
+        Gauge.builder("scheduler.wheel.jobs.owned", owned, Map::size)
+                .description("Jobs whose timers live on this node")
+                .register(registry);
+        Gauge.builder("scheduler.wheel.nodes", this, engine -> engine.ring.nodes().size())
+                .description("Live nodes in this node's view of the hash ring")
+                .register(registry);
+
+        changeBus.subscribe(this);
+    }
+
+    private static Counter recovered(MeterRegistry registry, String outcome) {
+        return Counter.builder("scheduler.misfire.recovered")
+                .description("Recovered misfires by outcome: released now, deferred by the rate limit, or dropped")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    // ============================================================
+    // Public operations
+    // ============================================================
+
+    /** Runs the job once on this node, outside its schedule. */
+    public void runNow(UUID jobId) {
+        JobDefinition job = jobRepo.findById(new JobId(jobId))
+                .map(jobRepo::withPayload)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        workers.execute(() -> {
+            Date now = new Date();
+            jobExecutor.dispatch(JobFire.of(job, now, now));
+        });
+    }
+
+    /** Once the wheel has stopped, the retry is only stored, for the job's next owner. */
+    @Override
+    public void schedule(JobFire fire, Instant at) {
+        PendingRetry retry = PendingRetry.of(fire, at);
+        pendingRetries.save(retry);
+        if (running) {
+            armRetry(retry);
+        }
+    }
+
+    /** @return whether this node currently holds a timer for the job */
+    public boolean isOwned(UUID jobId) {
+        return owned.containsKey(jobId);
+    }
+
+    /** @return the node the job is assigned to in this node's view of the ring */
+    public String ownerOf(UUID jobId) {
+        return ring.ownerOf(jobId);
+    }
+
+    public List<UUID> ownedJobIds() {
+        return new ArrayList<>(owned.keySet());
+    }
+
+    // ============================================================
+    // Change notifications
+    // ============================================================
+    @Override
+    public void changed(UUID id, Integer version) {
+        onControlThread(() -> refresh(id));
+    }
+
+    @Override
+    public void changedAll() {
+        onControlThread(() -> {
+            releaseAll();
+            shardLoaded = false;
+        });
+    }
+
+    private void onControlThread(Runnable task) {
+        if (!running) {
+            return;
+        }
+        try {
+            control.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("❌ Timing wheel update failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    private void refresh(UUID id) {
+        if (!shardLoaded || !membership.nodeId().equals(ring.ownerOf(id))) {
+            return;
+        }
+        JobDefinition job = jobRepo.findById(new JobId(id)).orElse(null);
+        OwnedJob current = owned.get(id);
+        if (job == null || job.getStatus() != JobStatus.ACTIVE) {
+            if (current != null) {
+                release(current);
+            }
+            return;
+        }
+        if (current != null && current.job.getStatus() == JobStatus.ACTIVE
+                && Objects.equals(current.job.getVersion(), job.getVersion())) {
+            return;
+        }
+        if (current != null) {
+            release(current);
+        }
+        take(jobRepo.withPayload(job), fireState.load(List.of(id)).get(id), Instant.now());
+    }
+
+    // ============================================================
+    // Membership and shard ownership (control thread)
+    // ============================================================
+    private void tick() {
+        long now = System.currentTimeMillis();
+        try {
+            membership.heartbeat();
+            lastHeartbeatAt = now;
+
+            List<String> live = new ArrayList<>(membership.liveNodes(properties.getNodeTtl()));
+            if (!live.contains(membership.nodeId())) {
+                live.add(membership.nodeId());
+            }
+            ConsistentHashRing next = new ConsistentHashRing(live, properties.getVirtualNodes());
+            if (!next.nodes().equals(ring.nodes())) {
+                log.info("🔀 Cluster membership changed: {} -> {}", ring.nodes(), next.nodes());
+                ring = next;
+                ringChangedAt = now;
+                shardLoaded = false;
+                releaseMoved();
+            }
+            if (!shardLoaded && now - ringChangedAt >= properties.getRebalanceDelay().toMillis()) {
+                loadShard();
+                recoverRetries();
+                shardLoaded = true;
+            }
+            membership.purge(properties.getNodeTtl().multipliedBy(10));
+        } catch (RuntimeException e) {
+            log.warn("❌ Cluster heartbeat failed: {}", e.getMessage());
+            if (!owned.isEmpty() && now - lastHeartbeatAt > properties.getNodeTtl().toMillis()) {
+                log.warn("⚠️ No heartbeat for {}; releasing {} jobs", properties.getNodeTtl(), owned.size());
+                releaseAll();
+                ring = new ConsistentHashRing(List.of(), 1);
+                shardLoaded = false;
+            }
+        }
+    }
+
+    private void releaseMoved() {
+        String self = membership.nodeId();
+        int moved = 0;
+        for (OwnedJob job : owned.values()) {
+            if (!self.equals(ring.ownerOf(job.job.getId()))) {
+                release(job);
+                moved++;
+            }
+        }
+        if (moved > 0) {
+            fireState.flush();
+            log.info("📤 Released {} jobs to other nodes", moved);
+        }
+    }
+
+    private void releaseAll() {
+        owned.values().forEach(this::release);
+        fireState.flush();
+    }
+
+    private void loadShard() {
+        String self = membership.nodeId();
+        long started = System.nanoTime();
+        UUID after = new UUID(0, 0);
+        int taken = 0;
+        while (true) {
+            List<JobDefinition> page = jobRepo.findActivePage(after, properties.getLoadPageSize());
+            if (page.isEmpty()) {
+                break;
+            }
+            after = page.get(page.size() - 1).getId();
+            List<JobDefinition> mine = jobRepo.withPayloads(page.stream()
+                    .filter(job -> self.equals(ring.ownerOf(job.getId())) && !owned.containsKey(job.getId()))
+                    .toList());
+            Map<UUID, Instant> lastFires = fireState.load(mine.stream().map(JobDefinition::getId).toList());
+            Instant now = Instant.now();
+            for (JobDefinition job : mine) {
+                take(job, lastFires.get(job.getId()), now);
+                taken++;
+            }
+            if (page.size() < properties.getLoadPageSize()) {
+                break;
+            }
+        }
+        log.info("📥 Took over {} jobs ({} owned of {} nodes) in {} ms", taken, owned.size(),
+                ring.nodes().size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void take(JobDefinition job, Instant lastFire, Instant now) {
+        if (job.isWorkflowSchedule()) {
+            return; // runs only when a workflow run launches it
+        }
+        OwnedJob ownedJob;
+        try {
+            ownedJob = new OwnedJob(job);
+        } catch (ParseException e) {
+            log.error("Job {} has an invalid cron expression '{}'", job.getId(), job.getCronExpression());
+            return;
+        }
+        owned.put(job.getId(), ownedJob);
+        Instant due = lastFire == null ? ownedJob.firstFire(now) : ownedJob.nextAfter(lastFire);
+        armOrRecover(ownedJob, due, now);
+    }
+
+    private void release(OwnedJob job) {
+        job.active = false;
+        HierarchicalTimingWheel.Timeout timeout = job.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        owned.remove(job.job.getId(), job);
+    }
+
+    // ============================================================
+    // Firing
+    // ============================================================
+    private void arm(OwnedJob job, Instant at) {
+        if (at == null) {
+            log.info("Job {} has no further fire times", job.job.getId());
+            return;
+        }
+        job.timeout = wheel.schedule(at.toEpochMilli(), () -> workers.execute(() -> fire(job, at)));
+    }
+
+    private void fire(OwnedJob job, Instant scheduledAt) {
+        if (!job.active) {
+            return;
+        }
+        JobDefinition def = job.job;
+        if (!def.isFixedDelaySchedule()) {
+            // next timer first, so the schedule does not drift with execution time
+            armOrRecover(job, job.nextAfter(scheduledAt), Instant.now());
+        }
+        fireState.record(def.getId(), scheduledAt);
+        jobExecutor.dispatch(JobFire.of(def, Date.from(scheduledAt), new Date())).whenComplete((done, error) -> {
+            if (def.isFixedDelaySchedule() && job.active) {
+                armOrRecover(job, job.nextAfter(Instant.now()), Instant.now());
+            }
+        });
+    }
+
+    private void replay(OwnedJob job, Instant scheduledAt) {
+        if (job.active) {
+            fireState.record(job.job.getId(), scheduledAt);
+            jobExecutor.dispatch(JobFire.of(job.job, Date.from(scheduledAt), new Date()));
+        }
+    }
+
+    private void armRetry(PendingRetry retry) {
+        if (armedRetries.add(retry.id())) {
+            wheel.schedule(retry.dueAt().toEpochMilli(), () -> workers.execute(() -> retry(retry)));
+        }
+    }
+
+    /** Arms the stored retries of jobs this node owns in the current ring. */
+    private void recoverRetries() {
+        String self = membership.nodeId();
+        int armed = 0;
+        for (PendingRetry retry : pendingRetries.loadAll()) {
+            if (self.equals(ring.ownerOf(retry.jobId())) && !armedRetries.contains(retry.id())) {
+                armRetry(retry);
+                armed++;
+            }
+        }
+        if (armed > 0) {
+            log.info("🔁 Re-armed {} pending retries of this node's jobs", armed);
+        }
+    }
+
+    private void retry(PendingRetry retry) {
+        armedRetries.remove(retry.id());
+        if (!running) {
+            return; // the row stays for the next owner
+        }
+        try {
+            if (!pendingRetries.claim(retry.id())) {
+                return; // run by another node, or the job was deleted
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not claim retry {} of job {}, running it anyway: {}",
+                    retry.attempt(), retry.jobId(), e.getMessage());
+        }
+        JobDefinition job = jobRepo.findById(new JobId(retry.jobId())).orElse(null);
+        // current limits and retry policy, the failed run's payload
+        JobFire fire = retry.toFire(job, new Date());
+        if (job == null || job.getStatus() != JobStatus.ACTIVE) {
+            log.info("Dropping retry {} of job {}: job is no longer active", retry.attempt(), retry.jobId());
+            workflows.onFailure(fire, "SKIPPED");
+            return;
+        }
+        jobExecutor.dispatch(fire);
+    }
+
+    private void armOrRecover(OwnedJob job, Instant due, Instant now) {
+        if (due == null || due.toEpochMilli() >= now.toEpochMilli() - misfireThresholdMs) {
+            arm(job, due);
+            return;
+        }
+        MisfirePolicy policy = job.job.getMisfirePolicy() != null ? job.job.getMisfirePolicy() : MisfirePolicy.FIRE_NOW;
+        switch (policy) {
+            case FIRE_NOW -> arm(job, Instant.ofEpochMilli(releaseAt(now.toEpochMilli())));
+            case SKIP -> arm(job, job.nextAfter(now));
+            case CATCH_UP -> {
+                int limit = job.job.getMisfireCatchUpLimit() != null ? job.job.getMisfireCatchUpLimit() : 1;
+                Deque<Instant> missed = new ArrayDeque<>(limit);
+                for (Instant slot = due; slot != null && slot.isBefore(now); slot = job.nextAfter(slot)) {
+                    if (missed.size() == limit) {
+                        missed.removeFirst();
+                        dropped.increment();
+                    }
+                    missed.addLast(slot);
+                }
+                for (Instant slot : missed) {
+                    wheel.schedule(releaseAt(now.toEpochMilli()), () -> workers.execute(() -> replay(job, slot)));
+                }
+                arm(job, job.nextAfter(now));
+            }
+        }
+    }
+
+    private long releaseAt(long now) {
+        try {
+            long releaseAt = misfireRateLimiter.reserve(now);
+            (releaseAt <= now ? released : deferred).increment();
+            return releaseAt;
+        } catch (RuntimeException e) {
+            log.warn("Could not reserve a misfire release slot, firing now: {}", e.getMessage());
+            released.increment();
+            return now;
+        }
+    }
+
+    /** A job this node fires; replaced by a new instance whenever its definition changes. */
+    private static final class OwnedJob {
+
+        private final JobDefinition job;
+        private final CronExpression cron;
+        private final long offsetMillis;
+        private volatile boolean active = true;
+        private volatile HierarchicalTimingWheel.Timeout timeout;
+
+        private OwnedJob(JobDefinition job) throws ParseException {
+            this.job = job;
+            this.cron = job.isCronSchedule() ? new CronExpression(job.getCronExpression()) : null;
+            this.offsetMillis = job.fireOffsetMillis();
+        }
+
+        Instant firstFire(Instant now) {
+            if (cron != null) {
+                return nextAfter(now);
+            }
+            long initialDelay = job.getInitialDelaySeconds() == null ? 0 : job.getInitialDelaySeconds();
+            return now.plusSeconds(initialDelay);
+        }
+
+        /** @return the fire after {@code time}, or {@code null} if a cron schedule has ended */
+        Instant nextAfter(Instant time) {
+            if (cron != null) {
+                // slots are shifted by the job's jitter offset, as JitteredCronTrigger does
+                Date next = cron.getNextValidTimeAfter(Date.from(time.minusMillis(offsetMillis)));
+                return next == null ? null : next.toInstant().plusMillis(offsetMillis);
+            }
+            return time.plusSeconds(job.getIntervalSeconds());
+        }
+    }
+
+    // ============================================================
+    // Lifecycle
+    // ============================================================
+    @Override
+    public void start() {
+        ThreadFactory workerFactory;
+        int poolSize;
+        if (executionProperties.getMode() == ExecutionProperties.Mode.VIRTUAL) {
+            workerFactory = VirtualThreadPool.threadFactory("wheel-");
+            poolSize = executionProperties.getMaxConcurrency();
+        } else {
+            CustomizableThreadFactory factory = new CustomizableThreadFactory("wheel-worker-");
+            factory.setDaemon(true);
+            workerFactory = factory;
+            poolSize = workerThreads;
+        }
+        workers = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), workerFactory);
+        workers.allowCoreThreadTimeOut(true);
+
+        Duration tick = properties.getTick();
+        wheel = new HierarchicalTimingWheel(tick.toMillis(), properties.getWheelSize(), "wheel-driver", workers::execute);
+        wheel.start();
+
+        CustomizableThreadFactory controlFactory = new CustomizableThreadFactory("wheel-control-");
+        controlFactory.setDaemon(true);
+        control = Executors.newSingleThreadScheduledExecutor(controlFactory);
+        running = true;
+
+        ringChangedAt = System.currentTimeMillis();
+        lastHeartbeatAt = ringChangedAt;
+        control.scheduleWithFixedDelay(this::tick, 0, properties.getHeartbeatInterval().toMillis(), TimeUnit.MILLISECONDS);
+        long flushMillis = properties.getStateFlushInterval().toMillis();
+        control.scheduleWithFixedDelay(fireState::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+
+        log.info("🛞 Timing-wheel engine started as node {} ({} workers, {} ms tick)",
+                membership.nodeId(), poolSize, tick.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        control.shutdown();
+        try {
+            control.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        owned.values().forEach(this::release);
+        wheel.stop();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            fireState.flush();
+            membership.leave();
+        } catch (RuntimeException e) {
+            log.warn("Could not leave the cluster cleanly: {}", e.getMessage());
+        }
+        log.info("🛑 Timing-wheel engine stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.scheduler.infrastructure.workflow;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.JobId;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.WorkflowRunStatus;
+import com.example.scheduler.domain.model.enums.WorkflowStepStatus;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRepository;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRun;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRunStep;
+import com.example.scheduler.infrastructure.quartz.JobFire;
+import com.example.scheduler.infrastructure.retry.JobRetryScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Advances workflow runs as their steps finish.
+ *
+ * <p>A successful fire of a workflow's root job starts a run; the success of any step
+ * counts against the fan-in barrier of each downstream step, and every step whose
+ * upstreams have all succeeded is launched at once as a one-shot fire of the trigger
+ * engine ({@link JobRetryScheduler}), so independent branches run in parallel on
+ * whichever nodes pick them up. The barrier update commits before the launches, and
+ * only the update that takes a barrier to zero launches the step.
+ *
+ * <p>A step fails the run when its last attempt fails, times out or is skipped, or when
+ * it cannot be launched because its job is paused, deleted or unschedulable. Steps not
+ * yet launched are then SKIPPED; steps already running finish but release nothing.
+ * Failures of the root job do not start a run. A step still RUNNING after
+ * {@code scheduler.workflow.step-timeout} fails its run too ({@link WorkflowReaper}).
+ */
+@Slf4j
+@Component
+public class WorkflowCoordinator {
+
+    private final WorkflowRepository workflows;
+    private final JobDefinitionRepositoryPort jobRepo;
+    private final ObjectProvider<JobRetryScheduler> launcher;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer succeeded;
+    private final Timer failed;
+
+    public WorkflowCoordinator(WorkflowRepository workflows,
+                               JobDefinitionRepositoryPort jobRepo,
+                               ObjectProvider<JobRetryScheduler> launcher,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry registry) {
+        this.workflows = workflows;
+        this.jobRepo = jobRepo;
+        this.launcher = launcher;
+        this.transactionTemplate = transactionTemplate;
+        this.succeeded = runTimer(registry, WorkflowRunStatus.SUCCEEDED);
+        this.failed = runTimer(registry, WorkflowRunStatus.FAILED);
+    }
+
+    private static Timer runTimer(MeterRegistry registry, WorkflowRunStatus status) {
+        return Timer.builder("scheduler.workflow.run")
+                .description("Workflow runs from the root's scheduled fire to the last step, by outcome")
+                .tag("status", status.name())
+                .register(registry);
+    }
+
+    /** Called after the final, successful attempt of a fire. Never throws. */
+    public void onSuccess(JobFire fire) {
+        if (fire.workflowRunId() == null && fire.workflowId() == null) {
+            return;
+        }
+        try {
+            UUID runId;
+            List<UUID> ready;
+            if (fire.workflowRunId() != null) {
+                runId = fire.workflowRunId();
+                ready = transactionTemplate.execute(status -> stepSucceeded(runId, fire.jobId()));
+            } else {
+                runId = UUID.randomUUID();
+                ready = transactionTemplate.execute(status -> startRun(fire, runId));
+            }
+            launch(runId, ready);
+        } catch (RuntimeException e) {
+            log.error("❌ Could not advance workflow after job {} succeeded", fire.jobId(), e);
+        }
+    }
+
+    /**
+     * Called after the final attempt of a fire failed, timed out or was skipped. Never throws.
+     *
+     * @param outcome execution log status of that attempt
+     */
+    public void onFailure(JobFire fire, String outcome) {
+        if (fire.workflowRunId() == null) {
+            return;
+        }
+        try {
+            stepFailed(fire.workflowRunId(), fire.jobId(), outcome);
+        } catch (RuntimeException e) {
+            log.error("❌ Could not fail workflow run {} after job {} ended {}",
+                    fire.workflowRunId(), fire.jobId(), outcome, e);
+        }
+    }
+
+    /**
+     * Fails the runs of steps released before {@code startedBefore} that are still
+     * RUNNING. A late outcome of such a step finds the run failed and changes nothing.
+     *
+     * @return steps failed
+     */
+    public int failStuckSteps(Instant startedBefore, int limit) {
+        List<WorkflowRunStep> stuck = workflows.findStuckSteps(startedBefore, limit);
+        for (WorkflowRunStep step : stuck) {
+            stepFailed(step.runId(), step.jobId(), "still RUNNING since " + step.startedAt());
+        }
+        return stuck.size();
+    }
+
+    // =========================================================================
+    // Run state (one transaction each)
+    // =========================================================================
+
+    private List<UUID> startRun(JobFire fire, UUID runId) {
+        if (!workflows.startRun(runId, fire.workflowId(), fire.firstFireTime().toInstant())) {
+            log.warn("Workflow {} of job {} no longer exists; no run started", fire.workflowId(), fire.jobId());
+            return List.of();
+        }
+        log.info("🧬 Workflow {} run {} started by job {}", fire.workflowId(), runId, fire.jobId());
+        return workflows.releaseDownstream(runId, fire.jobId());
+    }
+
+    private List<UUID> stepSucceeded(UUID runId, UUID jobId) {
+        WorkflowRunStatus status = workflows.lockRun(runId);
+        if (status == null || !workflows.completeStep(runId, jobId, WorkflowStepStatus.SUCCEEDED)
+                || status != WorkflowRunStatus.RUNNING) {
+            return List.of();
+        }
+        workflows.stepSucceeded(runId)
+                .filter(run -> run.status() == WorkflowRunStatus.SUCCEEDED)
+                .ifPresent(run -> finished(run, succeeded));
+        return workflows.releaseDownstream(runId, jobId);
+    }
+
+    private void stepFailed(UUID runId, UUID jobId, String reason) {
+        Optional<WorkflowRun> run = transactionTemplate.execute(status -> {
+            if (workflows.lockRun(runId) == null) {
+                return Optional.empty();
+            }
+            workflows.completeStep(runId, jobId, WorkflowStepStatus.FAILED);
+            return workflows.failRun(runId);
+        });
+        if (run != null && run.isPresent()) {
+            log.warn("🧬 Workflow run {} failed: step {} {}", runId, jobId, reason);
+            finished(run.get(), failed);
+        }
+    }
+
+    private void finished(WorkflowRun run, Timer timer) {
+        if (run.status() == WorkflowRunStatus.SUCCEEDED) {
+            log.info("🧬 Workflow {} run {} succeeded", run.workflowId(), run.id());
+        }
+        timer.record(Duration.between(run.startedAt(), run.finishedAt()));
+    }
+
+    // =========================================================================
+    // Launching released steps
+    // =========================================================================
+
+    private void launch(UUID runId, List<UUID> ready) {
+        if (ready == null || ready.isEmpty()) {
+            return;
+        }
+        JobRetryScheduler scheduler = launcher.getIfAvailable();
+        for (UUID jobId : ready) {
+            JobDefinition job = jobRepo.findById(new JobId(jobId)).orElse(null);
+            if (job == null || job.getStatus() != JobStatus.ACTIVE) {
+                stepFailed(runId, jobId, "could not start: job is " + (job == null ? "DELETED" : job.getStatus()));
+                continue;
+            }
+            Date now = new Date();
+            try {
+                if (scheduler == null) {
+                    throw new IllegalStateException("no trigger engine to launch steps on");
+                }
+                String payload = jobRepo.withPayload(job).getPayload();
+                scheduler.schedule(JobFire.of(job, payload, 1, now, null, null).inRun(runId), now.toInstant());
+            } catch (RuntimeException e) {
+                stepFailed(runId, jobId, "could not start: " + e.getMessage());
+            }
+        }
+    }
+}
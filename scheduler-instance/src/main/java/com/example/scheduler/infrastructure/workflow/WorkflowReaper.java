@@ -0,0 +1,65 @@
+package com.example.scheduler.infrastructure.workflow;
+
+import com.example.scheduler.config.WorkflowProperties;
+import com.example.scheduler.infrastructure.cluster.ClusterLock;
+import com.example.scheduler.infrastructure.persistence.workflow.WorkflowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Fails workflow runs whose steps stay RUNNING past {@code scheduler.workflow.step-timeout},
+ * and deletes finished runs past {@code run-retention}.
+ *
+ * <p>A step is RUNNING from its release until its last attempt reports back. If the node
+ * running it dies, or the launch is lost between the barrier update and the trigger,
+ * nothing reports back and the run would stay RUNNING forever, out of reach of the
+ * run retention. Stuck steps are failed rather than launched again, since the step may
+ * in fact have run. Runs every {@code reaper-cron}, and purges every {@code run-purge-cron},
+ * each under its own cluster lock so only one node does either at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowReaper {
+
+    private static final String LOCK_NAME = "workflow-reaper";
+    private static final String PURGE_LOCK_NAME = "workflow-run-purge";
+
+    private final WorkflowCoordinator coordinator;
+    private final WorkflowRepository repository;
+    private final ClusterLock clusterLock;
+    private final WorkflowProperties properties;
+
+    @Scheduled(cron = "${scheduler.workflow.reaper-cron:30 * * * * *}")
+    public void reap() {
+        if (!clusterLock.runExclusively(LOCK_NAME, this::failStuckSteps)) {
+            log.debug("Another node is reaping stuck workflow steps");
+        }
+    }
+
+    @Scheduled(cron = "${scheduler.workflow.run-purge-cron:0 20 * * * *}")
+    public void purgeRuns() {
+        if (!clusterLock.runExclusively(PURGE_LOCK_NAME, () -> {
+            int purged = repository.purgeRuns(Instant.now().minus(properties.getRunRetention()));
+            log.info("🗂️ Workflow runs: {} past retention deleted", purged);
+        })) {
+            log.debug("Another node is purging workflow runs");
+        }
+    }
+
+    private void failStuckSteps() {
+        Instant cutoff = Instant.now().minus(properties.getStepTimeout());
+        int batch = properties.getReapBatchSize();
+        int failed;
+        do {
+            failed = coordinator.failStuckSteps(cutoff, batch);
+            if (failed > 0) {
+                log.warn("🧬 Failed {} workflow steps RUNNING for more than {}", failed, properties.getStepTimeout());
+            }
+        } while (failed == batch);
+    }
+}
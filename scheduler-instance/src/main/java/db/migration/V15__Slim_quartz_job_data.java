@@ -0,0 +1,77 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.quartz.JobDataMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Job details now carry only the job id and the definition version; the executor reads
+ * the payload and settings from job_definition. Rewrites the job data of every stored
+ * detail to that form, serialized the way Quartz stores it with {@code useProperties:
+ * false}. Triggers are not touched, so jobs keep their next fire times, and paused jobs
+ * are rewritten too. Details whose definition is gone are left to the reconciler.
+ *
+ * <p>A Java migration because the old job data is a Java-serialized blob SQL cannot edit;
+ * bumping versions instead would have the reconciler replace every trigger.
+ */
+public class V15__Slim_quartz_job_data extends BaseJavaMigration {
+
+    // QuartzSchedulingAdapter.JOB_GROUP and the job data keys read by QuartzJobExecutor
+    private static final String JOB_GROUP = "JOB_GROUP";
+    private static final String JOB_ID_KEY = "jobId";
+    private static final String VERSION_KEY = "version";
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement("""
+                     SELECT d.sched_name, d.job_name, coalesce(j.version, 0)
+                     FROM qrtz_job_details d
+                     JOIN job_definition j ON j.id::text = d.job_name
+                     WHERE d.job_group = ?
+                     """);
+             PreparedStatement update = connection.prepareStatement("""
+                     UPDATE qrtz_job_details SET job_data = ?
+                     WHERE sched_name = ? AND job_name = ? AND job_group = ?
+                     """)) {
+            select.setString(1, JOB_GROUP);
+            select.setFetchSize(BATCH_SIZE);
+            int pending = 0;
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    JobDataMap data = new JobDataMap();
+                    data.put(JOB_ID_KEY, rs.getString(2));
+                    data.put(VERSION_KEY, rs.getInt(3));
+                    update.setBytes(1, serialize(data));
+                    update.setString(2, rs.getString(1));
+                    update.setString(3, rs.getString(2));
+                    update.setString(4, JOB_GROUP);
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+
+    private static byte[] serialize(JobDataMap data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package db.migration;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Moves the payload of every job definition into job_payload (V16), encoded the way
+ * {@code PayloadStore} stores new ones, points the definition at it and drops the old
+ * column. Jobs with the same payload text share one row.
+ *
+ * <p>A Java migration because SQL cannot LZ4-compress. Payloads are stored as the JSON
+ * text Postgres renders from the old JSONB column. The encoding is copied here, so later
+ * changes to {@code StoredPayload} do not change what this migration writes.
+ */
+public class V17__Move_payloads_to_store extends BaseJavaMigration {
+
+    // default of scheduler.payload-store.compress-min-bytes, and StoredPayload.Codec names
+    private static final int COMPRESS_MIN_BYTES = 1_024;
+    private static final String CODEC_NONE = "NONE";
+    private static final String CODEC_LZ4 = "LZ4";
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+        HexFormat hex = HexFormat.of();
+        Set<String> stored = new HashSet<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, payload::text FROM job_definition WHERE payload IS NOT NULL");
+             PreparedStatement insert = connection.prepareStatement("""
+                     INSERT INTO job_payload (hash, codec, raw_size, body) VALUES (?, ?, ?, ?)
+                     ON CONFLICT (hash) DO NOTHING
+                     """);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE job_definition SET payload_hash = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            int pending = 0;
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    // the SHA-256 of the UTF-8 bytes; LZ4 when large enough and smaller
+                    byte[] raw = rs.getString(2).getBytes(StandardCharsets.UTF_8);
+                    byte[] hash = sha256.digest(raw);
+                    if (stored.add(hex.formatHex(hash))) {
+                        byte[] compressed = raw.length >= COMPRESS_MIN_BYTES ? compressor.compress(raw) : raw;
+                        boolean lz4 = compressed.length < raw.length;
+                        insert.setBytes(1, hash);
+                        insert.setString(2, lz4 ? CODEC_LZ4 : CODEC_NONE);
+                        insert.setInt(3, raw.length);
+                        insert.setBytes(4, lz4 ? compressed : raw);
+                        insert.addBatch();
+                    }
+                    update.setBytes(1, hash);
+                    update.setObject(2, rs.getObject(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+                update.executeBatch();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE job_definition DROP COLUMN payload");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- V10__job_timeout.sql
+-- Per-job execution time limit and a TIMED_OUT outcome in the execution statistics.
+
+ALTER TABLE job_definition
+    ADD COLUMN timeout_seconds INTEGER;  -- NULL = scheduler.execution.default-timeout
+
+-- job_execution_log.status gains TIMED_OUT; the column is free-form VARCHAR(32).
+ALTER TABLE job_stats_minute ADD COLUMN timed_out_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE job_stats_hour ADD COLUMN timed_out_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,25 @@
+-- V11__retries_and_dead_letters.sql
+-- Per-job retry policy, the attempt number of each logged run, and a dead-letter table
+-- for runs that failed on every attempt.
+
+ALTER TABLE job_definition
+    ADD COLUMN retry_max_attempts INTEGER,     -- NULL = scheduler.retry.default-max-attempts
+    ADD COLUMN retry_backoff_seconds INTEGER;  -- NULL = scheduler.retry.initial-backoff
+
+ALTER TABLE job_execution_log
+    ADD COLUMN attempt INTEGER NOT NULL DEFAULT 1;
+
+CREATE TABLE job_dead_letter (
+    id                   UUID PRIMARY KEY,
+    job_id               UUID NOT NULL,
+    job_type             VARCHAR(255) NOT NULL,
+    payload              JSONB,                        -- input of the failed run, used by replay
+    scheduled_fire_time  TIMESTAMP WITH TIME ZONE NOT NULL,  -- of the first attempt
+    attempts             INTEGER NOT NULL,
+    last_error           TEXT,
+    failed_at            TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    replayed_at          TIMESTAMP WITH TIME ZONE      -- NULL until replayed
+);
+
+CREATE INDEX idx_job_dead_letter_failed_at ON job_dead_letter (failed_at DESC, id DESC);
+CREATE INDEX idx_job_dead_letter_job_failed_at ON job_dead_letter (job_id, failed_at DESC, id DESC);
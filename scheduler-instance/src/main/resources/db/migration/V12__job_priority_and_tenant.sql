@@ -0,0 +1,7 @@
+-- V12__job_priority_and_tenant.sql
+-- Priority class and owning tenant of each job, used for Quartz trigger priority and for
+-- weighted fair dispatch of fires across tenants.
+
+ALTER TABLE job_definition
+    ADD COLUMN priority VARCHAR(16) NOT NULL DEFAULT 'NORMAL',  -- CRITICAL, HIGH, NORMAL, LOW
+    ADD COLUMN tenant VARCHAR(64);                             -- NULL = scheduler.dispatch.default-tenant
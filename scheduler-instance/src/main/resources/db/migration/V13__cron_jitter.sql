@@ -0,0 +1,7 @@
+-- V13__cron_jitter.sql
+-- Optional spread window for CRON jobs. Each fire is delayed by an offset in
+-- [0, jitter_seconds) derived from the job id, so jobs sharing an expression stop firing
+-- in the same second. Jittered triggers are kept in QRTZ_BLOB_TRIGGERS.
+
+ALTER TABLE job_definition
+    ADD COLUMN jitter_seconds INTEGER;  -- NULL = fire exactly on the cron slot
@@ -0,0 +1,50 @@
+-- V14__workflows.sql
+-- Workflows: DAGs of jobs where a step runs as soon as all of its upstream steps have
+-- succeeded. A workflow has one root job with a schedule of its own; every other step is
+-- a job with schedule_type WORKFLOW. Each fire of the root starts a run, and the
+-- run's fan-in barriers are the pending_upstreams counters of its steps.
+
+CREATE TABLE workflow (
+    id           UUID PRIMARY KEY,
+    name         VARCHAR(255) NOT NULL,
+    root_job_id  UUID NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_workflow_created_at_id ON workflow (created_at DESC, id DESC);
+
+ALTER TABLE job_definition
+    ADD COLUMN workflow_id UUID;  -- NULL = standalone job
+
+CREATE TABLE workflow_step (
+    workflow_id       UUID NOT NULL REFERENCES workflow (id) ON DELETE CASCADE,
+    job_id            UUID NOT NULL,
+    upstream_job_ids  UUID[] NOT NULL DEFAULT '{}',  -- empty for the root only
+    PRIMARY KEY (workflow_id, job_id)
+);
+
+-- A job is a step of at most one workflow.
+CREATE UNIQUE INDEX idx_workflow_step_job_id ON workflow_step (job_id);
+
+CREATE TABLE workflow_run (
+    id             UUID PRIMARY KEY,
+    workflow_id    UUID NOT NULL REFERENCES workflow (id) ON DELETE CASCADE,
+    status         VARCHAR(16) NOT NULL,  -- RUNNING, SUCCEEDED, FAILED
+    pending_steps  INTEGER NOT NULL,      -- steps not yet succeeded; the run succeeds at 0
+    started_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    finished_at    TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_workflow_run_workflow_started ON workflow_run (workflow_id, started_at DESC, id DESC);
+-- Retention deletes finished runs by age.
+CREATE INDEX idx_workflow_run_finished_at ON workflow_run (finished_at);
+
+CREATE TABLE workflow_run_step (
+    run_id             UUID NOT NULL REFERENCES workflow_run (id) ON DELETE CASCADE,
+    job_id             UUID NOT NULL,
+    status             VARCHAR(16) NOT NULL,  -- WAITING, RUNNING, SUCCEEDED, FAILED, SKIPPED
+    pending_upstreams  INTEGER NOT NULL,      -- upstream steps not yet succeeded; released at 0
+    started_at         TIMESTAMP WITH TIME ZONE,
+    finished_at        TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (run_id, job_id)
+);
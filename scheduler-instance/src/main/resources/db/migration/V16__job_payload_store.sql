@@ -0,0 +1,23 @@
+-- V16__job_payload_store.sql
+-- Job payloads move out of job_definition into a content-addressed store: each distinct
+-- payload is stored once, keyed by the SHA-256 of its UTF-8 bytes, and LZ4-compressed
+-- when that makes it smaller. Definitions keep only the hash, so the list queries and
+-- the reconciler no longer read payloads. V17 moves the existing payloads over and
+-- drops job_definition.payload.
+
+CREATE TABLE job_payload (
+    hash          BYTEA PRIMARY KEY,
+    codec         VARCHAR(8) NOT NULL,   -- NONE, LZ4
+    raw_size      INTEGER NOT NULL,      -- UTF-8 bytes before compression
+    body          BYTEA NOT NULL,
+    last_used_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()  -- last stored; orphans are purged by age
+);
+
+-- Bodies are LZ4-compressed already when that pays off.
+ALTER TABLE job_payload ALTER COLUMN body SET STORAGE EXTERNAL;
+
+ALTER TABLE job_definition
+    ADD COLUMN payload_hash BYTEA REFERENCES job_payload (hash);  -- NULL = no payload
+
+-- Keeps the orphan purge and the foreign key checks of payload deletes off sequential scans.
+CREATE INDEX idx_job_definition_payload_hash ON job_definition (payload_hash);
@@ -0,0 +1,5 @@
+-- V18__job_max_concurrent.sql
+-- Per-job cap on concurrent fires on one node.
+
+ALTER TABLE job_definition
+    ADD COLUMN max_concurrent INTEGER;  -- NULL = scheduler.execution.max-concurrent-per-job
@@ -0,0 +1,16 @@
+-- V19__wheel_pending_retries.sql
+-- Retries and workflow step launches armed by the timing-wheel engine. A row is written
+-- when the timer is armed and deleted by whichever node claims it when it comes due, so
+-- one pending on a node that stops is re-armed by the job's owner after the rebalance.
+CREATE TABLE wheel_pending_retry
+(
+    id              UUID PRIMARY KEY,
+    job_id          UUID NOT NULL REFERENCES job_definition (id) ON DELETE CASCADE,
+    attempt         INTEGER NOT NULL,
+    payload         TEXT,                      -- input of the failed run
+    first_fire_time TIMESTAMPTZ NOT NULL,      -- scheduled fire time of attempt 1
+    workflow_run_id UUID,                      -- set on workflow steps
+    due_at          TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_wheel_pending_retry_job ON wheel_pending_retry (job_id);
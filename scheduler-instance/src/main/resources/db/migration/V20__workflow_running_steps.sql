@@ -0,0 +1,4 @@
+-- V20__workflow_running_steps.sql
+-- Lets the workflow reaper find steps RUNNING past scheduler.workflow.step-timeout
+-- without scanning finished steps.
+CREATE INDEX idx_workflow_run_step_running ON workflow_run_step (started_at) WHERE status = 'RUNNING';
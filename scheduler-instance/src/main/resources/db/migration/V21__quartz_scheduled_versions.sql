@@ -0,0 +1,20 @@
+-- V21__quartz_scheduled_versions.sql
+-- Definition version each job's Quartz trigger (or durable WORKFLOW detail) was last
+-- built or updated from, written in the same transaction as the definition. It used to
+-- live only in QRTZ_TRIGGERS.DESCRIPTION, but Quartz rewrites that column from the
+-- serialized trigger of QRTZ_BLOB_TRIGGERS rows (jittered cron jobs) on every fire.
+CREATE TABLE quartz_scheduled_version
+(
+    job_id  UUID PRIMARY KEY REFERENCES job_definition (id) ON DELETE CASCADE,
+    version INTEGER NOT NULL
+);
+
+-- carry over the tags written so far; a tag already reverted only costs one reschedule
+INSERT INTO quartz_scheduled_version (job_id, version)
+SELECT d.id, substring(s.DESCRIPTION FROM 2)::INTEGER
+FROM (SELECT TRIGGER_NAME AS name, DESCRIPTION FROM QRTZ_TRIGGERS WHERE TRIGGER_GROUP = 'TRIGGER_GROUP'
+      UNION ALL
+      SELECT JOB_NAME, DESCRIPTION FROM QRTZ_JOB_DETAILS WHERE JOB_GROUP = 'JOB_GROUP' AND IS_DURABLE) s
+JOIN job_definition d ON d.id::text = s.name
+WHERE s.DESCRIPTION ~ '^v[0-9]+$'
+ON CONFLICT (job_id) DO NOTHING;
@@ -0,0 +1,5 @@
+-- V3__job_type.sql
+-- Selects the JobHandler that runs a job. Existing jobs did no work, so they map to the no-op handler.
+
+ALTER TABLE job_definition
+    ADD COLUMN job_type VARCHAR(100) NOT NULL DEFAULT 'noop';
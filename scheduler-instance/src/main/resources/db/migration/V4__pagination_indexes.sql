@@ -0,0 +1,8 @@
+-- V4__pagination_indexes.sql
+-- Keyset pagination reads both tables newest-first with the id as tie-breaker.
+
+CREATE INDEX idx_job_definition_created_at_id ON job_definition (created_at DESC, id DESC);
+
+-- Replaces the single-column job_id index: serves jobLogs pages for one job without a sort.
+CREATE INDEX idx_job_execution_log_job_fire_time ON job_execution_log (job_id, fire_time DESC, id DESC);
+DROP INDEX idx_job_execution_log_job_id;
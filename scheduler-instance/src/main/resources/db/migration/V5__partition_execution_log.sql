@@ -0,0 +1,49 @@
+-- V5__partition_execution_log.sql
+-- Range-partitions job_execution_log by fire_time, one partition per UTC day, so retention
+-- drops whole partitions instead of deleting rows and each index stays the size of one day.
+-- The existing table is attached as a single historical partition rather than copied; it is
+-- dropped by retention like any other partition once its newest row has expired.
+
+ALTER TABLE job_definition
+    ADD COLUMN log_retention_days INTEGER;  -- NULL = scheduler.execution-log.partitions.retention
+
+-- Existing table becomes the legacy partition; partition keys must be part of the primary key.
+ALTER TABLE job_execution_log DROP CONSTRAINT job_execution_log_pkey;
+ALTER TABLE job_execution_log ADD CONSTRAINT job_execution_log_legacy_pkey PRIMARY KEY (id, fire_time);
+DROP INDEX idx_job_execution_log_fire_time;
+ALTER INDEX idx_job_execution_log_job_fire_time RENAME TO job_execution_log_legacy_job_fire_time_idx;
+ALTER TABLE job_execution_log RENAME TO job_execution_log_legacy;
+
+CREATE TABLE job_execution_log (
+    id               UUID NOT NULL,
+    job_id           UUID NOT NULL,
+    fire_time        TIMESTAMP WITH TIME ZONE NOT NULL,
+    status           VARCHAR(32) NOT NULL,      -- SUCCESS, FAILED, SKIPPED
+    error_message    TEXT,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, fire_time)
+) PARTITION BY RANGE (fire_time);
+
+CREATE INDEX idx_job_execution_log_job_fire_time ON job_execution_log (job_id, fire_time DESC, id DESC);
+
+-- Catches rows outside the pre-created range; normally empty.
+CREATE TABLE job_execution_log_default PARTITION OF job_execution_log DEFAULT;
+
+DO $$
+DECLARE
+    today TIMESTAMP WITH TIME ZONE := date_trunc('day', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+    part_start TIMESTAMP WITH TIME ZONE;
+BEGIN
+    FOR i IN 0..7 LOOP
+        part_start := today + i * INTERVAL '1 day';
+        EXECUTE format('CREATE TABLE job_execution_log_p%s PARTITION OF job_execution_log FOR VALUES FROM (%L) TO (%L)',
+                       to_char(part_start AT TIME ZONE 'UTC', 'YYYYMMDD'), part_start, part_start + INTERVAL '1 day');
+    END LOOP;
+
+    -- Only rows from today on are moved; older history stays where it is.
+    INSERT INTO job_execution_log SELECT * FROM job_execution_log_legacy WHERE fire_time >= today;
+    DELETE FROM job_execution_log_legacy WHERE fire_time >= today;
+
+    EXECUTE format('ALTER TABLE job_execution_log ATTACH PARTITION job_execution_log_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                   today);
+END $$;
@@ -0,0 +1,8 @@
+-- V6__fixed_delay_one_shot_triggers.sql
+-- FIXED_DELAY jobs now use a one-shot trigger rescheduled on completion and a
+-- non-concurrent job class. Bumping the version makes the startup reconciler replace
+-- the repeating triggers and job details stored by earlier releases.
+UPDATE job_definition
+SET version    = version + 1,
+    updated_at = now()
+WHERE schedule_type = 'FIXED_DELAY';
@@ -0,0 +1,22 @@
+-- V7__misfire_policy.sql
+-- Per-job misfire handling and the cluster-wide rate limit for recovered misfires.
+
+ALTER TABLE job_definition
+    ADD COLUMN misfire_policy         VARCHAR(20) NOT NULL DEFAULT 'FIRE_NOW',
+    ADD COLUMN misfire_catch_up_limit INT;
+
+-- Triggers stored by earlier releases use Quartz's smart policy; the version bump makes
+-- the startup reconciler rebuild them with an explicit misfire instruction.
+UPDATE job_definition
+SET version    = version + 1,
+    updated_at = now();
+
+-- One row per rate limiter. tat_millis is the GCRA "theoretical arrival time": the
+-- earliest time the next release would be allowed with an empty burst allowance.
+CREATE TABLE scheduler_rate_limit
+(
+    name       VARCHAR(100) PRIMARY KEY,
+    tat_millis BIGINT NOT NULL
+);
+
+INSERT INTO scheduler_rate_limit (name, tat_millis) VALUES ('misfire-recovery', 0);
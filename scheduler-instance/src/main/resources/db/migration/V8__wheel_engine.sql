@@ -0,0 +1,19 @@
+-- V8__wheel_engine.sql
+-- Durable state of the timing-wheel trigger engine (scheduler.engine=wheel).
+
+-- Live scheduler nodes. Each node upserts its row every heartbeat; rows older than the
+-- node TTL are ignored when the hash ring is built and eventually purged.
+CREATE TABLE scheduler_node
+(
+    node_id      VARCHAR(200) PRIMARY KEY,
+    started_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    heartbeat_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Last scheduled fire time per job, written in coalesced batches by the owning node.
+-- A node that takes over a shard resumes each job from here.
+CREATE TABLE job_fire_state
+(
+    job_id         UUID PRIMARY KEY REFERENCES job_definition (id) ON DELETE CASCADE,
+    last_fire_time TIMESTAMPTZ NOT NULL
+);
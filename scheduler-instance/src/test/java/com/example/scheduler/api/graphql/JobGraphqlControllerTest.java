@@ -0,0 +1,133 @@
+package com.example.scheduler.api.graphql;
+
+import com.example.scheduler.application.mapper.JobMapper;
+import com.example.scheduler.application.service.DeadLetterService;
+import com.example.scheduler.application.service.JobBulkService;
+import com.example.scheduler.application.service.JobHandlerRegistry;
+import com.example.scheduler.application.service.JobSchedulingService;
+import com.example.scheduler.application.service.JobStatsService;
+import com.example.scheduler.config.GraphQLConfig;
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import com.example.scheduler.domain.port.JobDefinitionRepositoryPort;
+import com.example.scheduler.domain.port.JobSchedulerPort;
+import com.example.scheduler.infrastructure.persistence.entity.JobExecutionLogEntity;
+import com.example.scheduler.infrastructure.persistence.repository.JobExecutionLogJpaRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * A page of jobs with every batched field selected costs the same repository calls,
+ * each one statement, whatever the page size.
+ */
+@GraphQlTest(JobGraphqlController.class)
+@Import({GraphQLConfig.class, JobSchedulingService.class, JobMapper.class})
+class JobGraphqlControllerTest {
+
+    private static final String PAGE_QUERY = """
+            query($first: Int) {
+              jobs(first: $first) {
+                edges { node {
+                  id name payload quartzState
+                  lastExecution { status }
+                  recentExecutions(limit: 3) { status }
+                  latest: recentExecutions { status }
+                } }
+              }
+            }
+            """;
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockBean
+    private JobDefinitionRepositoryPort jobRepo;
+    @MockBean
+    private JobSchedulerPort schedulerPort;
+    @MockBean
+    private JobExecutionLogJpaRepository executionLogRepo;
+    @MockBean
+    private JobHandlerRegistry handlerRegistry;
+    @MockBean
+    private JobBulkService jobBulkService;
+    @MockBean
+    private JobStatsService jobStatsService;
+    @MockBean
+    private DeadLetterService deadLetterService;
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50, 500})
+    void pageCostsAFixedNumberOfStatements(int pageSize) {
+        List<JobDefinition> jobs = IntStream.range(0, pageSize).mapToObj(JobGraphqlControllerTest::job).toList();
+        when(jobRepo.findPage(any(), any(), any(), anyInt(), any())).thenReturn(jobs);
+        when(jobRepo.findPayloads(anyCollection())).thenAnswer(call -> call.<Collection<String>>getArgument(0)
+                .stream().collect(Collectors.toMap(Function.identity(), ref -> "{}")));
+        when(executionLogRepo.findRecent(anyCollection(), anyInt())).thenAnswer(call -> call.<Collection<UUID>>getArgument(0)
+                .stream().map(JobGraphqlControllerTest::execution).toList());
+        when(schedulerPort.getQuartzStates(anyCollection())).thenAnswer(call -> call.<Collection<UUID>>getArgument(0)
+                .stream().collect(Collectors.toMap(Function.identity(), id -> "NORMAL")));
+
+        graphQlTester.document(PAGE_QUERY)
+                .variable("first", pageSize)
+                .execute()
+                .path("jobs.edges[*].node.quartzState").entityList(String.class).hasSize(pageSize)
+                .path("jobs.edges[*].node.payload").entityList(String.class).hasSize(pageSize)
+                .path("jobs.edges[*].node.lastExecution.status").entityList(String.class).hasSize(pageSize)
+                .path("jobs.edges[*].node.recentExecutions[*].status").entityList(String.class).hasSize(pageSize)
+                .path("jobs.edges[*].node.latest[*].status").entityList(String.class).hasSize(pageSize);
+
+        // the page, its payloads, its trigger states, and one execution lookup per distinct limit
+        verify(jobRepo).findPage(any(), any(), any(), anyInt(), any());
+        verify(jobRepo).findPayloads(anyCollection());
+        verify(schedulerPort).getQuartzStates(anyCollection());
+        verify(executionLogRepo, times(3)).findRecent(anyCollection(), anyInt());
+        verifyNoMoreInteractions(jobRepo, schedulerPort, executionLogRepo);
+    }
+
+    private static JobDefinition job(int i) {
+        return JobDefinition.builder()
+                .id(new UUID(0, i))
+                .name("job-" + i)
+                .scheduleType(ScheduleType.FIXED_RATE)
+                .payloadRef("ref-" + i)
+                .status(JobStatus.ACTIVE)
+                .createdAt(Instant.ofEpochSecond(1_000_000 - i))
+                .build();
+    }
+
+    private static JobExecutionLogEntity execution(UUID jobId) {
+        JobExecutionLogEntity execution = new JobExecutionLogEntity();
+        execution.setId(UUID.randomUUID());
+        execution.setJobId(jobId);
+        execution.setFireTime(Instant.now());
+        execution.setStatus("SUCCESS");
+        execution.setAttempt(1);
+        return execution;
+    }
+}
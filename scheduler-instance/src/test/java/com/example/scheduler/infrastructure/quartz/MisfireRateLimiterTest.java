@@ -0,0 +1,82 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.config.MisfireProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MisfireRateLimiterTest {
+
+    private static final long NOW = 1_000_000;
+
+    @Test
+    void releasesTheBurstAtOnceThenOnePerEmissionInterval() {
+        MisfireRateLimiter limiter = limiter(10, 3, new RateLimitRow());
+
+        assertThat(limiter.reserve(NOW)).isLessThanOrEqualTo(NOW);
+        assertThat(limiter.reserve(NOW)).isLessThanOrEqualTo(NOW);
+        assertThat(limiter.reserve(NOW)).isLessThanOrEqualTo(NOW);
+        assertThat(limiter.reserve(NOW)).isEqualTo(NOW + 100);
+        assertThat(limiter.reserve(NOW)).isEqualTo(NOW + 200);
+    }
+
+    @Test
+    void idleTimeDoesNotBankMoreThanTheBurst() {
+        RateLimitRow row = new RateLimitRow();
+        MisfireRateLimiter limiter = limiter(10, 2, row);
+        limiter.reserve(NOW);
+
+        long later = NOW + 60_000;
+        assertThat(limiter.reserve(later)).isLessThanOrEqualTo(later);
+        assertThat(limiter.reserve(later)).isLessThanOrEqualTo(later);
+        assertThat(limiter.reserve(later)).isEqualTo(later + 100);
+    }
+
+    @Test
+    void reservationsFromSeveralCallersShareOneSchedule() {
+        RateLimitRow row = new RateLimitRow();
+        MisfireRateLimiter nodeA = limiter(5, 1, row);
+        MisfireRateLimiter nodeB = limiter(5, 1, row);
+
+        assertThat(nodeA.reserve(NOW)).isEqualTo(NOW);
+        assertThat(nodeB.reserve(NOW)).isEqualTo(NOW + 200);
+        assertThat(nodeA.reserve(NOW + 50)).isEqualTo(NOW + 400);
+    }
+
+    @Test
+    void missingRowReleasesWithoutThrottling() {
+        RateLimitRow row = new RateLimitRow();
+        row.present = false;
+        MisfireRateLimiter limiter = limiter(1, 1, row);
+
+        assertThat(limiter.reserve(NOW)).isEqualTo(NOW);
+        assertThat(limiter.reserve(NOW)).isEqualTo(NOW);
+    }
+
+    private static MisfireRateLimiter limiter(double releaseRate, int burst, RateLimitRow row) {
+        MisfireProperties properties = new MisfireProperties();
+        properties.setReleaseRate(releaseRate);
+        properties.setBurst(burst);
+        return new MisfireRateLimiter(row, properties);
+    }
+
+    /** The scheduler_rate_limit row, updated the way the reserve statement does. */
+    static final class RateLimitRow extends JdbcTemplate {
+
+        private long tatMillis;
+        private boolean present = true;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T query(String sql, ResultSetExtractor<T> rse, Object... args) {
+            if (!present) {
+                return null;
+            }
+            // SET tat_millis = GREATEST(tat_millis, now) + emission RETURNING tat_millis
+            tatMillis = Math.max(tatMillis, (Long) args[0]) + (Long) args[1];
+            return (T) Long.valueOf(tatMillis);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.scheduler.infrastructure.quartz;
+
+import com.example.scheduler.domain.model.JobDefinition;
+import com.example.scheduler.domain.model.enums.JobStatus;
+import com.example.scheduler.domain.model.enums.ScheduleType;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Scheduler;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.listeners.JobListenerSupport;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Against the real Quartz JDBC store, on an embedded Postgres migrated by Flyway. */
+class QuartzSchedulingAdapterTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+    private static Scheduler scheduler;
+    private static QuartzJobStoreQueries queries;
+    private static QuartzSchedulingAdapter adapter;
+
+    @BeforeAll
+    static void start() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", "adapter-test");
+        properties.setProperty("org.quartz.threadPool.threadCount", "1");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+        properties.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+        properties.setProperty("org.quartz.jobStore.useProperties", "false");
+        properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+        properties.setProperty("org.quartz.jobStore.dataSource", "quartzDataSource");
+        properties.setProperty("org.quartz.dataSource.quartzDataSource.provider", "hikaricp");
+        properties.setProperty("org.quartz.dataSource.quartzDataSource.driver", "org.postgresql.Driver");
+        properties.setProperty("org.quartz.dataSource.quartzDataSource.URL", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.setProperty("org.quartz.dataSource.quartzDataSource.user", "postgres");
+        properties.setProperty("org.quartz.dataSource.quartzDataSource.maxConnections", "3");
+        scheduler = new StdSchedulerFactory(properties).getScheduler();
+        // the job bodies are not under test; firing is
+        scheduler.setJobFactory((bundle, s) -> context -> { });
+        scheduler.start();
+
+        QuartzProperties quartzProperties = new QuartzProperties();
+        quartzProperties.getProperties().put("org.quartz.jobStore.tablePrefix", "QRTZ_");
+        queries = new QuartzJobStoreQueries(jdbcTemplate, scheduler, quartzProperties);
+        adapter = new QuartzSchedulingAdapter(scheduler, queries);
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (scheduler != null) {
+            scheduler.shutdown(true);
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void jitteredJobKeepsItsVersionAcrossPauseResumeAndFire() throws Exception {
+        JobDefinition job = insert(JobDefinition.builder()
+                // fireOffsetMillis = 250, so the trigger is a JitteredCronTrigger
+                .id(new UUID(0, 250))
+                .name("jittered")
+                .jobType("noop")
+                .scheduleType(ScheduleType.CRON)
+                .cronExpression("* * * * * ?")
+                .jitterSeconds(1)
+                .status(JobStatus.ACTIVE)
+                .version(1)
+                .build());
+        adapter.scheduleJob(job);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM QRTZ_BLOB_TRIGGERS WHERE TRIGGER_NAME = ?",
+                Integer.class, job.getId().toString())).isEqualTo(1);
+
+        job.setVersion(2);
+        adapter.pauseJob(job);
+        job.setVersion(3);
+        adapter.resumeJob(job);
+        awaitFire(job.getId());
+
+        assertThat(queries.scheduledVersions(List.of(job.getId()))).isEqualTo(Map.of(job.getId(), 3));
+    }
+
+    @Test
+    void bulkPauseAndResumeRecordVersionsOfPlainAndJitteredJobs() throws Exception {
+        JobDefinition plain = insert(cron(new UUID(1, 0), 0));
+        JobDefinition jittered = insert(cron(new UUID(1, 300), 1));
+        List<JobDefinition> jobs = List.of(plain, jittered);
+        adapter.scheduleJobs(jobs);
+
+        jobs.forEach(job -> job.setVersion(2));
+        adapter.pauseJobs(jobs);
+        jobs.forEach(job -> job.setVersion(3));
+        adapter.resumeJobs(jobs);
+        awaitFire(jittered.getId());
+
+        assertThat(queries.scheduledVersions(List.of(plain.getId(), jittered.getId())))
+                .isEqualTo(Map.of(plain.getId(), 3, jittered.getId(), 3));
+    }
+
+    @Test
+    void jobWithoutTriggerHasNoScheduledVersion() {
+        JobDefinition job = insert(cron(new UUID(2, 0), 0));
+        adapter.scheduleJob(job);
+        adapter.deleteJob(job.getId().toString());
+
+        assertThat(queries.scheduledVersions(List.of(job.getId()))).isEmpty();
+    }
+
+    private static JobDefinition cron(UUID id, int jitterSeconds) {
+        return JobDefinition.builder()
+                .id(id)
+                .name("job-" + id)
+                .jobType("noop")
+                .scheduleType(ScheduleType.CRON)
+                .cronExpression("* * * * * ?")
+                .jitterSeconds(jitterSeconds)
+                .status(JobStatus.ACTIVE)
+                .version(1)
+                .build();
+    }
+
+    private static JobDefinition insert(JobDefinition job) {
+        jdbcTemplate.update("INSERT INTO job_definition (id, name, schedule_type, cron_expression, status, version)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)",
+                job.getId(), job.getName(), job.getScheduleType().name(), job.getCronExpression(),
+                job.getStatus().name(), job.getVersion());
+        return job;
+    }
+
+    /** Waits for a run of the job to end; Quartz has stored the fired trigger by then. */
+    private static void awaitFire(UUID jobId) throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        String name = "fired-" + jobId;
+        scheduler.getListenerManager().addJobListener(new JobListenerSupport() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public void jobWasExecuted(JobExecutionContext context, JobExecutionException e) {
+                if (context.getJobDetail().getKey().getName().equals(jobId.toString())) {
+                    fired.countDown();
+                }
+            }
+        });
+        try {
+            assertThat(fired.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            scheduler.getListenerManager().removeJobListener(name);
+        }
+    }
+}
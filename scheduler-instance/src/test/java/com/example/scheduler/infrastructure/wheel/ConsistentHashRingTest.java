@@ -0,0 +1,63 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final List<UUID> JOBS = IntStream.range(0, 10_000)
+            .mapToObj(i -> new UUID(i * 0x9E3779B97F4A7C15L, i))
+            .toList();
+
+    @Test
+    void emptyRingHasNoOwner() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(), VIRTUAL_NODES);
+
+        assertThat(ring.isEmpty()).isTrue();
+        assertThat(ring.ownerOf(JOBS.get(0))).isNull();
+    }
+
+    @Test
+    void assignmentDependsOnlyOnTheSetOfNodes() {
+        ConsistentHashRing a = new ConsistentHashRing(List.of("n1", "n2", "n3"), VIRTUAL_NODES);
+        ConsistentHashRing b = new ConsistentHashRing(List.of("n3", "n1", "n2", "n1"), VIRTUAL_NODES);
+
+        assertThat(b.nodes()).containsExactly("n1", "n2", "n3");
+        for (UUID job : JOBS) {
+            assertThat(b.ownerOf(job)).isEqualTo(a.ownerOf(job));
+        }
+    }
+
+    @Test
+    void removingANodeMovesOnlyItsJobs() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("n1", "n2", "n3", "n4"), VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("n1", "n2", "n3"), VIRTUAL_NODES);
+
+        for (UUID job : JOBS) {
+            String owner = before.ownerOf(job);
+            if (!owner.equals("n4")) {
+                assertThat(after.ownerOf(job)).isEqualTo(owner);
+            }
+        }
+    }
+
+    @Test
+    void spreadsJobsEvenlyOverNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("n1", "n2", "n3", "n4"), VIRTUAL_NODES);
+
+        Map<String, Integer> counts = new HashMap<>();
+        JOBS.forEach(job -> counts.merge(ring.ownerOf(job), 1, Integer::sum));
+
+        assertThat(counts).hasSize(4);
+        // a quarter each, within the spread 128 points per node give
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(1_750, 3_250));
+    }
+}
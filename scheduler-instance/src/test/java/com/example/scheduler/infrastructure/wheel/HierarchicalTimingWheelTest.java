@@ -0,0 +1,97 @@
+package com.example.scheduler.infrastructure.wheel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private final List<String> fired = new CopyOnWriteArrayList<>();
+    private HierarchicalTimingWheel wheel;
+
+    @AfterEach
+    void stop() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void firesTimersOnEveryLevelInDeadlineOrder() throws InterruptedException {
+        wheel = start();
+        long now = System.currentTimeMillis();
+        CountDownLatch done = new CountDownLatch(3);
+        // level 0 spans 80 ms, level 1 640 ms; the last timer starts on level 2
+        long[] firedAt = new long[3];
+        long[] deadlines = {now + 700, now + 30, now + 150};
+        for (int i = 0; i < deadlines.length; i++) {
+            int index = i;
+            wheel.schedule(deadlines[i], () -> {
+                firedAt[index] = System.currentTimeMillis();
+                fired.add("t" + index);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("t1", "t2", "t0");
+        for (int i = 0; i < deadlines.length; i++) {
+            // a bucket expires at the start of its tick
+            assertThat(firedAt[i]).isGreaterThanOrEqualTo(deadlines[i] - TICK_MS);
+        }
+    }
+
+    @Test
+    void cancelledTimerNeverFires() throws InterruptedException {
+        wheel = start();
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel.Timeout cancelled = wheel.schedule(now + 50, () -> fired.add("cancelled"));
+        CountDownLatch later = new CountDownLatch(1);
+        wheel.schedule(now + 200, () -> {
+            fired.add("kept");
+            later.countDown();
+        });
+
+        cancelled.cancel();
+        cancelled.cancel();
+
+        assertThat(later.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(fired).containsExactly("kept");
+    }
+
+    @Test
+    void pastDeadlineIsDispatchedRightAway() {
+        wheel = start();
+
+        wheel.schedule(System.currentTimeMillis() - 1_000, () -> fired.add("overdue"));
+
+        // handed to the dispatcher by schedule() itself, not by the driver
+        assertThat(fired).containsExactly("overdue");
+    }
+
+    @Test
+    void rejectsNonPositiveTickOrSize() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel(0, WHEEL_SIZE, "t", Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel(TICK_MS, 0, "t", Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HierarchicalTimingWheel start() {
+        // runs tasks on the driver thread, which is enough for tasks that only record
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK_MS, WHEEL_SIZE, "test-wheel", Runnable::run);
+        wheel.start();
+        return wheel;
+    }
+}